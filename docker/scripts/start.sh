@@ -15,8 +15,9 @@
 #   - X display server running and accessible at DISPLAY=:0
 #
 # Environment Variables:
-#   - JAVA_ADDITIONAL_OPTS: Additional JVM options appended after whichever options are in effect
-#   - JAVA_OPTS:            Replaces all default JVM options (defaults are used if unset or empty)
+#   - JAVA_ADDITIONAL_OPTS:      Additional JVM options appended after whichever options are in effect
+#   - JAVA_OPTS:                 Replaces all default JVM options (defaults are used if unset or empty)
+#   - RENDER_REDACTIONS_IN_JAVA: Adds the incubating Vector API module to the default JVM options when 'true'
 #
 # Behavior:
 #   - Starts the web browser
@@ -41,6 +42,12 @@ main() {
       -XX:SharedArchiveFile=/app/app.jsa -Xshare:auto \
       -Djava.util.logging.config.file=/app/logging.properties"
 
+    # The Vector API only speeds up Java-side redaction rendering, and the JVM warns about the incubating module on every start
+    case "$(printf '%s' "${RENDER_REDACTIONS_IN_JAVA:-false}" | tr '[:upper:]' '[:lower:]')" in
+        true) DEFAULT_JAVA_OPTS="${DEFAULT_JAVA_OPTS} --add-modules=jdk.incubator.vector" ;;
+        *) ;;
+    esac
+
     # SC2086: intentional word splitting to pass JVM flags as separate arguments
     # shellcheck disable=SC2086
     java ${JAVA_OPTS:-${DEFAULT_JAVA_OPTS}} ${JAVA_ADDITIONAL_OPTS:-} \
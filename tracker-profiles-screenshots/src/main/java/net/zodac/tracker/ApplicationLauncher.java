@@ -45,7 +45,6 @@ public final class ApplicationLauncher {
      *
      * @see ScreenshotOrchestrator
      */
-    // TODO: Investigate whether it's worth not logging out
     static void main() {
         validateApplicationConfiguration();
 
@@ -0,0 +1,259 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.app;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import net.zodac.tracker.framework.TrackerType;
+import net.zodac.tracker.framework.driver.DriverPool;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Periodically resizes the pooled drivers and concurrency limit of a {@link TrackerWorkQueue}, based on the pressure on the host and the measured
+ * throughput.
+ *
+ * <p>
+ * Every {@link #SAMPLE_INTERVAL}, the free memory (from {@code /proc/meminfo}), the load average per processor and the number of trackers completed
+ * per minute are sampled, and the pool is:
+ * <ul>
+ *     <li>shrunk when free memory is low, or the host is overloaded</li>
+ *     <li>shrunk when throughput dropped after the previous growth, since the extra browsers are contending rather than helping</li>
+ *     <li>held after growing, until the throughput at the new size has been measured</li>
+ *     <li>grown when trackers are waiting for a driver, and the host has spare memory and processing capacity</li>
+ *     <li>otherwise, kept at its current size</li>
+ * </ul>
+ *
+ * <p>
+ * A single tracker takes longer than a sample, so throughput is measured across every sample at the same size, and is only known once that
+ * measurement covers at least {@link #MINIMUM_THROUGHPUT_WINDOW}, and two of the average tracker durations so far. The sample right after a resize
+ * is excluded, since any new drivers are still launching.
+ *
+ * <p>
+ * Each change is bounded by {@link #MAXIMUM_STEP}, and the size is kept between {@code 1} and the configured maximum. Each decision is logged.
+ */
+final class AdaptivePoolSizer implements AutoCloseable {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final Duration SAMPLE_INTERVAL = Duration.ofSeconds(30L);
+    private static final int MAXIMUM_STEP = 2;
+    private static final double LOW_FREE_MEMORY_RATIO = 0.10D;
+    private static final double SPARE_FREE_MEMORY_RATIO = 0.25D;
+    private static final double HIGH_LOAD_PER_PROCESSOR = 1.5D;
+    private static final double SPARE_LOAD_PER_PROCESSOR = 0.75D;
+    private static final double THROUGHPUT_DROP_RATIO = 0.9D;
+    private static final Duration MINIMUM_THROUGHPUT_WINDOW = Duration.ofMinutes(2L);
+    private static final int THROUGHPUT_WINDOW_IN_TRACKER_DURATIONS = 2;
+    private static final double NANOS_PER_MINUTE = Duration.ofMinutes(1L).toNanos();
+    private static final Path MEMORY_INFO_FILE = Path.of("/proc/meminfo");
+
+    private final TrackerType trackerType;
+    private final TrackerWorkQueue workQueue;
+    private final int maximumSize;
+    private final Thread samplingThread;
+
+    private final long startNanos;
+    private long windowStartNanos;
+    private int windowStartCompletedTrackers;
+    private boolean resizedInPreviousSample;
+    private double throughputBeforeGrowth = Double.NaN;
+    private int previousStep;
+
+    private AdaptivePoolSizer(final TrackerType trackerType, final TrackerWorkQueue workQueue, final int maximumSize) {
+        this.trackerType = trackerType;
+        this.workQueue = workQueue;
+        this.maximumSize = maximumSize;
+        startNanos = System.nanoTime();
+        windowStartNanos = startNanos;
+        samplingThread = Thread.ofVirtual().name("adaptive-pool-sizer-" + trackerType.formattedName().toLowerCase(Locale.ROOT)).unstarted(this::run);
+    }
+
+    /**
+     * Calculates the initial size of the pool, before any samples have been taken. This is half the available processors, bounded by the
+     * {@code maximumSize}.
+     *
+     * @param maximumSize the maximum size of the pool
+     * @return the initial size of the pool
+     */
+    static int initialSize(final int maximumSize) {
+        return Math.clamp(Runtime.getRuntime().availableProcessors() / 2, 1, maximumSize);
+    }
+
+    /**
+     * Starts resizing the pool of the provided {@link TrackerWorkQueue} in the background, until {@link #close()} is called.
+     *
+     * @param trackerType the {@link TrackerType} of the pooled drivers
+     * @param workQueue   the {@link TrackerWorkQueue} executing the trackers
+     * @param maximumSize the maximum size of the pool
+     * @return the started {@link AdaptivePoolSizer}
+     */
+    static AdaptivePoolSizer start(final TrackerType trackerType, final TrackerWorkQueue workQueue, final int maximumSize) {
+        final AdaptivePoolSizer adaptivePoolSizer = new AdaptivePoolSizer(trackerType, workQueue, maximumSize);
+        adaptivePoolSizer.samplingThread.start();
+        return adaptivePoolSizer;
+    }
+
+    private void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Thread.sleep(SAMPLE_INTERVAL);
+                adjust();
+            }
+        } catch (final InterruptedException e) {
+            LOGGER.trace("Adaptive pool sizing stopped", e);
+        }
+    }
+
+    private void adjust() {
+        final long sampleNanos = System.nanoTime();
+        final int completedTrackers = workQueue.completedTrackers();
+        final int currentSize = workQueue.concurrencyLimit();
+        if (resizedInPreviousSample) {
+            // Drivers added by the resize were still launching, so the measurement for the new size starts from this sample
+            windowStartNanos = sampleNanos;
+            windowStartCompletedTrackers = completedTrackers;
+            resizedInPreviousSample = false;
+        }
+
+        final double throughput = measuredThroughput(sampleNanos, completedTrackers, currentSize);
+        final HostPressure hostPressure = HostPressure.sample();
+        final Decision decision = decide(hostPressure, throughput);
+        final int newSize = Math.clamp((long) currentSize + decision.step(), 1, maximumSize);
+
+        LOGGER.debug("\t- Auto-scaling {} threads {} -> {}, {} (free memory: {}, load: {}/processor, throughput: {} trackers/min)",
+            trackerType.formattedName(), currentSize, newSize, decision.reason(), formatRatio(hostPressure.freeMemoryRatio()),
+            format(hostPressure.loadPerProcessor()), format(throughput));
+        if (newSize != currentSize) {
+            DriverPool.resize(trackerType, newSize);
+            workQueue.resize(newSize);
+            throughputBeforeGrowth = newSize > currentSize ? throughput : Double.NaN;
+            previousStep = newSize - currentSize;
+            resizedInPreviousSample = true;
+        }
+    }
+
+    // The throughput at the current size, or NaN if it has not yet been measured for long enough
+    private double measuredThroughput(final long sampleNanos, final int completedTrackers, final int currentSize) {
+        final long windowNanos = sampleNanos - windowStartNanos;
+        if (windowNanos < requiredWindowNanos(sampleNanos, completedTrackers, currentSize)) {
+            return Double.NaN;
+        }
+        return (completedTrackers - windowStartCompletedTrackers) * NANOS_PER_MINUTE / windowNanos;
+    }
+
+    // Long enough for each running tracker to complete, using the average tracker duration so far (the elapsed time per completed tracker, for
+    // each concurrent tracker)
+    private long requiredWindowNanos(final long sampleNanos, final int completedTrackers, final int currentSize) {
+        final long minimumWindowNanos = MINIMUM_THROUGHPUT_WINDOW.toNanos();
+        if (completedTrackers == 0) {
+            return Math.max(minimumWindowNanos, sampleNanos - startNanos);
+        }
+
+        final long averageTrackerNanos = (sampleNanos - startNanos) / completedTrackers * currentSize;
+        return Math.max(minimumWindowNanos, averageTrackerNanos * THROUGHPUT_WINDOW_IN_TRACKER_DURATIONS);
+    }
+
+    private Decision decide(final HostPressure hostPressure, final double throughput) {
+        if (hostPressure.freeMemoryRatio() < LOW_FREE_MEMORY_RATIO) {
+            return new Decision(-MAXIMUM_STEP, "shrinking due to low free memory");
+        }
+
+        if (hostPressure.loadPerProcessor() > HIGH_LOAD_PER_PROCESSOR) {
+            return new Decision(-1, "shrinking due to high load");
+        }
+
+        if (previousStep > 0) {
+            if (Double.isNaN(throughput)) {
+                return new Decision(0, "holding while measuring throughput after growing");
+            }
+
+            if (throughput < throughputBeforeGrowth * THROUGHPUT_DROP_RATIO) {
+                return new Decision(-1, "shrinking as throughput dropped after growing");
+            }
+        }
+
+        if (workQueue.queuedTrackers() > 0 && hostPressure.hasSpareCapacity()) {
+            return new Decision(MAXIMUM_STEP, "growing as trackers are waiting and the host has spare capacity");
+        }
+
+        return new Decision(0, "holding");
+    }
+
+    private static String formatRatio(final double ratio) {
+        return Double.isNaN(ratio) ? "unknown" : "%.0f%%".formatted(ratio * 100);
+    }
+
+    private static String format(final double value) {
+        return Double.isNaN(value) ? "unknown" : "%.2f".formatted(value);
+    }
+
+    @Override
+    public void close() {
+        samplingThread.interrupt();
+    }
+
+    private record Decision(int step, String reason) {
+
+    }
+
+    /**
+     * The pressure on the host, with {@link Double#NaN} for any value which could not be measured.
+     *
+     * @param freeMemoryRatio  the ratio of available memory to total memory
+     * @param loadPerProcessor the 1-minute load average, divided by the number of available processors
+     */
+    private record HostPressure(double freeMemoryRatio, double loadPerProcessor) {
+
+        static HostPressure sample() {
+            final double loadAverage = ManagementFactory.getOperatingSystemMXBean().getSystemLoadAverage();
+            final double loadPerProcessor = loadAverage < 0 ? Double.NaN : loadAverage / Runtime.getRuntime().availableProcessors();
+            return new HostPressure(readFreeMemoryRatio(), loadPerProcessor);
+        }
+
+        // Unknown values are not treated as a reason to hold back growth, otherwise hosts without them could never grow
+        boolean hasSpareCapacity() {
+            return !(freeMemoryRatio < SPARE_FREE_MEMORY_RATIO) && !(loadPerProcessor > SPARE_LOAD_PER_PROCESSOR);
+        }
+
+        private static double readFreeMemoryRatio() {
+            try {
+                final List<String> lines = Files.readAllLines(MEMORY_INFO_FILE, StandardCharsets.UTF_8);
+                final long totalKilobytes = memoryInfoValue(lines, "MemTotal:");
+                final long availableKilobytes = memoryInfoValue(lines, "MemAvailable:");
+                return totalKilobytes <= 0L || availableKilobytes < 0L ? Double.NaN : (double) availableKilobytes / totalKilobytes;
+            } catch (final IOException | RuntimeException e) {
+                LOGGER.trace("Unable to read '{}'", MEMORY_INFO_FILE, e);
+                return Double.NaN;
+            }
+        }
+
+        private static long memoryInfoValue(final List<String> lines, final String key) {
+            return lines.stream()
+                .filter(line -> line.startsWith(key))
+                .findFirst()
+                .map(line -> Long.parseLong(line.substring(key.length()).replace("kB", "").trim()))
+                .orElse(-1L);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.app;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import net.zodac.tracker.framework.TrackerCredential;
+import net.zodac.tracker.framework.TrackerHandlerFactory;
+import net.zodac.tracker.framework.TrackerType;
+import net.zodac.tracker.framework.config.ApplicationConfiguration;
+import net.zodac.tracker.framework.config.Configuration;
+import net.zodac.tracker.framework.session.TrackerSessionStore;
+import net.zodac.tracker.handler.definition.HasCloudflareCheck;
+import net.zodac.tracker.util.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Moves {@link TrackerType#MANUAL} trackers that only need manual input to pass a Cloudflare verification check into the
+ * {@link TrackerType#HEADLESS} trackers, if they have a saved session from a previous execution.
+ *
+ * <p>
+ * The saved session (see {@link TrackerSessionStore}) holds the Cloudflare clearance cookies and the user-agent of the UI browser that passed the
+ * check, so the tracker can usually be opened in a headless browser without being challenged again. This is optimistic, so any tracker that fails in
+ * the headless browser (such as when the clearance has expired and the check is shown again) is queued to be executed in the UI browser instead,
+ * once all other trackers have been executed.
+ */
+final class CloudflareTrackerPromotion {
+
+    private static final ApplicationConfiguration CONFIG = Configuration.get();
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    private final Set<String> promotedTrackerNames = new HashSet<>();
+    private final Queue<TrackerTask> fallbackTasks = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Moves any eligible {@link TrackerType#MANUAL} trackers into the {@link TrackerType#HEADLESS} trackers. Trackers are only moved if
+     * {@link ApplicationConfiguration#reuseCloudflareClearance()} and {@link ApplicationConfiguration#persistTrackerSessions()} are enabled, and
+     * {@link TrackerType#HEADLESS} trackers are being executed in a headless browser.
+     *
+     * @param trackersByType the trackers to execute, by {@link TrackerType}
+     * @return the trackers to execute, with any eligible trackers moved to {@link TrackerType#HEADLESS}
+     */
+    Map<TrackerType, Set<TrackerCredential>> promote(final Map<TrackerType, Set<TrackerCredential>> trackersByType) {
+        final Set<TrackerCredential> manualTrackers = trackersByType.get(TrackerType.MANUAL);
+        if (!canPromote() || manualTrackers == null) {
+            return trackersByType;
+        }
+
+        final List<TrackerCredential> trackersToPromote = manualTrackers.stream()
+            .filter(CloudflareTrackerPromotion::isEligible)
+            .toList();
+        if (trackersToPromote.isEmpty()) {
+            LOGGER.trace("No Cloudflare trackers with a saved session to execute headlessly");
+            return trackersByType;
+        }
+
+        final Set<TrackerCredential> remainingManualTrackers = new TreeSet<>(manualTrackers);
+        final Set<TrackerCredential> headlessTrackers = new TreeSet<>(trackersByType.getOrDefault(TrackerType.HEADLESS, Set.of()));
+        for (final TrackerCredential tracker : trackersToPromote) {
+            remainingManualTrackers.remove(tracker);
+            headlessTrackers.add(tracker);
+            promotedTrackerNames.add(key(tracker));
+        }
+
+        final Map<TrackerType, Set<TrackerCredential>> promotedTrackersByType = new EnumMap<>(trackersByType);
+        promotedTrackersByType.put(TrackerType.HEADLESS, headlessTrackers);
+        if (remainingManualTrackers.isEmpty()) {
+            promotedTrackersByType.remove(TrackerType.MANUAL);
+        } else {
+            promotedTrackersByType.put(TrackerType.MANUAL, remainingManualTrackers);
+        }
+
+        final int numberOfPromotedTrackers = trackersToPromote.size();
+        LOGGER.info("Trying {} Cloudflare tracker{} with a saved session in the headless browsers first", numberOfPromotedTrackers,
+            StringUtils.pluralise(numberOfPromotedTrackers));
+        LOGGER.debug("\t- {}", trackersToPromote.stream().map(TrackerCredential::name).toList());
+        return promotedTrackersByType;
+    }
+
+    private static boolean canPromote() {
+        if (!CONFIG.reuseCloudflareClearance() || !CONFIG.persistTrackerSessions()) {
+            LOGGER.trace("Cloudflare clearance reuse disabled");
+            return false;
+        }
+
+        if (CONFIG.forceUiBrowser() || !CONFIG.trackerExecutionOrder().contains(TrackerType.HEADLESS)) {
+            LOGGER.trace("Headless trackers not being executed in a headless browser, not reusing Cloudflare clearance");
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean isEligible(final TrackerCredential tracker) {
+        final boolean hasCloudflareCheck = TrackerHandlerFactory.findMatchingHandlerClass(tracker.name())
+            .filter(HasCloudflareCheck.class::isAssignableFrom)
+            .isPresent();
+        return hasCloudflareCheck && TrackerSessionStore.hasSession(tracker.name());
+    }
+
+    /**
+     * Checks whether the tracker was moved to {@link TrackerType#HEADLESS} by {@link #promote(Map)}.
+     *
+     * @param tracker the tracker
+     * @return {@code true} if the tracker was moved to {@link TrackerType#HEADLESS}
+     */
+    boolean isPromoted(final TrackerCredential tracker) {
+        return promotedTrackerNames.contains(key(tracker));
+    }
+
+    /**
+     * Queues a promoted tracker to be executed in the UI browser, after it failed in the headless browser.
+     *
+     * @param task the {@link TrackerTask} for the UI browser
+     */
+    void fallBack(final TrackerTask task) {
+        LOGGER.info("\t- Unable to reuse Cloudflare clearance, tracker will be executed in the UI browser");
+        fallbackTasks.add(task);
+    }
+
+    /**
+     * Removes and returns all {@link TrackerTask}s queued by {@link #fallBack(TrackerTask)}.
+     *
+     * @return the queued {@link TrackerTask}s
+     */
+    List<TrackerTask> drainFallbackTasks() {
+        final List<TrackerTask> tasks = new ArrayList<>();
+        TrackerTask task = fallbackTasks.poll();
+        while (task != null) {
+            tasks.add(task);
+            task = fallbackTasks.poll();
+        }
+        return tasks;
+    }
+
+    private static String key(final TrackerCredential tracker) {
+        return tracker.name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.app;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limits the number of trackers executing concurrently, with a limit which can be changed while trackers are executing.
+ *
+ * <p>
+ * When the limit is lowered while more trackers are executing than the new limit allows, the difference is owed, and is repaid by the next trackers
+ * to complete rather than being returned to the pool of permits.
+ */
+final class ConcurrencyLimit {
+
+    private final Lock lock = new ReentrantLock();
+    private final Semaphore permits;
+    private int limit;
+    private int owedPermits;
+
+    /**
+     * Constructor for {@link ConcurrencyLimit}.
+     *
+     * @param limit the initial number of trackers which can execute concurrently
+     */
+    ConcurrencyLimit(final int limit) {
+        permits = new Semaphore(limit, true);
+        this.limit = limit;
+    }
+
+    /**
+     * Blocks until another tracker is allowed to execute.
+     *
+     * @throws InterruptedException thrown if interrupted while waiting
+     */
+    void acquire() throws InterruptedException {
+        permits.acquire();
+    }
+
+    /**
+     * Signals that a tracker has finished executing.
+     */
+    void release() {
+        lock.lock();
+        try {
+            if (owedPermits > 0) {
+                owedPermits--;
+            } else {
+                permits.release();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Changes the number of trackers which can execute concurrently.
+     *
+     * @param newLimit the new limit
+     */
+    void resize(final int newLimit) {
+        lock.lock();
+        try {
+            final int difference = newLimit - limit;
+            limit = newLimit;
+            if (difference > 0) {
+                final int repaidPermits = Math.min(difference, owedPermits);
+                owedPermits -= repaidPermits;
+                permits.release(difference - repaidPermits);
+                return;
+            }
+
+            int permitsToRemove = -difference;
+            while (permitsToRemove > 0 && permits.tryAcquire()) {
+                permitsToRemove--;
+            }
+            owedPermits += permitsToRemove;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the current limit.
+     *
+     * @return the number of trackers which can execute concurrently
+     */
+    int limit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
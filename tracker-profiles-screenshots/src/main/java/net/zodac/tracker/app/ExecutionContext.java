@@ -0,0 +1,34 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.app;
+
+import net.zodac.tracker.framework.progress.ProgressBarManager;
+
+/**
+ * Holds the components shared by every tracker during a single execution of the application.
+ *
+ * @param progressBarManager         the {@link ProgressBarManager} to tick at each workflow step
+ * @param resultCollector            the {@link ResultCollector} for the result of each tracker
+ * @param durationHistory            the {@link TrackerDurationHistory} for the execution time of each tracker
+ * @param maxTrackerNameLength       the maximum length needed for the log entry to log the tracker name
+ * @param cloudflareTrackerPromotion the {@link CloudflareTrackerPromotion} of trackers first being tried in the headless browsers
+ */
+record ExecutionContext(ProgressBarManager progressBarManager, ResultCollector resultCollector, TrackerDurationHistory durationHistory,
+                        int maxTrackerNameLength, CloudflareTrackerPromotion cloudflareTrackerPromotion) {
+
+}
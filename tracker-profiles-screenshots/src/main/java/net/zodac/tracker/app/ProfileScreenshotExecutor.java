@@ -23,22 +23,28 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import net.zodac.tracker.framework.TrackerCredential;
 import net.zodac.tracker.framework.TrackerHandlerFactory;
+import net.zodac.tracker.framework.TrackerType;
 import net.zodac.tracker.framework.config.ApplicationConfiguration;
 import net.zodac.tracker.framework.config.Configuration;
 import net.zodac.tracker.framework.config.ExistingScreenshotAction;
+import net.zodac.tracker.framework.context.TrackerContext;
 import net.zodac.tracker.framework.exception.CancelledInputException;
+import net.zodac.tracker.framework.exception.ManualInputRequiredException;
 import net.zodac.tracker.framework.exception.NoUserInputException;
 import net.zodac.tracker.framework.exception.TrackerUnavailableException;
 import net.zodac.tracker.framework.exception.TranslationException;
 import net.zodac.tracker.framework.progress.ProgressBarManager;
 import net.zodac.tracker.framework.progress.TrackerStep;
+import net.zodac.tracker.framework.session.TrackerSessionStore;
 import net.zodac.tracker.handler.AbstractTrackerHandler;
 import net.zodac.tracker.handler.definition.DoesNotScrollDuringScreenshot;
 import net.zodac.tracker.handler.definition.HasDismissibleElement;
@@ -46,15 +52,16 @@ import net.zodac.tracker.handler.definition.HasFixedHeader;
 import net.zodac.tracker.handler.definition.HasFixedSidebar;
 import net.zodac.tracker.handler.definition.HasJumpButtons;
 import net.zodac.tracker.handler.definition.NeedsExplicitTranslation;
+import net.zodac.tracker.redaction.RedactionRegion;
 import net.zodac.tracker.redaction.RedactionType;
 import net.zodac.tracker.redaction.Redactor;
 import net.zodac.tracker.redaction.RedactorDelegator;
+import net.zodac.tracker.util.CapturedPage;
 import net.zodac.tracker.util.ScreenshotTaker;
 import net.zodac.tracker.util.StringUtils;
 import net.zodac.tracker.util.TimingUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.apache.logging.log4j.ThreadContext;
 import org.jspecify.annotations.Nullable;
 import org.openqa.selenium.NoSuchSessionException;
 import org.openqa.selenium.NoSuchWindowException;
@@ -79,82 +86,141 @@ final class ProfileScreenshotExecutor {
     }
 
     /**
-     * Attempts to take a screenshot for the given {@link TrackerCredential}.
+     * Performs a single attempt to take a screenshot for the given {@link TrackerCredential}.
+     *
+     * <p>
+     * If the attempt fails after the profile page has been opened and the browser session is still logged in, the failed {@link TrackerStep} is
+     * resumed on the same driver as the next attempt, without opening the tracker or logging in again. Otherwise, the
+     * {@link ScreenshotAttemptResult} is returned so the caller can decide whether to requeue the tracker for a full restart.
      *
      * @param trackerCredential  details of the tracker to screenshot
+     * @param trackerType        the {@link TrackerType} to execute the tracker as
+     * @param checkpoint         the {@link TrackerCheckpoint} holding the attempt number and progress of the tracker
      * @param progressBarManager the progress bar manager to tick at each workflow step
      * @param maxLogLength       the maximum length needed for the log entry to log the tracker name
-     * @return {@code true} if screenshot was successful
-     * @throws RuntimeException thrown if all attempts are exhausted due to a retryable failure with a known cause
+     * @return the {@link ScreenshotAttemptResult} of the attempt
      */
-    static boolean takeScreenshot(final TrackerCredential trackerCredential, final ProgressBarManager progressBarManager, final int maxLogLength) {
-        setUpPerTrackerLogging(trackerCredential, maxLogLength);
+    static ScreenshotAttemptResult takeScreenshot(final TrackerCredential trackerCredential, final TrackerType trackerType,
+                                                  final TrackerCheckpoint checkpoint, final ProgressBarManager progressBarManager,
+                                                  final int maxLogLength) {
+        return TrackerContext.callForTracker(trackerCredential.name(), logPrefix(trackerCredential, maxLogLength),
+            () -> TrackerContext.callForAttempt(checkpoint.attempt(),
+                () -> takeScreenshotAttempt(trackerCredential, trackerType, checkpoint, progressBarManager)));
+    }
 
-        try {
-            final long startNanos = System.nanoTime();
-            final boolean result = takeScreenshotWithAttempts(trackerCredential, progressBarManager);
-            printTrackerExecutionTime(trackerCredential.name(), startNanos);
-            return result;
-        } finally {
-            ThreadContext.clearAll();
+    /**
+     * Logs the total execution time for the given {@link TrackerCredential}, once no more attempts will be made.
+     *
+     * @param trackerCredential details of the tracker that was screenshot
+     * @param elapsedNanos      the total execution time across all attempts, in nanoseconds
+     * @param maxLogLength      the maximum length needed for the log entry to log the tracker name
+     */
+    static void printTrackerExecutionTime(final TrackerCredential trackerCredential, final long elapsedNanos, final int maxLogLength) {
+        TrackerContext.callForTracker(trackerCredential.name(), logPrefix(trackerCredential, maxLogLength), () -> {
+            LOGGER.debug("\t- Execution time for {}: {}", trackerCredential.name(), TimingUtils.toNaturalTime(elapsedNanos));
+            return null;
+        });
+    }
+
+    private static String logPrefix(final TrackerCredential trackerCredential, final int maxLogLength) {
+        if (!CONFIG.logTrackerName()) {
+            return "";
         }
+
+        return ("[%-" + maxLogLength + "s] ").formatted(trackerCredential.name());
     }
 
-    private static void setUpPerTrackerLogging(final TrackerCredential trackerCredential, final int maxLogLength) {
-        if (CONFIG.logTrackerName()) {
-            LOGGER.trace("Enabling tracker name logging");
-            ThreadContext.put("tracker", ("[%-" + maxLogLength + "s] ").formatted(trackerCredential.name()));
+    private static ScreenshotAttemptResult takeScreenshotAttempt(final TrackerCredential trackerCredential, final TrackerType trackerType,
+                                                                 final TrackerCheckpoint checkpoint, final ProgressBarManager progressBarManager) {
+        final int attempt = checkpoint.attempt();
+        if (attempt == FIRST_ATTEMPT) {
+            if (!CONFIG.logTrackerName()) {
+                LOGGER.info("[{}]", trackerCredential.name());
+            }
         } else {
-            LOGGER.info("[{}]", trackerCredential.name());
+            LOGGER.warn("");
+            LOGGER.info("[{}] (attempt {}/{})", trackerCredential.name(), attempt, MAXIMUM_SCREENSHOT_ATTEMPTS);
         }
-    }
 
-    private static boolean takeScreenshotWithAttempts(final TrackerCredential trackerCredential, final ProgressBarManager progressBarManager) {
-        for (int attempt = 1; attempt <= MAXIMUM_SCREENSHOT_ATTEMPTS; attempt++) {
-            if (attempt != FIRST_ATTEMPT) {
-                LOGGER.warn("");
-                LOGGER.info("[{}] (attempt {}/{})", trackerCredential.name(), attempt, MAXIMUM_SCREENSHOT_ATTEMPTS);
+        try {
+            final ScreenshotAttemptResult screenshotResult = screenshotTracker(trackerCredential, trackerType, checkpoint, progressBarManager);
+            if (screenshotResult == ScreenshotAttemptResult.SUCCESS) {
+                LOGGER.trace("Successfully screenshot '{}' on attempt #{}", trackerCredential.name(), checkpoint.attempt());
+                clearErrorScreenshots(trackerCredential.name(), ERRORS_DIRECTORY);
             }
+            return screenshotResult;
+        } catch (final Exception e) {
+            LOGGER.trace("Error screenshotting '{}' on attempt #{}", trackerCredential.name(), checkpoint.attempt(), e);
+            final String cleanedErrorMessage = StringUtils.firstLine(e.getMessage());
+            if (cleanedErrorMessage.isEmpty()) {
+                LOGGER.warn("\t- Unexpected {} escaped error handling for tracker '{}'", e.getClass().getSimpleName(), trackerCredential.name());
+            } else {
+                LOGGER.warn("\t- Unexpected {} escaped error handling for tracker '{}': {}", e.getClass().getSimpleName(),
+                    trackerCredential.name(), cleanedErrorMessage);
+            }
+            return ScreenshotAttemptResult.RETRYABLE_FAILURE;
+        }
+    }
 
-            try {
-                final boolean screenshotResult = isSuccessfullyScreenshot(trackerCredential, progressBarManager);
+    private static ScreenshotAttemptResult screenshotTracker(final TrackerCredential trackerCredential, final TrackerType trackerType,
+                                                             final TrackerCheckpoint checkpoint, final ProgressBarManager progressBarManager) {
+        final AbstractTrackerHandler trackerHandler;
+        try {
+            trackerHandler = TrackerHandlerFactory.getHandler(trackerCredential.name(), trackerType);
+        } catch (final NoSuchElementException e) {
+            LOGGER.debug("\t- No implementation for tracker '{}'", trackerCredential.name(), e);
+            LOGGER.warn("\t- No implementation for tracker '{}'", trackerCredential.name());
+            return ScreenshotAttemptResult.NON_RETRYABLE_FAILURE;
+        }
 
-                if (screenshotResult) {
-                    LOGGER.trace("Successfully screenshot '{}' on attempt #{}", trackerCredential.name(), attempt);
-                    clearErrorScreenshots(trackerCredential.name(), ERRORS_DIRECTORY);
-                    return true;
-                }
-            } catch (final Exception e) {
-                LOGGER.trace("Error screenshotting '{}' on attempt #{}", trackerCredential.name(), attempt, e);
-                final String cleanedErrorMessage = StringUtils.firstLine(e.getMessage());
-                if (cleanedErrorMessage.isEmpty()) {
-                    LOGGER.warn("\t- Unexpected {} escaped error handling for tracker '{}'", e.getClass().getSimpleName(), trackerCredential.name());
-                } else {
-                    LOGGER.warn("\t- Unexpected {} escaped error handling for tracker '{}': {}", e.getClass().getSimpleName(),
-                        trackerCredential.name(), cleanedErrorMessage);
-                }
+        try (trackerHandler) {
+            checkpoint.startSession();
+            ScreenshotAttemptResult result = executeSteps(trackerHandler, trackerCredential, checkpoint, progressBarManager);
+            while (result == ScreenshotAttemptResult.RETRYABLE_FAILURE && canResumeSession(trackerHandler, checkpoint)) {
+                checkpoint.startNextAttempt();
+                result = TrackerContext.callForAttempt(checkpoint.attempt(), () -> {
+                    LOGGER.warn("");
+                    LOGGER.info("[{}] (attempt {}/{}, resuming from {})", trackerCredential.name(), checkpoint.attempt(), MAXIMUM_SCREENSHOT_ATTEMPTS,
+                        checkpoint.nextStep().formattedName());
+                    return executeSteps(trackerHandler, trackerCredential, checkpoint, progressBarManager);
+                });
             }
+            return result;
         }
-
-        LOGGER.debug("\t- All {} attempts exhausted for tracker '{}'", MAXIMUM_SCREENSHOT_ATTEMPTS, trackerCredential.name());
-        return false;
     }
 
-    private static boolean isSuccessfullyScreenshot(final TrackerCredential trackerCredential, final ProgressBarManager progressBarManager) {
-        AbstractTrackerHandler trackerHandler = null;
-        try { // NOPMD: UseTryWithResources - need access to the trackerHandler to take a screenshot on error
-            trackerHandler = TrackerHandlerFactory.getHandler(trackerCredential.name());
-            screenshotProfile(trackerHandler, trackerCredential, progressBarManager);
+    // The session can only be resumed once the profile page has been reached, and only if reloading the profile page shows we are still logged in
+    private static boolean canResumeSession(final AbstractTrackerHandler trackerHandler, final TrackerCheckpoint checkpoint) {
+        if (checkpoint.attempt() >= MAXIMUM_SCREENSHOT_ATTEMPTS || !checkpoint.isCompleted(TrackerStep.OPEN_PROFILE_PAGE)) {
+            return false;
+        }
+
+        try {
+            LOGGER.debug("\t- Checking if session is still valid to resume from {}", checkpoint.nextStep().formattedName());
+            trackerHandler.reloadProfilePage();
             return true;
+        } catch (final Exception e) {
+            LOGGER.debug("\t- Session is no longer valid, tracker will be restarted", e);
+            return false;
+        }
+    }
+
+    private static ScreenshotAttemptResult executeSteps(final AbstractTrackerHandler trackerHandler, final TrackerCredential trackerCredential,
+                                                        final TrackerCheckpoint checkpoint, final ProgressBarManager progressBarManager) {
+        try {
+            screenshotProfile(trackerHandler, trackerCredential, checkpoint, progressBarManager);
+            return ScreenshotAttemptResult.SUCCESS;
         } catch (final CancelledInputException e) {
             LOGGER.debug("\t- User cancelled manual input for tracker '{}'", trackerCredential.name(), e);
             LOGGER.warn("\t- User cancelled manual input for tracker '{}'", trackerCredential.name());
+            return ScreenshotAttemptResult.NON_RETRYABLE_FAILURE;
+        } catch (final ManualInputRequiredException e) {
+            LOGGER.debug("\t- Tracker '{}' requires manual input", trackerCredential.name(), e);
+            LOGGER.info("\t- Tracker '{}' requires manual input, unable to continue in a headless browser", trackerCredential.name());
+            return ScreenshotAttemptResult.REQUIRES_MANUAL_INPUT;
         } catch (final FileNotFoundException e) {
             LOGGER.debug("\t- Unable to find expected file for tracker '{}'", trackerCredential.name());
             LOGGER.warn("\t- Unable to find expected file for tracker '{}': {}", trackerCredential.name(), e.getMessage());
-        } catch (final NoSuchElementException e) {
-            LOGGER.debug("\t- No implementation for tracker '{}'", trackerCredential.name(), e);
-            LOGGER.warn("\t- No implementation for tracker '{}'", trackerCredential.name());
         } catch (final NoUserInputException e) {
             LOGGER.debug("\t- User provided no manual input for tracker '{}'", trackerCredential.name(), e);
             LOGGER.warn("\t- User provided no manual input for tracker '{}'", trackerCredential.name());
@@ -188,13 +254,9 @@ final class ProfileScreenshotExecutor {
                 LOGGER.warn("\t- Unexpected {} taking screenshot of '{}': {}", e.getClass().getSimpleName(), trackerCredential.name(),
                     cleanedErrorMessage);
             }
-        } finally {
-            if (trackerHandler != null) {
-                trackerHandler.close();
-            }
         }
 
-        return false;
+        return ScreenshotAttemptResult.RETRYABLE_FAILURE;
     }
 
     private static void clearErrorScreenshots(final String trackerName, final Path directory) {
@@ -265,73 +327,119 @@ final class ProfileScreenshotExecutor {
     }
 
     private static void screenshotProfile(final AbstractTrackerHandler trackerHandler, final TrackerCredential trackerCredential,
-                                          final ProgressBarManager progressBarManager) throws IOException {
+                                          final TrackerCheckpoint checkpoint, final ProgressBarManager progressBarManager) throws IOException {
         LOGGER.trace("\t- Starting to take screenshot of profile");
-        int completedSteps = 0;
-        try {
-            final List<RedactionType> redactionsToExecute = redactionTypesToExecute(trackerCredential.name(), CONFIG.redactionTypes());
-            if (redactionsToExecute.isEmpty()) {
-                LOGGER.warn("\t- Screenshots already exist for all redaction types for tracker '{}', skipping", trackerCredential.name());
+        if (!checkpoint.isCompleted(TrackerStep.OPEN_PROFILE_PAGE)) {
+            final boolean redactionsRemaining = selectRedactions(trackerHandler, trackerCredential, checkpoint);
+            if (!redactionsRemaining) {
                 return;
             }
 
-            if (redactionsToExecute.size() != CONFIG.redactionTypes().size()) {
-                LOGGER.warn("\t- Some screenshots already exist for tracker '{}', only executing: {}", trackerCredential.name(), redactionsToExecute);
-            }
-
-            LOGGER.info("\t- Opening tracker");
-            trackerHandler.openTracker();
-            trackerHandler.navigateToLoginPage(trackerCredential.name());
-            progressBarManager.tick(TrackerStep.OPEN_TRACKER);
-            completedSteps++;
-
-            LOGGER.info("\t- Logging in as '{}'", trackerCredential.username());
-            trackerHandler.login(trackerCredential.username(), trackerCredential.password(), trackerCredential.name());
-
+            openTrackerAndLogin(trackerHandler, trackerCredential, checkpoint, progressBarManager);
             if (trackerHandler instanceof HasDismissibleElement trackerWithBanner) {
                 trackerWithBanner.dismiss();
                 LOGGER.info("\t- Banner has been cleared");
             }
-            progressBarManager.tick(TrackerStep.LOGIN);
-            completedSteps++;
+            checkpoint.complete(TrackerStep.LOGIN, progressBarManager);
 
             LOGGER.info("\t- Opening user profile page");
             trackerHandler.openProfilePage();
-            progressBarManager.tick(TrackerStep.OPEN_PROFILE_PAGE);
-            completedSteps++;
-
-            final boolean scrollDuringScreenshot = !(trackerHandler instanceof DoesNotScrollDuringScreenshot);
-
-            // If the tracker has no sensitive information, all redaction types produce identical screenshots, so we take a single one
-            final List<RedactionType> effectiveRedactions;
-            if (trackerHandler.hasSensitiveInformation()) {
-                effectiveRedactions = redactionsToExecute;
-            } else {
-                LOGGER.debug("\t- No sensitive information to redact, taking a single screenshot");
-                effectiveRedactions = redactionTypesToExecute(trackerCredential.name(), Set.of(RedactionType.NONE));
-                if (effectiveRedactions.isEmpty()) {
-                    LOGGER.warn("\t- Screenshot already exists for tracker '{}' with no sensitive information, skipping", trackerCredential.name());
-                }
+            if (TrackerSessionStore.isEnabled()) {
+                TrackerSessionStore.save(trackerCredential.name(), trackerHandler.driver());
             }
+            checkpoint.complete(TrackerStep.OPEN_PROFILE_PAGE, progressBarManager);
+        }
 
+        if (!checkpoint.isCompleted(TrackerStep.TAKE_SCREENSHOTS)) {
+            final boolean scrollDuringScreenshot = !(trackerHandler instanceof DoesNotScrollDuringScreenshot);
             updateProfilePage(trackerHandler);
-            for (final RedactionType redactionType : effectiveRedactions) {
+            if (shouldCaptureOnce(trackerHandler, checkpoint, scrollDuringScreenshot)) {
+                takeScreenshotsFromSingleCapture(trackerHandler, trackerCredential, checkpoint);
+            }
+            for (final RedactionType redactionType : checkpoint.pendingRedactions()) {
                 takeScreenshotForRedactionType(trackerHandler, trackerCredential, redactionType, scrollDuringScreenshot);
+                checkpoint.completeRedaction(redactionType);
             }
-            progressBarManager.tick(TrackerStep.TAKE_SCREENSHOTS);
-            completedSteps++;
+            checkpoint.complete(TrackerStep.TAKE_SCREENSHOTS, progressBarManager);
+        }
 
+        if (TrackerSessionStore.isEnabled()) {
+            LOGGER.info("\t- Skipping logout to keep session");
+        } else {
             trackerHandler.logout();
             LOGGER.info("\t- Logged out");
-            progressBarManager.tick(TrackerStep.LOGOUT);
-            completedSteps++;
-        } finally {
-            final int remaining = TrackerStep.NUMBER_OF_STEPS - completedSteps;
-            if (remaining > 0) {
-                LOGGER.trace("Advancing progress bar {} missed step{} due to failed execution", remaining, StringUtils.pluralise(remaining));
-                progressBarManager.tickMultipleSteps(remaining);
+        }
+        checkpoint.complete(TrackerStep.LOGOUT, progressBarManager);
+    }
+
+    // Restores any saved session before opening the tracker, only logging in if there is no saved session or it has expired
+    private static void openTrackerAndLogin(final AbstractTrackerHandler trackerHandler, final TrackerCredential trackerCredential,
+                                            final TrackerCheckpoint checkpoint, final ProgressBarManager progressBarManager) {
+        final String trackerName = trackerCredential.name();
+        final boolean sessionRestored = TrackerSessionStore.isEnabled() && TrackerSessionStore.restore(trackerName, trackerHandler.driver());
+
+        LOGGER.info("\t- Opening tracker");
+        trackerHandler.openTracker();
+
+        if (sessionRestored) {
+            if (trackerHandler.hasActiveSession()) {
+                LOGGER.info("\t- Restored saved session for '{}', skipping login", trackerCredential.username());
+                checkpoint.complete(TrackerStep.OPEN_TRACKER, progressBarManager);
+                return;
+            }
+
+            // A Cloudflare check in a headless browser fails the session check even if the session is valid, so the saved session is kept for the
+            // UI browser to try
+            trackerHandler.checkLoginIsPossible(trackerName);
+            LOGGER.debug("\t- Saved session has expired, logging in again");
+            TrackerSessionStore.delete(trackerName);
+            TrackerSessionStore.clearRestoredCookies(trackerHandler.driver());
+            trackerHandler.openTracker();
+        }
+
+        trackerHandler.navigateToLoginPage(trackerName);
+        checkpoint.complete(TrackerStep.OPEN_TRACKER, progressBarManager);
+
+        LOGGER.info("\t- Logging in as '{}'", trackerCredential.username());
+        trackerHandler.login(trackerCredential.username(), trackerCredential.password(), trackerName);
+    }
+
+    // Selects the redactions to screenshot for a new session, returning false if there is nothing left to screenshot (so no need to log in)
+    private static boolean selectRedactions(final AbstractTrackerHandler trackerHandler, final TrackerCredential trackerCredential,
+                                            final TrackerCheckpoint checkpoint) {
+        final List<RedactionType> redactionsToExecute = redactionTypesToExecute(trackerCredential.name(), CONFIG.redactionTypes());
+        if (redactionsToExecute.isEmpty()) {
+            LOGGER.warn("\t- Screenshots already exist for all redaction types for tracker '{}', skipping", trackerCredential.name());
+            return false;
+        }
+
+        if (redactionsToExecute.size() != CONFIG.redactionTypes().size()) {
+            LOGGER.warn("\t- Some screenshots already exist for tracker '{}', only executing: {}", trackerCredential.name(), redactionsToExecute);
+        }
+
+        // If the tracker has no sensitive information, all redaction types produce identical screenshots, so we take a single one
+        final List<RedactionType> effectiveRedactions;
+        if (trackerHandler.hasSensitiveInformation()) {
+            effectiveRedactions = redactionsToExecute;
+        } else {
+            LOGGER.debug("\t- No sensitive information to redact, taking a single screenshot");
+            effectiveRedactions = redactionTypesToExecute(trackerCredential.name(), Set.of(RedactionType.NONE));
+            if (effectiveRedactions.isEmpty()) {
+                LOGGER.warn("\t- Screenshot already exists for tracker '{}' with no sensitive information, skipping", trackerCredential.name());
+                return false;
             }
         }
+
+        checkpoint.setPendingRedactions(effectiveRedactions);
+        if (checkpoint.pendingRedactions().isEmpty()) {
+            LOGGER.info("\t- All screenshots were saved by a previous attempt, skipping");
+            return false;
+        }
+
+        if (checkpoint.hasCompletedRedactions()) {
+            LOGGER.debug("\t- Some screenshots were saved by a previous attempt, only executing: {}", checkpoint.pendingRedactions());
+        }
+        return true;
     }
 
     private static void takeScreenshotForRedactionType(final AbstractTrackerHandler trackerHandler,
@@ -364,6 +472,63 @@ final class ProfileScreenshotExecutor {
         }
     }
 
+    // A single capture only helps if at least one redacted screenshot is needed, and relies on the full page being captured through DevTools
+    private static boolean shouldCaptureOnce(final AbstractTrackerHandler trackerHandler, final TrackerCheckpoint checkpoint,
+                                             final boolean scrollDuringScreenshot) {
+        return CONFIG.renderRedactionsInJava()
+            && scrollDuringScreenshot
+            && trackerHandler.hasSensitiveInformation()
+            && checkpoint.pendingRedactions().stream().anyMatch(redactionType -> redactionType != RedactionType.NONE);
+    }
+
+    // Collects the sensitive elements and captures the page once, then renders every pending redaction type from that capture in parallel. If the
+    // page cannot be captured through DevTools, the pending redactions are left for the standard screenshot for each redaction type
+    private static void takeScreenshotsFromSingleCapture(final AbstractTrackerHandler trackerHandler, final TrackerCredential trackerCredential,
+                                                         final TrackerCheckpoint checkpoint) throws IOException {
+        final List<RedactionType> redactionTypes = List.copyOf(checkpoint.pendingRedactions());
+        LOGGER.info("\t- Redactions: {}", redactionTypes.stream().map(RedactionType::formattedName).toList());
+
+        trackerHandler.actionBeforeScreenshot();
+        final CapturedPage capturedPage = ScreenshotTaker.capturePage(trackerHandler.driver(),
+            () -> collectRedactionRegions(trackerHandler, trackerCredential.name()));
+        trackerHandler.actionAfterScreenshot();
+        if (capturedPage == null) {
+            return;
+        }
+
+        final Map<RedactionType, Future<File>> pendingWrites = new EnumMap<>(RedactionType.class);
+        for (final RedactionType redactionType : redactionTypes) {
+            final String baseName = screenshotBaseName(trackerCredential.name(), redactionType);
+            pendingWrites.put(redactionType, ScreenshotTaker.writeScreenshot(capturedPage, redactionType, CONFIG.outputDirectory(), baseName,
+                screenshotIndex(baseName)));
+        }
+
+        for (final Map.Entry<RedactionType, Future<File>> pendingWrite : pendingWrites.entrySet()) {
+            final RedactionType redactionType = pendingWrite.getKey();
+            final String baseName = screenshotBaseName(trackerCredential.name(), redactionType);
+            try {
+                LOGGER.info("\t\t- {} screenshot saved at: [{}]", redactionType.formattedName(), pendingWrite.getValue().get().getAbsolutePath());
+                checkpoint.completeRedaction(redactionType);
+            } catch (final ExecutionException e) {
+                throw new IOException("Failed to write screenshot for '%s'".formatted(baseName), e);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while writing screenshot for '%s'".formatted(baseName), e);
+            }
+        }
+    }
+
+    // The regions are only collected once the page is ready to be captured, since any later change to the layout (such as lazy images loading)
+    // would move the sensitive content out from under its redaction
+    private static List<RedactionRegion> collectRedactionRegions(final AbstractTrackerHandler trackerHandler, final String trackerName) {
+        final RedactorDelegator regionCollector = RedactorDelegator.createRegionCollector(trackerHandler.driver());
+        LOGGER.info("\t\t- Collecting elements with sensitive information");
+        logRedactedElements(trackerHandler, trackerName, trackerHandler.redactElements(regionCollector));
+        final List<RedactionRegion> regions = regionCollector.collectedRegions();
+        regionCollector.undoRedaction();
+        return regions;
+    }
+
     // Perform modifications to the user profile page before redaction so redaction positions are computed against the settled layout
     private static void updateProfilePage(final AbstractTrackerHandler trackerHandler) {
         LOGGER.info("\t\t- Performing updates to profile page, if needed");
@@ -407,7 +572,11 @@ final class ProfileScreenshotExecutor {
         final Redactor redactor = RedactorDelegator.create(handler.driver(), redactionType);
         LOGGER.info("\t\t- Redacting elements with sensitive information");
 
-        final int numberOfRedactedElements = handler.redactElements(redactor);
+        logRedactedElements(handler, trackerName, handler.redactElements(redactor));
+        return redactor;
+    }
+
+    private static void logRedactedElements(final AbstractTrackerHandler handler, final String trackerName, final int numberOfRedactedElements) {
         if (numberOfRedactedElements == 0) {
             screenshotOnError(handler, trackerName, REDACTION_ERRORS_DIRECTORY);
             LOGGER.warn("\t\t- Unexpectedly found nothing to redact");
@@ -415,7 +584,6 @@ final class ProfileScreenshotExecutor {
             clearErrorScreenshots(trackerName, REDACTION_ERRORS_DIRECTORY);
             LOGGER.info("\t\t- Redacted the text of {} element{}", numberOfRedactedElements, StringUtils.pluralise(numberOfRedactedElements));
         }
-        return redactor;
     }
 
     private static List<RedactionType> redactionTypesToExecute(final String trackerName, final Set<RedactionType> redactionTypes) {
@@ -445,9 +613,4 @@ final class ProfileScreenshotExecutor {
     private static String screenshotBaseName(final String trackerName, final RedactionType redactionType) {
         return redactionType == RedactionType.NONE ? trackerName : (trackerName + "_" + redactionType.formattedName());
     }
-
-    private static void printTrackerExecutionTime(final String trackerName, final long startNanos) {
-        final long elapsedNanos = System.nanoTime() - startNanos;
-        LOGGER.debug("\t- Execution time for {}: {}", trackerName, TimingUtils.toNaturalTime(elapsedNanos));
-    }
 }
@@ -19,14 +19,20 @@ package net.zodac.tracker.app;
 
 import io.github.kusoroadeolu.clique.Clique;
 import io.github.kusoroadeolu.clique.style.Ink;
+import java.time.Duration;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.locks.ReentrantLock;
 import net.zodac.tracker.framework.ExitState;
 import net.zodac.tracker.framework.TrackerType;
+import net.zodac.tracker.framework.driver.DriverStatistics;
+import net.zodac.tracker.util.SleepAudit;
 import net.zodac.tracker.util.StringUtils;
 import net.zodac.tracker.util.TimingUtils;
 import org.apache.logging.log4j.LogManager;
@@ -39,12 +45,15 @@ import org.jspecify.annotations.Nullable;
 final class ResultCollector {
 
     private static final Logger LOGGER = LogManager.getLogger();
+    private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
 
     private final ReentrantLock addResultLock = new ReentrantLock();
     private final Map<TrackerType, Collection<String>> successfulTrackers = new EnumMap<>(TrackerType.class);
     private final Map<TrackerType, Collection<String>> unsuccessfulTrackers = new EnumMap<>(TrackerType.class);
 
     private final long executionStartNanos;
+    private List<DriverStatistics> driverStatistics = List.of();
+    private Map<String, Duration> sleepTotals = Map.of();
 
     /**
      * Constructor for {@link ResultCollector}.
@@ -84,12 +93,39 @@ final class ResultCollector {
     }
 
     /**
-     * Generates a summary of all results and returns the appropriate {@link ExitState}.
+     * Records the {@link DriverStatistics} of the browsers used during the execution, to be included in the summary.
+     *
+     * @param driverStatistics the {@link DriverStatistics} of each browser
+     */
+    void addDriverStatistics(final List<DriverStatistics> driverStatistics) {
+        this.driverStatistics = List.copyOf(driverStatistics);
+    }
+
+    /**
+     * Records the total time spent in unconditional sleeps by each tracker, to be included in the summary.
+     *
+     * @param sleepTotals the total sleep {@link Duration} for each tracker, ordered from longest to shortest
+     * @see SleepAudit
+     */
+    void addSleepTotals(final Map<String, Duration> sleepTotals) {
+        this.sleepTotals = Collections.unmodifiableMap(new LinkedHashMap<>(sleepTotals));
+    }
+
+    /**
+     * Generates a summary of all results and returns the appropriate {@link ExitState}. The usage of each browser and the time spent in
+     * unconditional sleeps are also included, if any were recorded.
      *
      * @param trackerExecutionOrder the execution order of the {@link TrackerType}s
      * @return the {@link ExitState} based on success/failure counts
      */
     ExitState generateSummary(final Set<TrackerType> trackerExecutionOrder) {
+        final ExitState exitState = summariseResults(trackerExecutionOrder);
+        printDriverStatistics();
+        printSleepTotals();
+        return exitState;
+    }
+
+    private ExitState summariseResults(final Set<TrackerType> trackerExecutionOrder) {
         final int totalSuccessful = successfulTrackers.values()
             .stream()
             .mapToInt(Collection::size)
@@ -162,6 +198,35 @@ final class ResultCollector {
         return ExitState.PARTIAL_FAILURE;
     }
 
+    private void printDriverStatistics() {
+        if (driverStatistics.isEmpty()) {
+            return;
+        }
+
+        LOGGER.info("");
+        LOGGER.info("Browser usage:");
+        for (final DriverStatistics statistics : driverStatistics) {
+            final long peakMemoryBytes = statistics.peakMemoryBytes();
+            final String peakMemory = peakMemoryBytes > 0L ? "%d MB".formatted(peakMemoryBytes / BYTES_PER_MEGABYTE) : "unknown";
+            LOGGER.info("\t- Browser {} ({}): {} tracker{}, peak memory {}{}", statistics.driverId(), statistics.trackerType().formattedName(),
+                statistics.uses(), StringUtils.pluralise(statistics.uses()), peakMemory, statistics.retired() ? ", retired" : "");
+        }
+    }
+
+    private void printSleepTotals() {
+        if (sleepTotals.isEmpty()) {
+            return;
+        }
+
+        final long totalSleepNanos = sleepTotals.values()
+            .stream()
+            .mapToLong(Duration::toNanos)
+            .sum();
+        LOGGER.info("");
+        LOGGER.info("Unconditional sleeps: {}", TimingUtils.toNaturalTime(totalSleepNanos));
+        sleepTotals.forEach((trackerName, sleepTime) -> LOGGER.info("\t- {}: {}", trackerName, TimingUtils.toNaturalTime(sleepTime.toNanos())));
+    }
+
     private String executionTime() {
         return TimingUtils.toNaturalTime(System.nanoTime() - executionStartNanos);
     }
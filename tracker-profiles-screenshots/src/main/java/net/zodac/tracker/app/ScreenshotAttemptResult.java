@@ -0,0 +1,44 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.app;
+
+/**
+ * Enum defining the outcome of a single attempt to screenshot a tracker.
+ */
+enum ScreenshotAttemptResult {
+
+    /**
+     * The tracker was successfully screenshot.
+     */
+    SUCCESS,
+
+    /**
+     * The attempt failed, but may succeed if attempted again.
+     */
+    RETRYABLE_FAILURE,
+
+    /**
+     * The attempt was made in a headless browser, but the tracker requires a manual input, so must be attempted again in a UI browser.
+     */
+    REQUIRES_MANUAL_INPUT,
+
+    /**
+     * The attempt failed in a way that will not change on another attempt (e.g. no implementation exists, or the user cancelled the input).
+     */
+    NON_RETRYABLE_FAILURE
+}
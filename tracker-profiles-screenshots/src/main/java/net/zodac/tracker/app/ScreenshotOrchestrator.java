@@ -18,24 +18,39 @@
 package net.zodac.tracker.app;
 
 import java.io.File;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import net.zodac.tracker.framework.ExitState;
 import net.zodac.tracker.framework.TrackerCredential;
+import net.zodac.tracker.framework.TrackerDefinition;
+import net.zodac.tracker.framework.TrackerHandlerFactory;
 import net.zodac.tracker.framework.TrackerType;
 import net.zodac.tracker.framework.config.ApplicationConfiguration;
 import net.zodac.tracker.framework.config.Configuration;
 import net.zodac.tracker.framework.driver.DriverPool;
+import net.zodac.tracker.framework.exception.TrackerUnavailableException;
+import net.zodac.tracker.framework.network.TrackerReachabilityProbe;
+import net.zodac.tracker.framework.network.TrackerUrlRanking;
+import net.zodac.tracker.framework.network.UrlProbeResult;
 import net.zodac.tracker.framework.progress.ProgressBarManager;
 import net.zodac.tracker.framework.progress.ProgressBarPrintStream;
 import net.zodac.tracker.framework.progress.TrackerStep;
+import net.zodac.tracker.handler.AbstractTrackerHandler;
+import net.zodac.tracker.handler.definition.UsesExtensions;
 import net.zodac.tracker.util.ScreenshotTaker;
+import net.zodac.tracker.util.SleepAudit;
 import net.zodac.tracker.util.StringUtils;
+import net.zodac.tracker.util.TimingUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -47,6 +62,10 @@ public final class ScreenshotOrchestrator {
 
     private static final Logger LOGGER = LogManager.getLogger();
     private static final ApplicationConfiguration CONFIG = Configuration.get();
+    private static final Path DURATION_HISTORY_FILE = Path.of(CONFIG.browserDataStoragePath(), "tracker-durations.csv");
+    private static final Path PREFERRED_URLS_FILE = Path.of(CONFIG.browserDataStoragePath(), "tracker-urls.csv");
+    private static final String UNKNOWN_PLATFORM = "Unknown";
+    private static final Duration URL_PROBE_TIMEOUT = Duration.ofSeconds(15);
 
     private ScreenshotOrchestrator() {
 
@@ -57,7 +76,10 @@ public final class ScreenshotOrchestrator {
      * <ol>
      *   <li>Retrieving trackers from the CSV file</li>
      *   <li>Ensuring the output directory exists</li>
-     *   <li>Executing screenshots for each tracker in order</li>
+     *   <li>Probing the URLs of each tracker, skipping any unreachable trackers (if {@link ApplicationConfiguration#probeTrackerUrls()} is
+     *   enabled)</li>
+     *   <li>Executing screenshots for each tracker, longest-expected-first based on previous runs (or each {@link TrackerType} concurrently, if
+     *   {@link ApplicationConfiguration#executeTrackerTypesConcurrently()} is enabled)</li>
      *   <li>Collecting and reporting results</li>
      * </ol>
      *
@@ -73,6 +95,8 @@ public final class ScreenshotOrchestrator {
         ensureOutputDirectoryExists();
         final ResultCollector resultCollector = ResultCollector.start();
         final ProgressBarManager progressBarManager = ProgressBarManager.create();
+        final TrackerDurationHistory durationHistory = TrackerDurationHistory.load(DURATION_HISTORY_FILE);
+        TrackerUrlRanking.load(PREFERRED_URLS_FILE);
         try (final ProgressBarPrintStream progressBarPrintStream = new ProgressBarPrintStream(progressBarManager)) {
             System.setOut(progressBarPrintStream);  // Override stdout with the progress bar output
             LOGGER.info("Screenshotting {} tracker{}", numberOfTrackers, StringUtils.pluralise(numberOfTrackers));
@@ -82,14 +106,28 @@ public final class ScreenshotOrchestrator {
 
             // Get the max length so we don't resize the log entry during execution
             final int maxTrackerNameLength = maxTrackerNameLength(trackersByType);
+            final CloudflareTrackerPromotion cloudflareTrackerPromotion = new CloudflareTrackerPromotion();
+            final ExecutionContext executionContext =
+                new ExecutionContext(progressBarManager, resultCollector, durationHistory, maxTrackerNameLength, cloudflareTrackerPromotion);
 
-            // Execute in the order specified
-            for (final TrackerType trackerType : CONFIG.trackerExecutionOrder()) {
-                screenshotTrackerByType(trackerType, trackersByType, progressBarManager, maxTrackerNameLength, resultCollector);
+            final Map<TrackerType, Set<TrackerCredential>> reachableTrackersByType =
+                cloudflareTrackerPromotion.promote(removeUnreachableTrackers(trackersByType, executionContext));
+            if (shouldExecuteTrackerTypesConcurrently(reachableTrackersByType)) {
+                screenshotTrackerTypesConcurrently(reachableTrackersByType, executionContext);
+            } else {
+                // Execute in the order specified
+                for (final TrackerType trackerType : CONFIG.trackerExecutionOrder()) {
+                    screenshotTrackerByType(trackerType, reachableTrackersByType, executionContext);
+                }
             }
+            screenshotFallbackTrackers(executionContext);
         } finally {
             ScreenshotTaker.shutdown();
             DriverPool.shutdown();
+            resultCollector.addDriverStatistics(DriverPool.driverStatistics());
+            resultCollector.addSleepTotals(SleepAudit.totals());
+            durationHistory.save();
+            TrackerUrlRanking.save(PREFERRED_URLS_FILE);
         }
 
         return resultCollector.generateSummary(CONFIG.trackerExecutionOrder());
@@ -102,35 +140,126 @@ public final class ScreenshotOrchestrator {
             .sum();
     }
 
+    // Probe every tracker URL before any browser is launched, so an unreachable tracker fails immediately rather than holding a driver until the
+    // page load times out, and the fastest reachable URL is opened first
+    private static Map<TrackerType, Set<TrackerCredential>> removeUnreachableTrackers(final Map<TrackerType, Set<TrackerCredential>> trackersByType,
+                                                                                      final ExecutionContext executionContext) {
+        if (!CONFIG.probeTrackerUrls()) {
+            LOGGER.trace("Tracker URL probe disabled");
+            return trackersByType;
+        }
+
+        final Map<TrackerCredential, TrackerDefinition> definitionsByTracker = new HashMap<>();
+        for (final Set<TrackerCredential> trackers : trackersByType.values()) {
+            for (final TrackerCredential tracker : trackers) {
+                TrackerHandlerFactory.findMatchingHandler(tracker.name())
+                    .map(TrackerDefinition::fromAnnotation)
+                    .ifPresent(trackerDefinition -> definitionsByTracker.put(tracker, trackerDefinition));
+            }
+        }
+
+        final long startNanos = System.nanoTime();
+        final Map<String, List<UrlProbeResult>> probeResults = new TrackerReachabilityProbe(URL_PROBE_TIMEOUT).probe(definitionsByTracker.values());
+        LOGGER.debug("Probed URLs of {} tracker{} in {}", probeResults.size(), StringUtils.pluralise(probeResults.size()),
+            TimingUtils.toNaturalTime(System.nanoTime() - startNanos));
+
+        final Map<TrackerType, Set<TrackerCredential>> reachableTrackersByType = new EnumMap<>(TrackerType.class);
+        for (final Map.Entry<TrackerType, Set<TrackerCredential>> entry : trackersByType.entrySet()) {
+            for (final TrackerCredential tracker : entry.getValue()) {
+                final TrackerDefinition trackerDefinition = definitionsByTracker.get(tracker);
+                final List<UrlProbeResult> urlResults = trackerDefinition == null
+                    ? List.of()
+                    : probeResults.getOrDefault(trackerDefinition.name(), List.of());
+
+                if (trackerDefinition != null && !urlResults.isEmpty() && urlResults.stream().noneMatch(UrlProbeResult::reachable)) {
+                    final TrackerUnavailableException e = new TrackerUnavailableException(tracker.name(), trackerDefinition.urls());
+                    LOGGER.debug("Unable to connect to tracker '{}', skipping", tracker.name(), e);
+                    LOGGER.warn("Unable to connect to tracker '{}', skipping: {}", tracker.name(), trackerDefinition.urls());
+                    executionContext.resultCollector().addResult(entry.getKey(), tracker.name(), false);
+                    executionContext.progressBarManager().tickMultipleSteps(TrackerStep.NUMBER_OF_STEPS);
+                    executionContext.progressBarManager().tickTracker(tracker.name());
+                    continue;
+                }
+
+                if (urlResults.size() > 1) {
+                    final List<String> rankedUrls = urlResults.stream().map(UrlProbeResult::url).toList();
+                    LOGGER.debug("Ranked URLs for tracker '{}': {}", tracker.name(), rankedUrls);
+                    TrackerUrlRanking.update(tracker.name(), rankedUrls);
+                }
+                reachableTrackersByType.computeIfAbsent(entry.getKey(), _ -> new TreeSet<>()).add(tracker);
+            }
+        }
+        return reachableTrackersByType;
+    }
+
+    private static boolean shouldExecuteTrackerTypesConcurrently(final Map<TrackerType, Set<TrackerCredential>> trackersByType) {
+        if (!CONFIG.executeTrackerTypesConcurrently()) {
+            return false;
+        }
+
+        // Every tracker would be using a UI browser, so running multiple types at once would mean multiple UI browsers competing for the user
+        if (CONFIG.forceUiBrowser()) {
+            LOGGER.debug("Forcing UI browser, concurrent execution of tracker types disabled");
+            return false;
+        }
+
+        final long numberOfTrackerTypesToExecute = CONFIG.trackerExecutionOrder()
+            .stream()
+            .filter(trackersByType::containsKey)
+            .count();
+        return numberOfTrackerTypesToExecute > 1;
+    }
+
+    private static void screenshotTrackerTypesConcurrently(final Map<TrackerType, Set<TrackerCredential>> trackersByType,
+                                                           final ExecutionContext executionContext) {
+        LOGGER.debug("Executing tracker types concurrently: {}", CONFIG.trackerExecutionOrder());
+
+        final List<Callable<Void>> trackerTypeTasks = new ArrayList<>();
+        for (final TrackerType trackerType : CONFIG.trackerExecutionOrder()) {
+            trackerTypeTasks.add(() -> {
+                screenshotTrackerByType(trackerType, trackersByType, executionContext);
+                return null;
+            });
+        }
+
+        try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            executor.invokeAll(trackerTypeTasks);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.debug("Concurrent execution of tracker types interrupted", e);
+            LOGGER.warn("Concurrent execution of tracker types interrupted: {}", e.getMessage());
+        }
+    }
+
     private static void screenshotTrackerByType(final TrackerType trackerType, final Map<TrackerType, Set<TrackerCredential>> trackersByType,
-                                                final ProgressBarManager progressBarManager, final int maxTrackerNameLength,
-                                                final ResultCollector resultCollector) {
+                                                final ExecutionContext executionContext) {
         if (!trackersByType.containsKey(trackerType)) {
             LOGGER.trace("No trackers of type {}", trackerType);
             return;
         }
 
         final int numberOfTrackers = trackersByType.getOrDefault(trackerType, Set.of()).size();
-        final int effectiveThreadCount = getEffectiveThreadCount(trackerType, numberOfTrackers);
+        final int maximumThreadCount = getEffectiveThreadCount(trackerType, numberOfTrackers);
+        final boolean autoScale = CONFIG.autoScaleParallelThreads() && maximumThreadCount > 1;
+        final int effectiveThreadCount = autoScale ? AdaptivePoolSizer.initialSize(maximumThreadCount) : maximumThreadCount;
         DriverPool.initialise(trackerType, effectiveThreadCount, numberOfTrackers);
 
         LOGGER.info("");
-        LOGGER.info(">>> Executing {} trackers {}<<<", trackerType.formattedName(),
-            effectiveThreadCount == 1 ? "" : String.format("(with %d threads) ", effectiveThreadCount));
+        LOGGER.info(">>> Executing {} trackers {}<<<", trackerType.formattedName(), threadCountDescription(effectiveThreadCount, maximumThreadCount,
+            autoScale));
         LOGGER.info("");
 
-        final List<Callable<Void>> trackerScreenshotTasks = new ArrayList<>();
-        for (final TrackerCredential tracker : trackersByType.get(trackerType)) {
-            trackerScreenshotTasks.add(() -> {
-                final boolean success = ProfileScreenshotExecutor.takeScreenshot(tracker, progressBarManager, maxTrackerNameLength);
-                resultCollector.addResult(trackerType, tracker.name(), success);
-                progressBarManager.tickTracker(tracker.name());
-                return null;
-            });
-        }
-
-        try (final ExecutorService executor = Executors.newFixedThreadPool(effectiveThreadCount)) {
-            executor.invokeAll(trackerScreenshotTasks);
+        final List<TrackerCredential> trackers =
+            orderTrackers(trackersByType.get(trackerType), effectiveThreadCount, executionContext.durationHistory());
+        final TrackerWorkQueue workQueue = new TrackerWorkQueue(executionContext, trackerType, effectiveThreadCount);
+        try {
+            if (autoScale) {
+                try (final AdaptivePoolSizer _ = AdaptivePoolSizer.start(trackerType, workQueue, maximumThreadCount)) {
+                    workQueue.execute(trackers);
+                }
+            } else {
+                workQueue.execute(trackers);
+            }
         } catch (final InterruptedException e) {
             Thread.currentThread().interrupt();
             LOGGER.debug("Parallel execution interrupted for {} trackers", trackerType.formattedName(), e);
@@ -138,6 +267,56 @@ public final class ScreenshotOrchestrator {
         }
     }
 
+    // Trackers which could not reuse their Cloudflare clearance in a headless browser are executed in the UI browser once everything else is done
+    private static void screenshotFallbackTrackers(final ExecutionContext executionContext) {
+        final List<TrackerTask> fallbackTasks = executionContext.cloudflareTrackerPromotion().drainFallbackTasks();
+        if (fallbackTasks.isEmpty()) {
+            return;
+        }
+
+        final TrackerType trackerType = TrackerType.MANUAL;
+        DriverPool.initialise(trackerType, 1, fallbackTasks.size());
+
+        LOGGER.info("");
+        LOGGER.info(">>> Executing {} trackers that could not be executed headlessly <<<", trackerType.formattedName());
+        LOGGER.info("");
+
+        try {
+            new TrackerWorkQueue(executionContext, trackerType, 1).executeTasks(fallbackTasks);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.debug("Execution interrupted for {} trackers", trackerType.formattedName(), e);
+            LOGGER.warn("Execution interrupted for {} trackers: {}", trackerType.formattedName(), e.getMessage());
+        }
+    }
+
+    // Dispatch the longest trackers first so a slow tracker does not leave a single driver busy after the others are idle
+    // With a single driver the total time is the same in any order, so keep the alphabetical order for the user
+    private static List<TrackerCredential> orderTrackers(final Set<TrackerCredential> trackers, final int effectiveThreadCount,
+                                                         final TrackerDurationHistory durationHistory) {
+        if (effectiveThreadCount == 1) {
+            return List.copyOf(trackers);
+        }
+
+        final List<TrackerCredential> orderedTrackers = durationHistory.orderLongestFirst(trackers, TrackerCredential::name,
+            ScreenshotOrchestrator::platform);
+        LOGGER.debug("Dispatching trackers longest-expected-first: {}", orderedTrackers.stream().map(TrackerCredential::name).toList());
+        return orderedTrackers;
+    }
+
+    // The platform is the shared base handler (e.g. GazelleHandler), with extension-based trackers kept separate since they are much slower
+    static String platform(final TrackerCredential trackerCredential) {
+        return TrackerHandlerFactory.findMatchingHandlerClass(trackerCredential.name())
+            .map(handlerClass -> {
+                final Class<?> superclass = handlerClass.getSuperclass();
+                final String baseHandlerName = superclass == null || superclass == AbstractTrackerHandler.class
+                    ? AbstractTrackerHandler.class.getSimpleName()
+                    : superclass.getSimpleName();
+                return UsesExtensions.class.isAssignableFrom(handlerClass) ? baseHandlerName + "[extensions]" : baseHandlerName;
+            })
+            .orElse(UNKNOWN_PLATFORM);
+    }
+
     private static int getEffectiveThreadCount(final TrackerType trackerType, final int numberOfTrackers) {
         if (CONFIG.forceUiBrowser()) {
             LOGGER.debug("Forcing UI browser, parallelism disabled");
@@ -154,6 +333,13 @@ public final class ScreenshotOrchestrator {
         return Math.min(CONFIG.numberOfParallelThreads(), numberOfTrackers);
     }
 
+    private static String threadCountDescription(final int effectiveThreadCount, final int maximumThreadCount, final boolean autoScale) {
+        if (autoScale) {
+            return String.format("(with %d threads, auto-scaling up to %d) ", effectiveThreadCount, maximumThreadCount);
+        }
+        return effectiveThreadCount == 1 ? "" : String.format("(with %d threads) ", effectiveThreadCount);
+    }
+
     private static int maxTrackerNameLength(final Map<TrackerType, Set<TrackerCredential>> trackersByType) {
         return trackersByType.values().stream()
             .flatMap(Set::stream)
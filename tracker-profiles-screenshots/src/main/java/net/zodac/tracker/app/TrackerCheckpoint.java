@@ -0,0 +1,167 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.app;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import net.zodac.tracker.framework.progress.ProgressBarManager;
+import net.zodac.tracker.framework.progress.TrackerStep;
+import net.zodac.tracker.redaction.RedactionType;
+
+/**
+ * Tracks the progress of a single tracker across all of its attempts, so a failed attempt can resume from the {@link TrackerStep} that failed,
+ * rather than starting again from {@link TrackerStep#OPEN_TRACKER}.
+ *
+ * <p>
+ * The completed {@link TrackerStep}s are only valid for the current browser session, and are cleared by {@link #startSession()}. The completed
+ * {@link RedactionType}s are kept across sessions, so screenshots that were already saved are not taken again after a full restart.
+ *
+ * <p>
+ * A {@link TrackerCheckpoint} is only used by one thread at a time, as a tracker is never executed concurrently with itself.
+ */
+final class TrackerCheckpoint {
+
+    private static final int FIRST_ATTEMPT = 1;
+
+    private final Set<TrackerStep> completedSteps = EnumSet.noneOf(TrackerStep.class);
+    private final Set<TrackerStep> tickedSteps = EnumSet.noneOf(TrackerStep.class);
+    private final Set<RedactionType> completedRedactions = EnumSet.noneOf(RedactionType.class);
+    private final List<RedactionType> pendingRedactions = new ArrayList<>();
+    private int attempt = FIRST_ATTEMPT;
+
+    /**
+     * The current attempt number, starting from {@code 1}.
+     *
+     * @return the attempt number
+     */
+    int attempt() {
+        return attempt;
+    }
+
+    /**
+     * Increments the attempt number, whether the next attempt is a full restart or a resume within the current session.
+     */
+    void startNextAttempt() {
+        attempt++;
+    }
+
+    /**
+     * Starts a new browser session, clearing all completed {@link TrackerStep}s since a new login is required.
+     */
+    void startSession() {
+        completedSteps.clear();
+        pendingRedactions.clear();
+    }
+
+    /**
+     * Checks whether the {@link TrackerStep} has been completed in the current session.
+     *
+     * @param trackerStep the {@link TrackerStep} to check
+     * @return {@code true} if the {@link TrackerStep} has been completed
+     */
+    boolean isCompleted(final TrackerStep trackerStep) {
+        return completedSteps.contains(trackerStep);
+    }
+
+    /**
+     * Marks the {@link TrackerStep} as completed in the current session. The {@link ProgressBarManager} is only ticked the first time the
+     * {@link TrackerStep} is completed for this tracker, so resumed or restarted attempts do not overfill the progress bar.
+     *
+     * @param trackerStep        the completed {@link TrackerStep}
+     * @param progressBarManager the {@link ProgressBarManager} to tick
+     */
+    void complete(final TrackerStep trackerStep, final ProgressBarManager progressBarManager) {
+        completedSteps.add(trackerStep);
+        if (tickedSteps.add(trackerStep)) {
+            progressBarManager.tick(trackerStep);
+        }
+    }
+
+    /**
+     * Ticks the {@link ProgressBarManager} for any {@link TrackerStep} that was never completed, once no further attempts will be made.
+     *
+     * @param progressBarManager the {@link ProgressBarManager} to tick
+     * @return the number of {@link TrackerStep}s that were ticked
+     */
+    int tickRemainingSteps(final ProgressBarManager progressBarManager) {
+        final int remaining = TrackerStep.NUMBER_OF_STEPS - tickedSteps.size();
+        if (remaining > 0) {
+            progressBarManager.tickMultipleSteps(remaining);
+            tickedSteps.addAll(EnumSet.allOf(TrackerStep.class));
+        }
+        return remaining;
+    }
+
+    /**
+     * The first {@link TrackerStep} that has not been completed in the current session.
+     *
+     * @return the next {@link TrackerStep}
+     */
+    TrackerStep nextStep() {
+        for (final TrackerStep trackerStep : TrackerStep.values()) {
+            if (!completedSteps.contains(trackerStep)) {
+                return trackerStep;
+            }
+        }
+        return TrackerStep.LOGOUT;
+    }
+
+    /**
+     * Sets the {@link RedactionType}s to be screenshot in the current session, excluding any already completed in a previous session.
+     *
+     * @param redactionTypes the {@link RedactionType}s to screenshot
+     */
+    void setPendingRedactions(final List<RedactionType> redactionTypes) {
+        pendingRedactions.clear();
+        for (final RedactionType redactionType : redactionTypes) {
+            if (!completedRedactions.contains(redactionType)) {
+                pendingRedactions.add(redactionType);
+            }
+        }
+    }
+
+    /**
+     * The {@link RedactionType}s still to be screenshot in the current session.
+     *
+     * @return the pending {@link RedactionType}s
+     */
+    List<RedactionType> pendingRedactions() {
+        return List.copyOf(pendingRedactions);
+    }
+
+    /**
+     * Marks the {@link RedactionType} as screenshot, so it will not be taken again by a later attempt.
+     *
+     * @param redactionType the completed {@link RedactionType}
+     */
+    void completeRedaction(final RedactionType redactionType) {
+        completedRedactions.add(redactionType);
+        pendingRedactions.remove(redactionType);
+    }
+
+    /**
+     * Checks whether any {@link RedactionType} has been screenshot by a previous attempt.
+     *
+     * @return {@code true} if at least one screenshot has been saved
+     */
+    boolean hasCompletedRedactions() {
+        return !completedRedactions.isEmpty();
+    }
+}
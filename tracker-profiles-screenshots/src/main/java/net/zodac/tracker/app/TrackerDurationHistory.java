@@ -0,0 +1,236 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.app;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Small local store of how long each tracker took to execute in previous runs, used to dispatch trackers longest-expected-first.
+ *
+ * <p>
+ * Each tracker is stored with its platform (see {@link ScreenshotOrchestrator}), so a tracker with no history can be given an estimate based on the
+ * median of other trackers on the same platform. If there are no trackers on the same platform, the median of all known trackers is used instead.
+ *
+ * <p>
+ * The store is a simple CSV file with one {@code trackerName,platform,durationMillis} entry per line. New durations are smoothed against the previous
+ * value, so a single slow run does not completely reorder the next one.
+ */
+final class TrackerDurationHistory {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final String COMMENT_PREFIX = "#";
+    private static final String DELIMITER = ",";
+    private static final int NUMBER_OF_FIELDS = 3;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, Entry> entriesByTrackerName = new HashMap<>();
+    private final Path historyFile;
+
+    private TrackerDurationHistory(final Path historyFile) {
+        this.historyFile = historyFile;
+    }
+
+    /**
+     * Loads the {@link TrackerDurationHistory} from the {@code historyFile}. If the file does not exist or cannot be read, an empty history is
+     * returned.
+     *
+     * @param historyFile the {@link Path} to the history file
+     * @return the loaded {@link TrackerDurationHistory}
+     */
+    static TrackerDurationHistory load(final Path historyFile) {
+        final TrackerDurationHistory history = new TrackerDurationHistory(historyFile);
+        if (!Files.isRegularFile(historyFile)) {
+            LOGGER.trace("No tracker duration history found at '{}'", historyFile);
+            return history;
+        }
+
+        try {
+            for (final String line : Files.readAllLines(historyFile, StandardCharsets.UTF_8)) {
+                history.parseLine(line);
+            }
+            LOGGER.trace("Loaded duration history for {} trackers from '{}'", history.entriesByTrackerName.size(), historyFile);
+        } catch (final IOException e) {
+            LOGGER.debug("Unable to read tracker duration history from '{}'", historyFile, e);
+            LOGGER.warn("Unable to read tracker duration history from '{}': {}", historyFile, e.getMessage());
+        }
+        return history;
+    }
+
+    private void parseLine(final String line) {
+        final String trimmedLine = line.trim();
+        if (trimmedLine.isEmpty() || trimmedLine.startsWith(COMMENT_PREFIX)) {
+            return;
+        }
+
+        final String[] fields = trimmedLine.split(DELIMITER);
+        if (fields.length != NUMBER_OF_FIELDS) {
+            LOGGER.trace("Ignoring invalid tracker duration history entry: '{}'", trimmedLine);
+            return;
+        }
+
+        try {
+            final long durationMillis = Long.parseLong(fields[2].trim());
+            entriesByTrackerName.put(key(fields[0]), new Entry(fields[0].trim(), fields[1].trim(), durationMillis));
+        } catch (final NumberFormatException e) {
+            LOGGER.trace("Ignoring invalid tracker duration history entry: '{}'", trimmedLine, e);
+        }
+    }
+
+    /**
+     * Records the latest execution {@link Duration} of a tracker. If the tracker already has a recorded duration, the new value is averaged with the
+     * previous one.
+     *
+     * @param trackerName the name of the tracker
+     * @param platform    the platform of the tracker
+     * @param duration    the {@link Duration} of the latest execution
+     */
+    void record(final String trackerName, final String platform, final Duration duration) {
+        lock.lock();
+        try {
+            final long latestMillis = duration.toMillis();
+            final Entry previous = entriesByTrackerName.get(key(trackerName));
+            final long smoothedMillis = previous == null ? latestMillis : (previous.durationMillis() + latestMillis) / 2;
+            entriesByTrackerName.put(key(trackerName), new Entry(trackerName, platform, smoothedMillis));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the expected duration of the tracker in milliseconds. If the tracker has no history, the median of trackers on the same
+     * {@code platform} is used, falling back to the median of all trackers.
+     *
+     * @param trackerName the name of the tracker
+     * @param platform    the platform of the tracker
+     * @return the expected duration in milliseconds, or {@code 0} if there is no history at all
+     */
+    long expectedDurationMillis(final String trackerName, final String platform) {
+        lock.lock();
+        try {
+            final Entry entry = entriesByTrackerName.get(key(trackerName));
+            if (entry != null) {
+                return entry.durationMillis();
+            }
+
+            final List<Long> platformDurations = entriesByTrackerName.values()
+                .stream()
+                .filter(existingEntry -> existingEntry.platform().equals(platform))
+                .map(Entry::durationMillis)
+                .toList();
+            final OptionalLong platformEstimate = median(platformDurations);
+            if (platformEstimate.isPresent()) {
+                return platformEstimate.getAsLong();
+            }
+
+            final List<Long> allDurations = entriesByTrackerName.values()
+                .stream()
+                .map(Entry::durationMillis)
+                .toList();
+            return median(allDurations).orElse(0L);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Orders the provided {@code items} by their expected duration, longest first. Items with the same expected duration keep their original order.
+     *
+     * @param items             the items to order
+     * @param trackerNameMapper maps an item to its tracker name
+     * @param platformMapper    maps an item to its platform
+     * @param <T>               the type of the items
+     * @return the items ordered longest-expected-first
+     */
+    <T> List<T> orderLongestFirst(final Collection<T> items, final Function<T, String> trackerNameMapper, final Function<T, String> platformMapper) {
+        return items.stream()
+            .map(item -> new EstimatedItem<>(item, expectedDurationMillis(trackerNameMapper.apply(item), platformMapper.apply(item))))
+            .sorted(Comparator.comparingLong(EstimatedItem<T>::expectedDurationMillis).reversed())
+            .map(EstimatedItem::item)
+            .toList();
+    }
+
+    /**
+     * Writes the {@link TrackerDurationHistory} back to its file, creating any parent directories if needed.
+     */
+    void save() {
+        lock.lock();
+        try {
+            final List<String> lines = new ArrayList<>();
+            lines.add(COMMENT_PREFIX + " trackerName,platform,durationMillis");
+            entriesByTrackerName.values()
+                .stream()
+                .sorted(Comparator.comparing(Entry::trackerName, String.CASE_INSENSITIVE_ORDER))
+                .map(entry -> String.join(DELIMITER, entry.trackerName(), entry.platform(), String.valueOf(entry.durationMillis())))
+                .forEach(lines::add);
+
+            final Path parent = historyFile.getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.write(historyFile, lines, StandardCharsets.UTF_8);
+            LOGGER.trace("Saved duration history for {} trackers to '{}'", entriesByTrackerName.size(), historyFile);
+        } catch (final IOException e) {
+            LOGGER.debug("Unable to save tracker duration history to '{}'", historyFile, e);
+            LOGGER.warn("Unable to save tracker duration history to '{}': {}", historyFile, e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static OptionalLong median(final List<Long> values) {
+        if (values.isEmpty()) {
+            return OptionalLong.empty();
+        }
+
+        final List<Long> sorted = values.stream()
+            .sorted()
+            .toList();
+        final int middle = sorted.size() / 2;
+        return sorted.size() % 2 == 0
+            ? OptionalLong.of((sorted.get(middle - 1) + sorted.get(middle)) / 2)
+            : OptionalLong.of(sorted.get(middle));
+    }
+
+    private static String key(final String trackerName) {
+        return trackerName.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Entry(String trackerName, String platform, long durationMillis) {
+
+    }
+
+    private record EstimatedItem<T>(T item, long expectedDurationMillis) {
+
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.app;
+
+import net.zodac.tracker.framework.TrackerCredential;
+import net.zodac.tracker.framework.TrackerType;
+
+/**
+ * A single queued attempt to screenshot a tracker.
+ *
+ * @param trackerType       the {@link TrackerType} of the tracker
+ * @param trackerCredential details of the tracker to screenshot
+ * @param checkpoint        the {@link TrackerCheckpoint} holding the progress of the tracker across all attempts
+ * @param elapsedNanos      the total time spent on previous attempts, in nanoseconds
+ */
+record TrackerTask(TrackerType trackerType, TrackerCredential trackerCredential, TrackerCheckpoint checkpoint, long elapsedNanos) {
+
+    /**
+     * Creates the first {@link TrackerTask} for a tracker.
+     *
+     * @param trackerType       the {@link TrackerType} of the tracker
+     * @param trackerCredential details of the tracker to screenshot
+     * @return the {@link TrackerTask}
+     */
+    static TrackerTask firstAttempt(final TrackerType trackerType, final TrackerCredential trackerCredential) {
+        return new TrackerTask(trackerType, trackerCredential, new TrackerCheckpoint(), 0L);
+    }
+
+    /**
+     * The current attempt number, starting from {@code 1}. This may have been incremented during execution if a failed attempt was resumed within
+     * the same browser session.
+     *
+     * @return the attempt number
+     */
+    int attempt() {
+        return checkpoint.attempt();
+    }
+
+    /**
+     * Creates the {@link TrackerTask} for the next attempt of this tracker.
+     *
+     * @param attemptNanos the time spent on the current attempt, in nanoseconds
+     * @return the {@link TrackerTask} for the next attempt
+     */
+    TrackerTask nextAttempt(final long attemptNanos) {
+        checkpoint.startNextAttempt();
+        return new TrackerTask(trackerType, trackerCredential, checkpoint, elapsedNanos + attemptNanos);
+    }
+
+    /**
+     * Creates the {@link TrackerTask} to execute this tracker as another {@link TrackerType}. The current attempt is not counted as a failed attempt,
+     * since it could not succeed as the current {@link TrackerType}.
+     *
+     * @param fallbackTrackerType the {@link TrackerType} to execute the tracker as
+     * @param attemptNanos        the time spent on the current attempt, in nanoseconds
+     * @return the {@link TrackerTask} for the fallback {@link TrackerType}
+     */
+    TrackerTask fallbackTo(final TrackerType fallbackTrackerType, final long attemptNanos) {
+        return new TrackerTask(fallbackTrackerType, trackerCredential, checkpoint, elapsedNanos + attemptNanos);
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.app;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.zodac.tracker.framework.TrackerCredential;
+import net.zodac.tracker.framework.TrackerType;
+import net.zodac.tracker.framework.config.ApplicationConfiguration;
+import net.zodac.tracker.framework.config.Configuration;
+import net.zodac.tracker.framework.driver.DriverPool;
+import net.zodac.tracker.util.StringUtils;
+import net.zodac.tracker.util.TimingUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Work queue which executes the trackers of a single {@link TrackerType}.
+ *
+ * <p>
+ * Each {@link TrackerTask} runs on its own virtual thread, with the number of pooled drivers being the only limit on concurrency. Tasks are
+ * dispatched in the order they were queued. The limit can be changed during execution (see {@link AdaptivePoolSizer}).
+ *
+ * <p>
+ * If an attempt fails with a {@link ScreenshotAttemptResult#RETRYABLE_FAILURE}, the tracker is put back at the tail of the queue after an exponential
+ * backoff, rather than being retried immediately while holding a driver. This allows other trackers to progress while a flaky tracker recovers.
+ * Trackers with a {@link ScreenshotAttemptResult#NON_RETRYABLE_FAILURE} are never requeued.
+ *
+ * <p>
+ * Trackers promoted by the {@link CloudflareTrackerPromotion} are not requeued on failure, and are instead handed back to be executed in the UI
+ * browser.
+ */
+final class TrackerWorkQueue {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final ApplicationConfiguration CONFIG = Configuration.get();
+    private static final Duration INITIAL_RETRY_BACKOFF = Duration.ofSeconds(5);
+    private static final Duration MAXIMUM_RETRY_BACKOFF = Duration.ofMinutes(2);
+    private static final Duration QUEUE_POLL_INTERVAL = Duration.ofMillis(500);
+
+    private final BlockingDeque<TrackerTask> queue = new LinkedBlockingDeque<>();
+    private final ExecutionContext executionContext;
+    private final TrackerType trackerType;
+    private final ConcurrencyLimit availableDrivers;
+    private final AtomicInteger completedTrackers = new AtomicInteger(0);
+
+    /**
+     * Constructor for {@link TrackerWorkQueue}.
+     *
+     * @param executionContext the shared {@link ExecutionContext}
+     * @param trackerType      the {@link TrackerType} of the trackers to execute
+     * @param numberOfDrivers  the number of pooled drivers, limiting the number of concurrent trackers
+     */
+    TrackerWorkQueue(final ExecutionContext executionContext, final TrackerType trackerType, final int numberOfDrivers) {
+        this.executionContext = executionContext;
+        this.trackerType = trackerType;
+        availableDrivers = new ConcurrencyLimit(numberOfDrivers);
+    }
+
+    /**
+     * Changes the number of trackers which can execute concurrently. Should be called alongside {@link DriverPool#resize(TrackerType, int)}, so
+     * that the limit matches the number of pooled drivers.
+     *
+     * @param numberOfDrivers the new number of pooled drivers
+     */
+    void resize(final int numberOfDrivers) {
+        availableDrivers.resize(numberOfDrivers);
+    }
+
+    /**
+     * Retrieves the number of trackers which can currently execute concurrently.
+     *
+     * @return the concurrency limit
+     */
+    int concurrencyLimit() {
+        return availableDrivers.limit();
+    }
+
+    /**
+     * Retrieves the number of trackers which have completed, either successfully or with no further attempts remaining.
+     *
+     * @return the number of completed trackers
+     */
+    int completedTrackers() {
+        return completedTrackers.get();
+    }
+
+    /**
+     * Retrieves the number of trackers waiting in the queue to be executed, excluding those still in their retry backoff.
+     *
+     * @return the number of queued trackers
+     */
+    int queuedTrackers() {
+        return queue.size();
+    }
+
+    /**
+     * Executes all provided trackers, blocking until each one has either succeeded or will not be attempted again.
+     *
+     * @param trackers the trackers to execute, in the order they should be dispatched
+     * @throws InterruptedException thrown if interrupted while waiting for a driver or tracker to become available
+     */
+    void execute(final List<TrackerCredential> trackers) throws InterruptedException {
+        executeTasks(trackers.stream()
+            .map(tracker -> TrackerTask.firstAttempt(trackerType, tracker))
+            .toList());
+    }
+
+    /**
+     * Executes all provided {@link TrackerTask}s, blocking until each one has either succeeded or will not be attempted again.
+     *
+     * @param tasks the {@link TrackerTask}s to execute, in the order they should be dispatched
+     * @throws InterruptedException thrown if interrupted while waiting for a driver or tracker to become available
+     */
+    void executeTasks(final List<TrackerTask> tasks) throws InterruptedException {
+        final CountDownLatch remainingTrackers = new CountDownLatch(tasks.size());
+        tasks.forEach(queue::addLast);
+
+        try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (remainingTrackers.getCount() > 0) {
+                final TrackerTask task = queue.pollFirst(QUEUE_POLL_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+                if (task == null) {
+                    continue;
+                }
+
+                availableDrivers.acquire();
+                executor.execute(() -> runTask(executor, task, remainingTrackers));
+            }
+        }
+    }
+
+    // Anything escaping a task would leave the latch above zero and hang the queue, so every tracker not requeued must be counted down
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    private void runTask(final ExecutorService executor, final TrackerTask task, final CountDownLatch remainingTrackers) {
+        boolean requeued = false;
+        try {
+            requeued = executeTask(executor, task);
+        } catch (final Throwable t) {
+            failUnexpectedly(task, t);
+        } finally {
+            availableDrivers.release();
+            if (!requeued) {
+                remainingTrackers.countDown();
+            }
+        }
+    }
+
+    // Returns true if the task was requeued for another attempt, so it is not yet complete
+    private boolean executeTask(final ExecutorService executor, final TrackerTask task) {
+        final TrackerCredential tracker = task.trackerCredential();
+        final long startNanos = System.nanoTime();
+        final ScreenshotAttemptResult result = ProfileScreenshotExecutor.takeScreenshot(tracker, trackerType, task.checkpoint(),
+            executionContext.progressBarManager(), executionContext.maxTrackerNameLength());
+        final long attemptNanos = System.nanoTime() - startNanos;
+
+        if (shouldFallBackToUiBrowser(tracker, result)) {
+            executionContext.cloudflareTrackerPromotion().fallBack(task.fallbackTo(TrackerType.MANUAL, attemptNanos));
+            return false;
+        }
+
+        if (result == ScreenshotAttemptResult.RETRYABLE_FAILURE) {
+            if (task.attempt() < CONFIG.numberOfScreenshotAttempts()) {
+                requeue(executor, task.nextAttempt(attemptNanos));
+                return true;
+            }
+            LOGGER.debug("\t- All {} attempts exhausted for tracker '{}'", CONFIG.numberOfScreenshotAttempts(), tracker.name());
+        }
+
+        complete(task, result == ScreenshotAttemptResult.SUCCESS, task.elapsedNanos() + attemptNanos);
+        return false;
+    }
+
+    private void failUnexpectedly(final TrackerTask task, final Throwable throwable) {
+        final String trackerName = task.trackerCredential().name();
+        LOGGER.debug("Unexpected error executing tracker '{}'", trackerName, throwable);
+        LOGGER.error("\t- Unexpected error executing tracker '{}': {}", trackerName, throwable.getMessage());
+
+        try {
+            complete(task, false, task.elapsedNanos());
+        } catch (final RuntimeException e) {
+            LOGGER.debug("Unable to record failure of tracker '{}'", trackerName, e);
+        }
+    }
+
+    private boolean shouldFallBackToUiBrowser(final TrackerCredential tracker, final ScreenshotAttemptResult result) {
+        if (result == ScreenshotAttemptResult.REQUIRES_MANUAL_INPUT) {
+            return true;
+        }
+
+        return result == ScreenshotAttemptResult.RETRYABLE_FAILURE
+            && trackerType == TrackerType.HEADLESS
+            && executionContext.cloudflareTrackerPromotion().isPromoted(tracker);
+    }
+
+    private void requeue(final ExecutorService executor, final TrackerTask nextTask) {
+        final Duration backoff = retryBackoff(nextTask.attempt());
+        LOGGER.debug("\t- Requeueing tracker '{}' for attempt {}/{} in {}", nextTask.trackerCredential().name(), nextTask.attempt(),
+            CONFIG.numberOfScreenshotAttempts(), TimingUtils.toNaturalTime(backoff.toNanos()));
+        DriverPool.expectAdditionalTask(trackerType);
+
+        executor.execute(() -> {
+            try {
+                Thread.sleep(backoff);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOGGER.trace("Interrupted during retry backoff for tracker '{}'", nextTask.trackerCredential().name(), e);
+            }
+            queue.addLast(nextTask);
+        });
+    }
+
+    private void complete(final TrackerTask task, final boolean success, final long elapsedNanos) {
+        final TrackerCredential tracker = task.trackerCredential();
+        final int missedSteps = task.checkpoint().tickRemainingSteps(executionContext.progressBarManager());
+        if (missedSteps > 0) {
+            LOGGER.trace("Advancing progress bar {} missed step{} due to failed execution", missedSteps, StringUtils.pluralise(missedSteps));
+        }
+
+        ProfileScreenshotExecutor.printTrackerExecutionTime(tracker, elapsedNanos, executionContext.maxTrackerNameLength());
+        executionContext.durationHistory().record(tracker.name(), ScreenshotOrchestrator.platform(tracker), Duration.ofNanos(elapsedNanos));
+        executionContext.resultCollector().addResult(trackerType, tracker.name(), success);
+        executionContext.progressBarManager().tickTracker(tracker.name());
+        completedTrackers.incrementAndGet();
+    }
+
+    // Doubles for each subsequent retry: 5s, 10s, 20s, etc., capped at the maximum
+    private static Duration retryBackoff(final int nextAttempt) {
+        final int previousRetries = Math.max(0, nextAttempt - 2);
+        final Duration backoff = INITIAL_RETRY_BACKOFF.multipliedBy(1L << Math.min(previousRetries, Long.SIZE - 2));
+        return backoff.compareTo(MAXIMUM_RETRY_BACKOFF) > 0 ? MAXIMUM_RETRY_BACKOFF : backoff;
+    }
+}
@@ -38,6 +38,7 @@ import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import net.zodac.tracker.framework.annotation.TrackerHandler;
 import net.zodac.tracker.framework.annotation.TrackerHandlers;
+import net.zodac.tracker.framework.network.TrackerUrlRanking;
 import net.zodac.tracker.handler.AbstractTrackerHandler;
 import org.jspecify.annotations.Nullable;
 
@@ -63,10 +64,22 @@ public final class TrackerHandlerFactory {
             .map(Map.Entry::getValue);
     }
 
+    /**
+     * Checks if an implementation of {@link AbstractTrackerHandler} exists that matches the wanted {@code trackerName}, and returns its {@link Class}.
+     *
+     * @param trackerName the name of the tracker for which we want a {@link AbstractTrackerHandler}
+     * @return {@link Optional} {@link Class} of the {@link AbstractTrackerHandler} for a matching {@code trackerName}
+     */
+    public static Optional<Class<?>> findMatchingHandlerClass(final String trackerName) {
+        return Optional.ofNullable(TRACKER_HANDLES_BY_NAME.get(trackerName.toLowerCase(Locale.ROOT)))
+            .map(Map.Entry::getKey);
+    }
+
     /**
      * Finds an implementation of {@link AbstractTrackerHandler} that matches the wanted {@code trackerName}, and returns an instance of it.
      * Implementations of {@link AbstractTrackerHandler} should be annotated by at least one {@link TrackerHandler}, which contains a
-     * {@link TrackerHandler#name()}, which should match the input (the match is case-insensitive).
+     * {@link TrackerHandler#name()}, which should match the input (the match is case-insensitive). The URLs of the {@link TrackerDefinition} are
+     * ordered by the {@link TrackerUrlRanking}.
      *
      * @param trackerName the name of the tracker for which we want a {@link AbstractTrackerHandler}
      * @return an instance of the matching {@link AbstractTrackerHandler}
@@ -74,14 +87,37 @@ public final class TrackerHandlerFactory {
      * @throws NoSuchElementException thrown if no valid {@link AbstractTrackerHandler} implementation could be found
      */
     public static AbstractTrackerHandler getHandler(final String trackerName) {
+        final Map.Entry<Class<?>, TrackerHandler> entry = getHandlerEntry(trackerName);
+        final TrackerDefinition trackerDefinition = TrackerUrlRanking.apply(TrackerDefinition.fromAnnotation(entry.getValue()));
+        return makeNewInstance(entry.getKey(), trackerDefinition);
+    }
+
+    /**
+     * Similar to {@link #getHandler(String)}, but the {@link AbstractTrackerHandler} is executed as the provided {@link TrackerType}, rather than
+     * the {@link TrackerHandler#type()} it was defined with.
+     *
+     * @param trackerName   the name of the tracker for which we want a {@link AbstractTrackerHandler}
+     * @param executionType the {@link TrackerType} to execute the tracker as
+     * @return an instance of the matching {@link AbstractTrackerHandler}
+     * @throws IllegalStateException  thrown if an error occurred when instantiating the {@link AbstractTrackerHandler}
+     * @throws NoSuchElementException thrown if no valid {@link AbstractTrackerHandler} implementation could be found
+     * @see #getHandler(String)
+     */
+    public static AbstractTrackerHandler getHandler(final String trackerName, final TrackerType executionType) {
+        final Map.Entry<Class<?>, TrackerHandler> entry = getHandlerEntry(trackerName);
+        final TrackerDefinition annotatedDefinition = TrackerUrlRanking.apply(TrackerDefinition.fromAnnotation(entry.getValue()));
+        final TrackerDefinition trackerDefinition =
+            new TrackerDefinition(annotatedDefinition.name(), executionType, annotatedDefinition.urls());
+        return makeNewInstance(entry.getKey(), trackerDefinition);
+    }
+
+    private static Map.Entry<Class<?>, TrackerHandler> getHandlerEntry(final String trackerName) {
         final var entry = TRACKER_HANDLES_BY_NAME.get(trackerName.toLowerCase(Locale.ROOT));
         if (entry == null) {
             throw new NoSuchElementException(
                 "Unable to find %s with name '%s'".formatted(TrackerHandler.class.getSimpleName(), trackerName));
         }
-
-        final TrackerDefinition trackerDefinition = TrackerDefinition.fromAnnotation(entry.getValue());
-        return makeNewInstance(entry.getKey(), trackerDefinition);
+        return entry;
     }
 
     private static Map<String, Map.Entry<Class<?>, TrackerHandler>> buildHandlerMap() {
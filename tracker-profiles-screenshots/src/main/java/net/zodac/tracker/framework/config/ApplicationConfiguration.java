@@ -44,37 +44,54 @@ import org.apache.logging.log4j.Logger;
 /**
  * Utility file that loads the application configuration from environment variables.
  *
- * @param browserDataStoragePath         the file path in which to store browser data (profiles, caches, etc.)
- * @param browserDimensions              the dimensions in the format {@code width,height} for the {@code Selenium} web browser
- * @param csvCommentSymbol               the {@code char} defining a comment row in the CSV file
- * @param enableAdultContent             whether to enable screenshots for trackers primarily hosting adult content
- * @param enableTranslationToEnglish     whether to translate non-English {@link TrackerType}s to English
- * @param existingScreenshotAction       the {@link ExistingScreenshotAction} to perform when a screenshot exists for a tracker
- * @param failOnUnsupportedTracker       whether to fail if an unsupported tracker is found in the CSV file
- * @param forceUiBrowser                 whether to use a UI-based browser or not
- * @param inputTimeoutDuration           how long to wait for a user-input (if enabled)
- * @param inputTimeoutEnabled            whether a timeout for a user-input is enabled or not
- * @param logLevel                       the log level for the application, must be one of: {@code INFO, DEBUG, TRACE, WARNING, ERROR}
- * @param logTrackerName                 whether to prefix each log message with the name of the tracker being screenshotted
- * @param numberOfParallelThreads        the number of parallel browser threads to use for {@link TrackerType#HEADLESS} trackers
- * @param numberOfScreenshotAttempts     the number of times to attempt to screenshot a tracker
- * @param outputDirectory                the output {@link Path} to the directory within which the screenshots will be saved
- * @param progressBarCompleteCharacter   the character used to represent a completed portion of the progress bar
- * @param progressBarEnabled             whether to display a progress bar at the bottom of the console output
- * @param progressBarFormat              the format string for the progress bar
- * @param progressBarIncompleteCharacter the character used to represent an incomplete portion of the progress bar
- * @param progressBarLength              the length (in characters) of the progress bar
- * @param redactionTypes                 the {@link RedactionType}s to perform redaction of sensitive information on the user profile page, in order
- * @param takeScreenshotOnError          whether to take a screenshot of the current page if an error occurs during screenshotting
- * @param trackerExecutionOrder          the execution order of the different {@link TrackerType}s
- * @param trackerInputFilePath           the {@link Path} to the input tracker CSV file
+ * @param autoScaleParallelThreads        whether to resize the number of {@link TrackerType#HEADLESS} browser threads during execution
+ * @param browserContextsPerBrowser       the number of browser contexts to open in each shared browser
+ * @param browserDataStoragePath          the file path in which to store browser data (profiles, caches, etc.)
+ * @param browserDimensions               the dimensions in the format {@code width,height} for the {@code Selenium} web browser
+ * @param csvCommentSymbol                the {@code char} defining a comment row in the CSV file
+ * @param driverMaxMemoryMegabytes        the memory (in MB) of a pooled browser, above which it is replaced
+ * @param driverMaxUses                   the number of trackers a pooled browser can be used for, before it is replaced
+ * @param enableAdultContent              whether to enable screenshots for trackers primarily hosting adult content
+ * @param enableTranslationToEnglish      whether to translate non-English {@link TrackerType}s to English
+ * @param executeTrackerTypesConcurrently whether to execute each {@link TrackerType} concurrently, rather than one after another
+ * @param existingScreenshotAction        the {@link ExistingScreenshotAction} to perform when a screenshot exists for a tracker
+ * @param failOnUnsupportedTracker        whether to fail if an unsupported tracker is found in the CSV file
+ * @param forceUiBrowser                  whether to use a UI-based browser or not
+ * @param inputTimeoutDuration            how long to wait for a user-input (if enabled)
+ * @param inputTimeoutEnabled             whether a timeout for a user-input is enabled or not
+ * @param logLevel                        the log level for the application, must be one of: {@code INFO, DEBUG, TRACE, WARNING, ERROR}
+ * @param logTrackerName                  whether to prefix each log message with the name of the tracker being screenshotted
+ * @param numberOfParallelThreads         the number of parallel browser threads to use for {@link TrackerType#HEADLESS} trackers
+ * @param numberOfScreenshotAttempts      the number of times to attempt to screenshot a tracker
+ * @param outputDirectory                 the output {@link Path} to the directory within which the screenshots will be saved
+ * @param persistTrackerSessions          whether to save the encrypted session cookies of each tracker, to skip logging in and out on later runs
+ * @param probeTrackerUrls                whether to check that each tracker URL is reachable before launching any browsers
+ * @param progressBarCompleteCharacter    the character used to represent a completed portion of the progress bar
+ * @param progressBarEnabled              whether to display a progress bar at the bottom of the console output
+ * @param progressBarFormat               the format string for the progress bar
+ * @param progressBarIncompleteCharacter  the character used to represent an incomplete portion of the progress bar
+ * @param progressBarLength               the length (in characters) of the progress bar
+ * @param redactionTypes                  the {@link RedactionType}s to perform redaction of sensitive information on the user profile page, in order
+ * @param renderRedactionsInJava          whether all redaction types are rendered from a single screenshot, instead of one screenshot each
+ * @param reuseCloudflareClearance        whether to first try Cloudflare trackers with a saved session in the headless browsers
+ * @param sessionStorePassphrase          the passphrase to encrypt the saved session cookies, required if {@code persistTrackerSessions} is enabled
+ * @param takeScreenshotOnError           whether to take a screenshot of the current page if an error occurs during screenshotting
+ * @param trackerExecutionOrder           the execution order of the different {@link TrackerType}s
+ * @param trackerInputFilePath            the {@link Path} to the input tracker CSV file
+ * @param useBrowserContexts              whether {@link TrackerType#HEADLESS} trackers share browsers, each using an isolated browser context
+ * @param useHeadlessShell                whether {@link TrackerType#HEADLESS} trackers use {@code chrome-headless-shell}, if it is installed
  */
 public record ApplicationConfiguration(
+    boolean autoScaleParallelThreads,
+    int browserContextsPerBrowser,
     String browserDataStoragePath,
     String browserDimensions,
     char csvCommentSymbol,
+    int driverMaxMemoryMegabytes,
+    int driverMaxUses,
     boolean enableAdultContent,
     boolean enableTranslationToEnglish,
+    boolean executeTrackerTypesConcurrently,
     ExistingScreenshotAction existingScreenshotAction,
     boolean failOnUnsupportedTracker,
     boolean forceUiBrowser,
@@ -85,15 +102,22 @@ public record ApplicationConfiguration(
     int numberOfParallelThreads,
     int numberOfScreenshotAttempts,
     Path outputDirectory,
+    boolean persistTrackerSessions,
+    boolean probeTrackerUrls,
     char progressBarCompleteCharacter,
     boolean progressBarEnabled,
     String progressBarFormat,
     char progressBarIncompleteCharacter,
     int progressBarLength,
     Set<RedactionType> redactionTypes,
+    boolean renderRedactionsInJava,
+    boolean reuseCloudflareClearance,
+    String sessionStorePassphrase,
     boolean takeScreenshotOnError,
     Set<TrackerType> trackerExecutionOrder,
-    Path trackerInputFilePath
+    Path trackerInputFilePath,
+    boolean useBrowserContexts,
+    boolean useHeadlessShell
 ) {
 
     private static final Logger LOGGER = LogManager.getLogger();
@@ -136,11 +160,16 @@ public record ApplicationConfiguration(
      */
     public static ApplicationConfiguration load() {
         final ApplicationConfiguration applicationConfiguration = new ApplicationConfiguration(
+            getBooleanEnvironmentVariable("AUTO_SCALE_PARALLEL_THREADS", false),
+            getBrowserContextsPerBrowser(),
             BROWSER_DATA_STORAGE_PATH,
             getBrowserDimensions(),
             getCsvCommentSymbol(),
+            getDriverMaxMemoryMegabytes(),
+            getDriverMaxUses(),
             getBooleanEnvironmentVariable("ENABLE_ADULT_TRACKERS", true),
             getBooleanEnvironmentVariable("ENABLE_TRANSLATION_TO_ENGLISH", true),
+            getBooleanEnvironmentVariable("EXECUTE_TRACKER_TYPES_CONCURRENTLY", false),
             getScreenshotExistsAction(),
             getBooleanEnvironmentVariable("FAIL_ON_UNSUPPORTED_TRACKER", true),
             getBooleanEnvironmentVariable("FORCE_UI_BROWSER", false),
@@ -151,15 +180,22 @@ public record ApplicationConfiguration(
             getNumberOfParallelThreads(),
             getNumberOfScreenshotAttempts(),
             getOutputDirectory(),
+            getBooleanEnvironmentVariable("PERSIST_TRACKER_SESSIONS", false),
+            getBooleanEnvironmentVariable("PROBE_TRACKER_URLS", true),
             getProgressBarCompleteCharacter(),
             getBooleanEnvironmentVariable("PROGRESS_BAR_ENABLED", true),
             getProgressBarFormat(),
             getProgressBarIncompleteCharacter(),
             getProgressBarLength(),
             getRedactionTypes(),
+            getBooleanEnvironmentVariable("RENDER_REDACTIONS_IN_JAVA", false),
+            getBooleanEnvironmentVariable("REUSE_CLOUDFLARE_CLEARANCE", true),
+            getOrDefault("SESSION_STORE_PASSPHRASE", ""),
             getBooleanEnvironmentVariable("TAKE_SCREENSHOT_ON_ERROR", false),
             getTrackerExecutionOrder(),
-            getTrackerInputFilePath()
+            getTrackerInputFilePath(),
+            getBooleanEnvironmentVariable("USE_BROWSER_CONTEXTS", false),
+            getBooleanEnvironmentVariable("USE_HEADLESS_SHELL", true)
         );
 
         if (applicationConfiguration.progressBarCompleteCharacter() == applicationConfiguration.progressBarIncompleteCharacter()) {
@@ -167,10 +203,19 @@ public record ApplicationConfiguration(
                 "[PROGRESS_BAR_COMPLETE_CHARACTER][PROGRESS_BAR_INCOMPLETE_CHARACTER] Values must not be the same character");
         }
 
+        if (applicationConfiguration.persistTrackerSessions() && applicationConfiguration.sessionStorePassphrase().isBlank()) {
+            throw new IllegalArgumentException("[PERSIST_TRACKER_SESSIONS][SESSION_STORE_PASSPHRASE] A passphrase is required to save sessions");
+        }
+
         applicationConfiguration.print();
         return applicationConfiguration;
     }
 
+    private static int getBrowserContextsPerBrowser() {
+        final String raw = getOrDefault("BROWSER_CONTEXTS_PER_BROWSER", "4");
+        return parseIntegerInRange(raw, "BROWSER_CONTEXTS_PER_BROWSER", 32);
+    }
+
     private static String getBrowserDimensions() {
         final String browserWidth = getOrDefault("BROWSER_WIDTH", DEFAULT_BROWSER_WIDTH);
         final String browserHeight = getOrDefault("BROWSER_HEIGHT", DEFAULT_BROWSER_HEIGHT);
@@ -188,6 +233,16 @@ public record ApplicationConfiguration(
         return getOrDefault("CSV_COMMENT_SYMBOL", DEFAULT_CSV_COMMENT_SYMBOL).charAt(0);
     }
 
+    private static int getDriverMaxMemoryMegabytes() {
+        final String raw = getOrDefault("DRIVER_MAX_MEMORY_MB", "2048");
+        return parseIntegerInRange(raw, "DRIVER_MAX_MEMORY_MB", Integer.MAX_VALUE);
+    }
+
+    private static int getDriverMaxUses() {
+        final String raw = getOrDefault("DRIVER_MAX_USES", "50");
+        return parseIntegerInRange(raw, "DRIVER_MAX_USES", Integer.MAX_VALUE);
+    }
+
     private static Duration getInputTimeoutDuration() {
         final String inputTimeoutSeconds = getOrDefault("INPUT_TIMEOUT_SECONDS", "300");
         final int inputTimeoutSecondsValidated = parseIntegerInRange(inputTimeoutSeconds, "INPUT_TIMEOUT_SECONDS", Integer.MAX_VALUE);
@@ -384,11 +439,16 @@ public record ApplicationConfiguration(
 
     private void print() {
         LOGGER.debug("Loaded application configuration:");
+        LOGGER.debug("\t- autoScaleParallelThreads={}", autoScaleParallelThreads);
+        LOGGER.debug("\t- browserContextsPerBrowser={}", browserContextsPerBrowser);
         LOGGER.debug("\t- browserDataStoragePath={}", browserDataStoragePath);
         LOGGER.debug("\t- browserDimensions={}", browserDimensions);
         LOGGER.debug("\t- csvCommentSymbol={}", csvCommentSymbol);
+        LOGGER.debug("\t- driverMaxMemoryMegabytes={}", driverMaxMemoryMegabytes);
+        LOGGER.debug("\t- driverMaxUses={}", driverMaxUses);
         LOGGER.debug("\t- enableAdultContent={}", enableAdultContent);
         LOGGER.debug("\t- enableTranslationToEnglish={}", enableTranslationToEnglish);
+        LOGGER.debug("\t- executeTrackerTypesConcurrently={}", executeTrackerTypesConcurrently);
         LOGGER.debug("\t- existingScreenshotAction={}", existingScreenshotAction);
         LOGGER.debug("\t- failOnUnsupportedTracker={}", failOnUnsupportedTracker);
         LOGGER.debug("\t- forceUiBrowser={}", forceUiBrowser);
@@ -399,14 +459,21 @@ public record ApplicationConfiguration(
         LOGGER.debug("\t- numberOfParallelThreads={}", numberOfParallelThreads);
         LOGGER.debug("\t- numberOfScreenshotAttempts={}", numberOfScreenshotAttempts);
         LOGGER.debug("\t- outputDirectory={}", outputDirectory);
+        LOGGER.debug("\t- persistTrackerSessions={}", persistTrackerSessions);
+        LOGGER.debug("\t- probeTrackerUrls={}", probeTrackerUrls);
         LOGGER.debug("\t- progressBarCompleteCharacter={}", progressBarCompleteCharacter);
         LOGGER.debug("\t- progressBarEnabled={}", progressBarEnabled);
         LOGGER.debug("\t- progressBarFormat={}", progressBarFormat);
         LOGGER.debug("\t- progressBarIncompleteCharacter={}", progressBarIncompleteCharacter);
         LOGGER.debug("\t- progressBarLength={}", progressBarLength);
         LOGGER.debug("\t- redactionTypes={}", redactionTypes);
+        LOGGER.debug("\t- sessionStorePassphrase={}", sessionStorePassphrase.isEmpty() ? "" : "********");
+        LOGGER.debug("\t- renderRedactionsInJava={}", renderRedactionsInJava);
+        LOGGER.debug("\t- reuseCloudflareClearance={}", reuseCloudflareClearance);
         LOGGER.debug("\t- takeScreenshotOnError={}", takeScreenshotOnError);
         LOGGER.debug("\t- trackerExecutionOrder={}", trackerExecutionOrder);
         LOGGER.debug("\t- trackerInputFilePath={}", trackerInputFilePath);
+        LOGGER.debug("\t- useBrowserContexts={}", useBrowserContexts);
+        LOGGER.debug("\t- useHeadlessShell={}", useHeadlessShell);
     }
 }
@@ -0,0 +1,116 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.context;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Holds the per-tracker execution context as {@link ScopedValue}s, rather than thread-locals.
+ *
+ * <p>
+ * Each tracker is executed on its own virtual thread, so the context is bound for the duration of the tracker's execution using
+ * {@link #callForTracker(String, String, ScopedValue.CallableOp)}, and for each attempt using {@link #callForAttempt(int, ScopedValue.CallableOp)}.
+ * The values are exposed to Log4j through {@link TrackerContextDataProvider}, so they can be referenced in the log pattern with {@code %X{tracker}}
+ * and {@code %X{attempt}}.
+ */
+public final class TrackerContext {
+
+    private static final String ATTEMPT_KEY = "attempt";
+    private static final String TRACKER_KEY = "tracker";
+
+    private static final ScopedValue<Integer> ATTEMPT = ScopedValue.newInstance();
+    private static final ScopedValue<String> LOG_PREFIX = ScopedValue.newInstance();
+    private static final ScopedValue<String> TRACKER_NAME = ScopedValue.newInstance();
+
+    private TrackerContext() {
+
+    }
+
+    /**
+     * Executes the {@code operation} with the tracker name and log prefix bound for its duration.
+     *
+     * @param trackerName the name of the tracker being executed
+     * @param logPrefix   the prefix for any log messages for this tracker, or an empty {@link String} for no prefix
+     * @param operation   the operation to execute
+     * @param <R>         the result type of the {@code operation}
+     * @param <X>         the type of {@link Throwable} thrown by the {@code operation}
+     * @return the result of the {@code operation}
+     * @throws X thrown if the {@code operation} fails
+     */
+    public static <R, X extends Throwable> R callForTracker(final String trackerName, final String logPrefix,
+                                                            final ScopedValue.CallableOp<R, X> operation) throws X {
+        return ScopedValue
+            .where(TRACKER_NAME, trackerName)
+            .where(LOG_PREFIX, logPrefix)
+            .call(operation);
+    }
+
+    /**
+     * Executes the {@code operation} with the attempt number bound for its duration.
+     *
+     * @param attempt   the attempt number for the current tracker
+     * @param operation the operation to execute
+     * @param <R>       the result type of the {@code operation}
+     * @param <X>       the type of {@link Throwable} thrown by the {@code operation}
+     * @return the result of the {@code operation}
+     * @throws X thrown if the {@code operation} fails
+     */
+    public static <R, X extends Throwable> R callForAttempt(final int attempt, final ScopedValue.CallableOp<R, X> operation) throws X {
+        return ScopedValue
+            .where(ATTEMPT, attempt)
+            .call(operation);
+    }
+
+    /**
+     * Retrieves the name of the tracker currently being executed.
+     *
+     * @return the tracker name, or {@link Optional#empty()} if not executing within a tracker context
+     */
+    public static Optional<String> trackerName() {
+        return TRACKER_NAME.isBound() ? Optional.of(TRACKER_NAME.get()) : Optional.empty();
+    }
+
+    /**
+     * Retrieves the attempt number of the tracker currently being executed.
+     *
+     * @return the attempt number, or {@link Optional#empty()} if not executing within an attempt
+     */
+    public static Optional<Integer> attempt() {
+        return ATTEMPT.isBound() ? Optional.of(ATTEMPT.get()) : Optional.empty();
+    }
+
+    /**
+     * Converts the currently bound context into a {@link Map} to be used by Log4j.
+     *
+     * @return the context data, or an empty {@link Map} if not executing within a tracker context
+     */
+    static Map<String, String> contextData() {
+        if (!LOG_PREFIX.isBound()) {
+            return Map.of();
+        }
+
+        final Map<String, String> contextData = HashMap.newHashMap(2);
+        contextData.put(TRACKER_KEY, LOG_PREFIX.get());
+        if (ATTEMPT.isBound()) {
+            contextData.put(ATTEMPT_KEY, String.valueOf(ATTEMPT.get()));
+        }
+        return contextData;
+    }
+}
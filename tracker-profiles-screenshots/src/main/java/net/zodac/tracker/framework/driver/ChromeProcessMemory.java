@@ -0,0 +1,191 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.driver;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jspecify.annotations.Nullable;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+/**
+ * Measures the memory used by the Chrome browser behind a {@link RemoteWebDriver}.
+ *
+ * <p>
+ * On Linux, the browser process is found in {@code /proc} by its {@code --user-data-dir} argument, and the resident memory of the browser and all of
+ * its child processes (renderers, GPU, utility, etc.) is summed. If {@code /proc} is not available, the JavaScript heap size reported by the CDP
+ * {@code Performance.getMetrics} command is used instead, which only covers the current page.
+ */
+final class ChromeProcessMemory {
+
+    /**
+     * The value returned when the memory of the browser could not be measured.
+     */
+    static final long UNKNOWN = -1L;
+
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final Path PROC_DIRECTORY = Path.of("/proc");
+    private static final String USER_DATA_DIR_ARGUMENT = "--user-data-dir=";
+    private static final String RESIDENT_MEMORY_PREFIX = "VmRSS:";
+    private static final String JS_HEAP_METRIC = "JSHeapTotalSize";
+    private static final long BYTES_PER_KILOBYTE = 1024L;
+
+    private ChromeProcessMemory() {
+
+    }
+
+    /**
+     * Measures the memory used by the browser of the provided {@link RemoteWebDriver}.
+     *
+     * @param driver      the {@link RemoteWebDriver}
+     * @param userDataDir the user-data directory of the browser, or {@code null} if unknown
+     * @return the memory used in bytes, or {@link #UNKNOWN}
+     */
+    static long measure(final RemoteWebDriver driver, final @Nullable Path userDataDir) {
+        if (userDataDir != null && Files.isDirectory(PROC_DIRECTORY)) {
+            final long residentBytes = residentBytes(userDataDir);
+            if (residentBytes != UNKNOWN) {
+                return residentBytes;
+            }
+        }
+        return javaScriptHeapBytes(driver);
+    }
+
+    private static long residentBytes(final Path userDataDir) {
+        final String userDataDirArgument = USER_DATA_DIR_ARGUMENT + userDataDir;
+        final Map<Long, List<Long>> childrenByParent = new HashMap<>();
+        final Set<Long> browserProcesses = new HashSet<>();
+
+        try (final Stream<Path> processDirectories = Files.list(PROC_DIRECTORY)) {
+            for (final Path processDirectory : processDirectories.filter(ChromeProcessMemory::isProcessDirectory).toList()) {
+                final long pid = Long.parseLong(processDirectory.getFileName().toString());
+                final long parentPid = parentPid(processDirectory);
+                if (parentPid != UNKNOWN) {
+                    childrenByParent.computeIfAbsent(parentPid, _ -> new ArrayList<>()).add(pid);
+                }
+                if (commandLine(processDirectory).contains(userDataDirArgument)) {
+                    browserProcesses.add(pid);
+                }
+            }
+        } catch (final IOException e) {
+            LOGGER.trace("Unable to list processes", e);
+            return UNKNOWN;
+        }
+
+        if (browserProcesses.isEmpty()) {
+            LOGGER.trace("No browser process found for '{}'", userDataDir);
+            return UNKNOWN;
+        }
+
+        return withDescendants(browserProcesses, childrenByParent)
+            .stream()
+            .mapToLong(ChromeProcessMemory::residentBytesOfProcess)
+            .sum();
+    }
+
+    private static boolean isProcessDirectory(final Path path) {
+        final String fileName = path.getFileName().toString();
+        return !fileName.isEmpty() && fileName.chars().allMatch(Character::isDigit);
+    }
+
+    private static Collection<Long> withDescendants(final Set<Long> processes, final Map<Long, List<Long>> childrenByParent) {
+        final Set<Long> allProcesses = new HashSet<>(processes);
+        final Deque<Long> toVisit = new ArrayDeque<>(processes);
+        while (!toVisit.isEmpty()) {
+            for (final Long child : childrenByParent.getOrDefault(toVisit.pop(), List.of())) {
+                if (allProcesses.add(child)) {
+                    toVisit.push(child);
+                }
+            }
+        }
+        return allProcesses;
+    }
+
+    private static String commandLine(final Path processDirectory) {
+        try {
+            // Arguments are separated by NUL characters
+            return new String(Files.readAllBytes(processDirectory.resolve("cmdline")), StandardCharsets.UTF_8).replace('\0', ' ');
+        } catch (final IOException e) {
+            LOGGER.trace("Unable to read command line of '{}'", processDirectory, e);
+            return "";
+        }
+    }
+
+    // The command name in /proc/<pid>/stat may contain spaces or brackets, so the fields are read after its closing bracket
+    private static long parentPid(final Path processDirectory) {
+        try {
+            final String stat = Files.readString(processDirectory.resolve("stat"), StandardCharsets.UTF_8);
+            final String[] fields = stat.substring(stat.lastIndexOf(')') + 2).split(" ");
+            return Long.parseLong(fields[1]);
+        } catch (final IOException | RuntimeException e) {
+            LOGGER.trace("Unable to read parent of '{}'", processDirectory, e);
+            return UNKNOWN;
+        }
+    }
+
+    private static long residentBytesOfProcess(final long pid) {
+        try (final Stream<String> lines = Files.lines(PROC_DIRECTORY.resolve(Long.toString(pid)).resolve("status"), StandardCharsets.UTF_8)) {
+            return lines
+                .filter(line -> line.startsWith(RESIDENT_MEMORY_PREFIX))
+                .findFirst()
+                .map(line -> Long.parseLong(line.substring(RESIDENT_MEMORY_PREFIX.length()).replace("kB", "").trim()) * BYTES_PER_KILOBYTE)
+                .orElse(0L);
+        } catch (final IOException | RuntimeException e) {
+            // The process may have exited since the processes were listed
+            LOGGER.trace("Unable to read memory of process {}", pid, e);
+            return 0L;
+        }
+    }
+
+    private static long javaScriptHeapBytes(final RemoteWebDriver driver) {
+        if (!(driver instanceof final HasCdp cdpDriver)) {
+            return UNKNOWN;
+        }
+
+        try {
+            cdpDriver.executeCdpCommand("Performance.enable", Map.of());
+            final Object metrics = cdpDriver.executeCdpCommand("Performance.getMetrics", Map.of()).get("metrics");
+            if (metrics instanceof final List<?> metricList) {
+                for (final Object metric : metricList) {
+                    if (metric instanceof final Map<?, ?> metricMap && JS_HEAP_METRIC.equals(metricMap.get("name"))
+                        && metricMap.get("value") instanceof final Number value) {
+                        return value.longValue();
+                    }
+                }
+            }
+        } catch (final WebDriverException e) {
+            LOGGER.trace("Unable to read performance metrics", e);
+        }
+        return UNKNOWN;
+    }
+}
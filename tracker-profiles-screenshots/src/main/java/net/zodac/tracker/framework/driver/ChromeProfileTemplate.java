@@ -0,0 +1,177 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.driver;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+/**
+ * A Chrome user-data directory which has already been initialised by a browser launch, used as the starting profile of each new browser.
+ *
+ * <p>
+ * A new browser with an empty user-data directory has to create its profile (preferences, local state, databases, etc.) before it can be used.
+ * Instead, the template is built once and copied into each new user-data directory, so each browser starts with an existing profile. The template is
+ * kept between executions, and is only rebuilt if the fingerprint of the browser options that affect the profile changes.
+ *
+ * <p>
+ * Where possible, files are copied with {@code cp --reflink=auto}, so filesystems supporting copy-on-write share the data blocks until a browser
+ * modifies them. Hardlinks are not used, since Chrome updates its profile databases in place, which would modify the template and every other
+ * browser's profile.
+ */
+final class ChromeProfileTemplate {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final String FINGERPRINT_FILE_NAME = "template-fingerprint";
+    private static final String LOCK_FILE_PREFIX = "Singleton";
+    private static final String STAGING_DIRECTORY_SUFFIX = ".staging";
+    private static final Duration COPY_TIMEOUT = Duration.ofSeconds(30);
+
+    private final Lock lock = new ReentrantLock();
+    private final AtomicBoolean canUseReflinkCopy = new AtomicBoolean(true);
+    private final Path templateDirectory;
+    private boolean prepared;
+    private boolean available;
+
+    /**
+     * Constructor for {@link ChromeProfileTemplate}.
+     *
+     * @param templateDirectory the {@link Path} of the template user-data directory
+     */
+    ChromeProfileTemplate(final Path templateDirectory) {
+        this.templateDirectory = templateDirectory;
+    }
+
+    /**
+     * Ensures the template exists and matches the {@code fingerprint}, building it with the {@code launcher} if needed. This is only checked once per
+     * execution, with any later calls returning the initial result.
+     *
+     * @param fingerprint the fingerprint of the browser options that affect the profile
+     * @param launcher    launches a browser using the provided user-data directory, throwing an {@link IllegalStateException} if it could not be
+     *                    fully initialised
+     * @return {@code true} if the template is available to be copied
+     */
+    boolean prepare(final String fingerprint, final Function<Path, RemoteWebDriver> launcher) {
+        lock.lock();
+        try {
+            if (!prepared) {
+                prepared = true;
+                available = isUpToDate(fingerprint) || build(fingerprint, launcher);
+            }
+            return available;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isUpToDate(final String fingerprint) {
+        try {
+            final boolean upToDate = fingerprint.equals(Files.readString(templateDirectory.resolve(FINGERPRINT_FILE_NAME), StandardCharsets.UTF_8));
+            LOGGER.trace("Chrome profile template at '{}' is {}", templateDirectory, upToDate ? "up to date" : "outdated");
+            return upToDate;
+        } catch (final IOException e) {
+            LOGGER.trace("No Chrome profile template found at '{}'", templateDirectory, e);
+            return false;
+        }
+    }
+
+    private boolean build(final String fingerprint, final Function<Path, RemoteWebDriver> launcher) {
+        final Path stagingDirectory = templateDirectory.resolveSibling(templateDirectory.getFileName() + STAGING_DIRECTORY_SUFFIX);
+        LOGGER.debug("Building Chrome profile template at '{}'", templateDirectory);
+
+        try {
+            JavaWebDriverFactory.deleteDirectory(stagingDirectory);
+            final RemoteWebDriver driver = launcher.apply(stagingDirectory);
+            driver.quit();  // Chrome only writes some of the profile on exit
+
+            Files.writeString(stagingDirectory.resolve(FINGERPRINT_FILE_NAME), fingerprint, StandardCharsets.UTF_8);
+            JavaWebDriverFactory.deleteDirectory(templateDirectory);
+            Files.move(stagingDirectory, templateDirectory, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (final IOException | IllegalStateException | WebDriverException e) {
+            LOGGER.debug("Unable to build Chrome profile template at '{}'", templateDirectory, e);
+            LOGGER.warn("Unable to build Chrome profile template, browsers will start with an empty profile: {}", e.getMessage());
+            JavaWebDriverFactory.deleteDirectory(stagingDirectory);
+            return false;
+        }
+    }
+
+    /**
+     * Copies the template into the provided user-data directory. Should only be called if {@link #prepare(String, Function)} returned {@code true}.
+     *
+     * @param userDataDir the user-data directory for a new browser
+     * @throws IOException thrown if the template could not be copied
+     */
+    void copyTo(final Path userDataDir) throws IOException {
+        Files.createDirectories(userDataDir);
+        if (canUseReflinkCopy.get() && copyWithReflink(userDataDir)) {
+            return;
+        }
+
+        try (final Stream<Path> templateFiles = Files.walk(templateDirectory)) {
+            for (final Path templateFile : templateFiles.toList()) {
+                final Path targetFile = userDataDir.resolve(templateDirectory.relativize(templateFile).toString());
+                if (Files.isDirectory(templateFile)) {
+                    Files.createDirectories(targetFile);
+                } else if (!templateFile.getFileName().toString().startsWith(LOCK_FILE_PREFIX)) {
+                    Files.copy(templateFile, targetFile, StandardCopyOption.COPY_ATTRIBUTES, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        }
+    }
+
+    // Falls back to a Java copy if 'cp' does not support '--reflink' (e.g. non-GNU 'cp'), and does not try again for later browsers
+    private boolean copyWithReflink(final Path userDataDir) {
+        final List<String> command = List.of("cp", "-a", "--reflink=auto", templateDirectory + "/.", userDataDir.toString());
+        try {
+            final Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+            if (process.waitFor(COPY_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS) && process.exitValue() == 0) {
+                return true;
+            }
+
+            process.destroyForcibly();
+            LOGGER.debug("Unable to copy Chrome profile template with '{}', using a standard copy", String.join(" ", command));
+        } catch (final IOException e) {
+            LOGGER.debug("Unable to copy Chrome profile template with '{}', using a standard copy", String.join(" ", command), e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.debug("Interrupted while copying Chrome profile template", e);
+            return false;
+        }
+
+        canUseReflinkCopy.set(false);
+        return false;
+    }
+}
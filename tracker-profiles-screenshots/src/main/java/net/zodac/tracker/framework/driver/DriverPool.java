@@ -17,27 +17,34 @@
 
 package net.zodac.tracker.framework.driver;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.BlockingDeque;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import net.zodac.tracker.framework.TrackerType;
+import net.zodac.tracker.framework.config.ApplicationConfiguration;
+import net.zodac.tracker.framework.config.Configuration;
 import net.zodac.tracker.framework.driver.extension.Extension;
 import net.zodac.tracker.util.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.jspecify.annotations.Nullable;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.remote.RemoteWebDriver;
 
 /**
@@ -45,25 +52,48 @@ import org.openqa.selenium.remote.RemoteWebDriver;
  *
  * <p>
  * Trackers that do not require browser extensions share a pool of drivers per {@link TrackerType}. Trackers that implement
- * {@link net.zodac.tracker.handler.definition.UsesExtensions} always receive a fresh driver on each call to {@link #acquire(TrackerType, List)}.
+ * {@link net.zodac.tracker.handler.definition.UsesExtensions} share a separate pool of drivers, keyed by the {@link TrackerType} and the
+ * {@link Extension#configurationKey()} of each {@link Extension}. These drivers are only created when no idle driver with the same
+ * {@link Extension}s is available, and are kept for reuse once released.
+ *
+ * <p>
+ * If {@link ApplicationConfiguration#useBrowserContexts()} is enabled, each pooled {@link TrackerType#HEADLESS} driver is a browser context within a
+ * shared browser (see {@link SharedBrowserContexts}) rather than its own browser. This does not change how drivers are acquired or released.
  *
  * <p>
  * Call {@link #initialise(TrackerType, int, int)} once per {@link TrackerType} before execution of that type begins to pre-create its pooled drivers.
  * Callers then acquire a driver via {@link #acquire(TrackerType, List)}, use it, and return it via {@link #release(RemoteWebDriver)}.
  *
  * <p>
+ * Different {@link TrackerType}s may be initialised and executed concurrently, so all shared state is guarded by a single {@link Lock}.
+ *
+ * <p>
  * Call {@link #shutdown()} once all work has completed.
  */
 public final class DriverPool {
 
+    private static final ApplicationConfiguration CONFIG = Configuration.get();
     private static final Logger LOGGER = LogManager.getLogger();
+    private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
     private static final String DEFAULT_BROWSER_PAGE = "about:blank";
+    private static final Duration ACQUIRE_POLL_INTERVAL = Duration.ofSeconds(1L);
+    private static final Thread.Builder DRIVER_LAUNCHER = Thread.ofVirtual().name("driver-launcher-", 0L);
+    private static final Thread.Builder DRIVER_RESETTER = Thread.ofVirtual().name("driver-resetter-", 0L);
 
     private final Lock lock = new ReentrantLock();
-    private final AtomicInteger remainingTasks = new AtomicInteger(0);
+    private final AtomicBoolean staleUserDataDirsSwept = new AtomicBoolean(false);
+    private final Map<TrackerType, AtomicInteger> remainingTasks = new EnumMap<>(TrackerType.class);
+    private final Map<TrackerType, AtomicInteger> pendingLaunches = new EnumMap<>(TrackerType.class);
+    private final Map<TrackerType, Integer> targetPoolSizes = new EnumMap<>(TrackerType.class);
+    private final List<Thread> backgroundThreads = new ArrayList<>();
     private final Map<TrackerType, BlockingDeque<RemoteWebDriver>> pool = new EnumMap<>(TrackerType.class);
     private final Set<RemoteWebDriver> allPooledDrivers = Collections.newSetFromMap(new IdentityHashMap<>());
     private final Map<RemoteWebDriver, TrackerType> driverTypeMap = new IdentityHashMap<>();
+    private final AtomicInteger nextDriverId = new AtomicInteger(0);
+    private final Map<RemoteWebDriver, DriverStatistics> liveDriverStatistics = new IdentityHashMap<>();
+    private final List<DriverStatistics> finishedDriverStatistics = new ArrayList<>();
+    private final Map<String, BlockingDeque<RemoteWebDriver>> idleExtensionDrivers = new HashMap<>();
+    private final Map<RemoteWebDriver, String> extensionDriverKeys = new IdentityHashMap<>();
 
     private DriverPool() {
 
@@ -81,11 +111,15 @@ public final class DriverPool {
      * Pre-creates pooled {@link RemoteWebDriver} instances for the provided {@link TrackerType}.
      *
      * <p>
-     * {@code numberOfParallelThreads} drivers are created and added to the pool. Each driver is registered so that {@link #release(RemoteWebDriver)}
-     * can return it correctly.
+     * {@code numberOfParallelThreads} drivers are launched in the background, and each is added to the pool as soon as it is ready. This method does
+     * not wait for the launches to complete, so {@link #acquire(TrackerType, List)} can hand out the first ready driver while the slower launches are
+     * still in progress. Each driver is registered so that {@link #release(RemoteWebDriver)} can return it correctly. A failed launch is logged and
+     * the pool continues with the remaining drivers.
      *
      * <p>
-     * This method must be called once per {@link TrackerType}, before any call to {@link #acquire(TrackerType, List)} for that type.
+     * This method must be called once per {@link TrackerType}, before any call to {@link #acquire(TrackerType, List)} for that type. If it is called
+     * again for a {@link TrackerType} that is already initialised, the existing pooled drivers are reused and only the {@code numberOfTrackers} are
+     * added to the remaining tasks.
      *
      * @param trackerType             the {@link TrackerType} to initialise
      * @param numberOfParallelThreads the number of pooled drivers to create
@@ -93,66 +127,197 @@ public final class DriverPool {
      */
     public static void initialise(final TrackerType trackerType, final int numberOfParallelThreads, final int numberOfTrackers) {
         final DriverPool instance = get();
+        if (addTasksToExistingPool(instance, trackerType, numberOfTrackers)) {
+            LOGGER.debug("Reusing pooled {} drivers for {} additional tracker{}", trackerType.formattedName(), numberOfTrackers,
+                StringUtils.pluralise(numberOfTrackers));
+            return;
+        }
+
         final int count = (trackerType == TrackerType.HEADLESS) ? numberOfParallelThreads : 1;
         LOGGER.debug("Initializing {} pooled {} driver{}", count, trackerType.formattedName(), StringUtils.pluralise(count));
-        JavaWebDriverFactory.sweepStaleUserDataDirs();
-
-        final List<RemoteWebDriver> drivers = new ArrayList<>(count);
-        try (final ExecutorService executor = Executors.newFixedThreadPool(count)) {
-            final List<Future<RemoteWebDriver>> futures =
-                executor.invokeAll(Collections.nCopies(count, () -> JavaWebDriverFactory.createDriver(trackerType, List.of())));
-            for (final Future<RemoteWebDriver> future : futures) {
-                drivers.add(future.get());
-            }
-        } catch (final InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new IllegalStateException("Interrupted while initialising pooled %s drivers".formatted(trackerType.formattedName()), e);
-        } catch (final ExecutionException e) {
-            throw new IllegalStateException("Failed to create pooled %s driver".formatted(trackerType.formattedName()), e);
+
+        // Only sweep once, otherwise a concurrent initialisation for another type could delete a directory for a driver still being launched
+        if (instance.staleUserDataDirsSwept.compareAndSet(false, true)) {
+            JavaWebDriverFactory.sweepStaleUserDataDirs();
         }
 
         final BlockingDeque<RemoteWebDriver> deque = new LinkedBlockingDeque<>();
-        for (final RemoteWebDriver driver : drivers) {
+        instance.lock.lock();
+        try {
+            instance.pool.put(trackerType, deque);
+            instance.remainingTasks.put(trackerType, new AtomicInteger(numberOfTrackers));
+            instance.pendingLaunches.put(trackerType, new AtomicInteger(count));
+            instance.targetPoolSizes.put(trackerType, count);
+        } finally {
+            instance.lock.unlock();
+        }
+
+        for (int i = 0; i < count; i++) {
+            startBackgroundThread(instance, DRIVER_LAUNCHER, () -> launchPooledDriver(instance, trackerType, deque));
+        }
+    }
+
+    private static void launchPooledDriver(final DriverPool instance, final TrackerType trackerType, final BlockingDeque<RemoteWebDriver> deque) {
+        try {
+            final RemoteWebDriver driver = createPooledDriver(trackerType);
+            final boolean surplus;
+            instance.lock.lock();
+            try {
+                surplus = countPooledDrivers(instance, trackerType) >= targetPoolSize(instance, trackerType);
+                if (!surplus) {
+                    instance.allPooledDrivers.add(driver);
+                    trackDriver(instance, driver, trackerType);
+                }
+            } finally {
+                instance.lock.unlock();
+            }
+
+            if (surplus) {
+                LOGGER.debug("Pool was resized while launching, quitting surplus {} driver", trackerType.formattedName());
+                quitQuietly(driver);
+                return;
+            }
             deque.addLast(driver);
-            instance.allPooledDrivers.add(driver);
-            instance.driverTypeMap.put(driver, trackerType);
+            LOGGER.trace("Pooled {} driver ready", trackerType.formattedName());
+        } catch (final RuntimeException e) {
+            LOGGER.debug("Failed to create pooled {} driver", trackerType.formattedName(), e);
+            LOGGER.warn("Failed to create pooled {} driver: {}", trackerType.formattedName(), e.getMessage());
+        } finally {
+            completePendingLaunch(instance, trackerType);
+        }
+    }
+
+    private static void completePendingLaunch(final DriverPool instance, final TrackerType trackerType) {
+        instance.lock.lock();
+        try {
+            final AtomicInteger pending = instance.pendingLaunches.get(trackerType);
+            if (pending != null) {
+                pending.decrementAndGet();
+            }
+        } finally {
+            instance.lock.unlock();
+        }
+    }
+
+    /**
+     * Resizes the pool of an initialised {@link TrackerType}.
+     *
+     * <p>
+     * When growing, the additional drivers are launched in the background and added to the pool once ready, as in
+     * {@link #initialise(TrackerType, int, int)}. When shrinking, idle drivers are quit immediately, and any drivers in use are quit when they are
+     * next released, until the pool is back within its new size.
+     *
+     * @param trackerType the {@link TrackerType} of the pool to resize
+     * @param targetSize  the new number of pooled drivers
+     */
+    public static void resize(final TrackerType trackerType, final int targetSize) {
+        final DriverPool instance = get();
+        final BlockingDeque<RemoteWebDriver> deque;
+        final int driversToLaunch;
+        instance.lock.lock();
+        try {
+            deque = instance.pool.get(trackerType);
+            final AtomicInteger pending = instance.pendingLaunches.get(trackerType);
+            if (deque == null || pending == null) {
+                LOGGER.warn("No pool found for type {}, cannot resize", trackerType.formattedName());
+                return;
+            }
+
+            instance.targetPoolSizes.put(trackerType, targetSize);
+            driversToLaunch = Math.max(0, targetSize - countPooledDrivers(instance, trackerType) - pending.get());
+            pending.addAndGet(driversToLaunch);
+        } finally {
+            instance.lock.unlock();
+        }
+
+        LOGGER.trace("Resizing pooled {} drivers to {}", trackerType.formattedName(), targetSize);
+        for (int i = 0; i < driversToLaunch; i++) {
+            startBackgroundThread(instance, DRIVER_LAUNCHER, () -> launchPooledDriver(instance, trackerType, deque));
+        }
+
+        while (true) {
+            final RemoteWebDriver idleDriver = deque.pollLast();
+            if (idleDriver == null) {
+                return;
+            }
+
+            if (!removeIfSurplus(instance, idleDriver)) {
+                deque.addLast(idleDriver);
+                return;
+            }
+            quitQuietly(idleDriver);
+        }
+    }
+
+    // Must be called while holding the lock
+    private static int countPooledDrivers(final DriverPool instance, final TrackerType trackerType) {
+        return (int) instance.allPooledDrivers.stream()
+            .filter(driver -> instance.driverTypeMap.get(driver) == trackerType)
+            .count();
+    }
+
+    // Must be called while holding the lock
+    private static int targetPoolSize(final DriverPool instance, final TrackerType trackerType) {
+        return instance.targetPoolSizes.getOrDefault(trackerType, Integer.MAX_VALUE);
+    }
+
+    private static boolean removeIfSurplus(final DriverPool instance, final RemoteWebDriver driver) {
+        instance.lock.lock();
+        try {
+            final TrackerType type = instance.driverTypeMap.get(driver);
+            if (type == null || countPooledDrivers(instance, type) <= targetPoolSize(instance, type)) {
+                return false;
+            }
+
+            untrackDriver(instance, driver);
+            instance.driverTypeMap.remove(driver);
+            instance.allPooledDrivers.remove(driver);
+            return true;
+        } finally {
+            instance.lock.unlock();
+        }
+    }
+
+    // The excluded launches are pending launches made by the caller, which should not count towards the target size
+    private static boolean isBelowTargetSize(final DriverPool instance, final TrackerType trackerType, final int excludedLaunches) {
+        instance.lock.lock();
+        try {
+            final AtomicInteger pending = instance.pendingLaunches.get(trackerType);
+            final int pendingLaunches = pending == null ? 0 : pending.get() - excludedLaunches;
+            return countPooledDrivers(instance, trackerType) + pendingLaunches < targetPoolSize(instance, trackerType);
+        } finally {
+            instance.lock.unlock();
         }
-        instance.pool.put(trackerType, deque);
-        instance.remainingTasks.set(numberOfTrackers);
     }
 
     /**
      * Acquires a {@link RemoteWebDriver} for a tracker.
      *
      * <p>
-     * If {@code extensions} is non-empty, a fresh driver is created with those {@link Extension}s installed at browser startup, then each
-     * {@link Extension#configure(RemoteWebDriver)} is called. This driver is not pooled and will be quit on {@link #release(RemoteWebDriver)}.
+     * If {@code extensions} is non-empty, an idle driver with the same {@link TrackerType} and {@link Extension}s is reused if one is available.
+     * Otherwise, a new driver is created with those {@link Extension}s installed and configured (see
+     * {@link JavaWebDriverFactory#createDriver(TrackerType, List)}). The driver will be kept for reuse on {@link #release(RemoteWebDriver)}.
      *
      * <p>
      * If {@code extensions} is empty, the pooled driver for the given {@link TrackerType} is returned, blocking until one is available. The
-     * driver will be returned to the pool on {@link #release(RemoteWebDriver)}.
+     * driver will be returned to the pool on {@link #release(RemoteWebDriver)}. If every pooled driver launch for the {@link TrackerType} has failed,
+     * an {@link IllegalStateException} is thrown rather than blocking indefinitely.
      *
      * @param trackerType the {@link TrackerType} controlling headless vs. UI execution
      * @param extensions  the {@link Extension}s to install and configure; an empty list requests a pooled driver
      * @return the {@link RemoteWebDriver}
      */
     public static RemoteWebDriver acquire(final TrackerType trackerType, final List<Extension> extensions) {
+        final DriverPool instance = get();
         if (!extensions.isEmpty()) {
-            LOGGER.trace("Creating fresh driver for extension-based {} tracker", trackerType);
-            final RemoteWebDriver driver = JavaWebDriverFactory.createDriver(trackerType, extensions);
-            for (final Extension extension : extensions) {
-                LOGGER.trace("Configuring extension {}", extension.getClass().getSimpleName());
-                extension.configure(driver);
-            }
-            return driver;
+            return acquireExtensionDriver(instance, trackerType, extensions);
         }
 
-        final DriverPool instance = get();
-        final BlockingDeque<RemoteWebDriver> deque = instance.pool.get(trackerType);
+        final BlockingDeque<RemoteWebDriver> deque = getDeque(instance, trackerType);
         if (deque != null) {
             LOGGER.trace("Acquiring pooled driver for type {}", trackerType);
             try {
-                return deque.takeFirst();
+                return takePooledDriver(instance, trackerType, deque);
             } catch (final InterruptedException e) {
                 Thread.currentThread().interrupt();
                 throw new IllegalStateException("Interrupted while waiting for pooled driver for type %s".formatted(trackerType), e);
@@ -161,11 +326,15 @@ public final class DriverPool {
 
         // Fallback: initialize() was not called — create a single driver lazily
         LOGGER.debug("No pool initialized for type {}, creating driver lazily", trackerType);
-        final RemoteWebDriver lazyDriver = JavaWebDriverFactory.createDriver(trackerType, List.of());
-        final BlockingDeque<RemoteWebDriver> newDeque = new LinkedBlockingDeque<>();
-        instance.allPooledDrivers.add(lazyDriver);
-        instance.driverTypeMap.put(lazyDriver, trackerType);
-        instance.pool.put(trackerType, newDeque);
+        final RemoteWebDriver lazyDriver = createPooledDriver(trackerType);
+        instance.lock.lock();
+        try {
+            instance.allPooledDrivers.add(lazyDriver);
+            trackDriver(instance, lazyDriver, trackerType);
+            instance.pool.putIfAbsent(trackerType, new LinkedBlockingDeque<>());
+        } finally {
+            instance.lock.unlock();
+        }
         return lazyDriver;
     }
 
@@ -173,81 +342,495 @@ public final class DriverPool {
      * Releases a {@link RemoteWebDriver} back to the pool.
      *
      * <p>
-     * Pooled drivers are navigated to {@link #DEFAULT_BROWSER_PAGE} to clear the current page state without quitting the browser, then
-     * returned to the pool for the next caller. Drivers not originally from the pool are simply {@link RemoteWebDriver#quit()}.
+     * Pooled drivers and drivers with {@link Extension}s are handed to a background thread, so the reset does not delay the calling tracker. The
+     * background thread clears the cookies and storage left by the previous tracker, navigates to {@link #DEFAULT_BROWSER_PAGE} without quitting the
+     * browser, and checks that the browser is still responsive (see {@link DriverReset}). A healthy pooled driver is then returned to the pool, and a
+     * healthy driver with {@link Extension}s is kept as idle for the next caller with the same {@link Extension}s, up to the pool size of its
+     * {@link TrackerType}, and only while tasks remain for that {@link TrackerType}. Once the last task for a {@link TrackerType} is released, its
+     * idle drivers with {@link Extension}s are quit, so no browser windows are left open for the rest of the run. A driver that fails the reset is
+     * quit, with a pooled driver being replaced by a fresh one while tasks remain. Drivers not originally from the pool are simply
+     * {@link RemoteWebDriver#quit()}.
+     *
+     * <p>
+     * Before the reset, the memory of the browser is measured (see {@link ChromeProcessMemory}) and recorded in its {@link DriverStatistics}. A
+     * driver which has been used for {@link ApplicationConfiguration#driverMaxUses()} trackers, or whose memory has reached
+     * {@link ApplicationConfiguration#driverMaxMemoryMegabytes()}, is retired and replaced in the same way as a driver that fails the reset. A driver
+     * in a browser context of a shared browser is measured by its share of the memory of the shared browser (see {@link SharedBrowserContexts}), and
+     * retiring it also retires the shared browser, so its replacement is created in a fresh one.
      *
      * @param driver the {@link RemoteWebDriver} to release
      */
     public static void release(final RemoteWebDriver driver) {
         final DriverPool instance = get();
-        instance.remainingTasks.decrementAndGet();
-        if (instance.allPooledDrivers.contains(driver)) {
-            LOGGER.trace("Returning pooled driver, navigating to blank page");
-            try {
-                driver.navigate().to(DEFAULT_BROWSER_PAGE);
-                returnDriverToPool(instance, driver);
-            } catch (final Exception e) {
-                LOGGER.trace("Unable to navigate pooled driver to blank page", e);
-                replaceDeadDriverInPool(instance, driver);
-            }
+        final TrackerType finishedType = decrementRemainingTasks(instance, driver);
+        if (finishedType != null) {
+            quitIdleExtensionDrivers(instance, finishedType);
+        }
+
+        if (isPooledDriver(instance, driver) || isExtensionDriver(instance, driver)) {
+            LOGGER.trace("Resetting released driver in the background");
+            startBackgroundThread(instance, DRIVER_RESETTER, () -> resetAndReturnDriver(instance, driver));
         } else {
             LOGGER.trace("Quitting fresh driver");
-            driver.quit();
-            JavaWebDriverFactory.deleteUserDataDir(driver);
+            quitDriver(instance, driver);
+        }
+    }
+
+    // Runs on a background thread, so any unexpected failure must still replace or quit the driver, otherwise a pooled driver would remain counted
+    // in the pool without ever being returned to it, leaving acquire() waiting forever
+    private static void resetAndReturnDriver(final DriverPool instance, final RemoteWebDriver driver) {
+        final boolean pooled = isPooledDriver(instance, driver);
+        try {
+            resetAndReturnDriver(instance, driver, pooled);
+        } catch (final RuntimeException e) {
+            LOGGER.debug("Unexpected error resetting released driver", e);
+            LOGGER.warn("Unexpected error resetting released driver, discarding it: {}", e.getMessage());
+            if (isPooledDriver(instance, driver)) {
+                replacePooledDriver(instance, driver);
+            } else if (!pooled) {
+                quitDriver(instance, driver);
+            }
+        }
+    }
+
+    private static void resetAndReturnDriver(final DriverPool instance, final RemoteWebDriver driver, final boolean pooled) {
+        // Measured before the reset, while the page of the last tracker is still loaded
+        final long memoryBytes = measureMemory(driver);
+        final DriverStatistics statistics = recordUse(instance, driver, memoryBytes);
+
+        if (!DriverReset.reset(driver, DEFAULT_BROWSER_PAGE)) {
+            if (pooled) {
+                LOGGER.warn("Pooled driver is dead, replacing with a fresh driver");
+                replacePooledDriver(instance, driver);
+            } else {
+                LOGGER.debug("Extension driver failed its reset, quitting");
+                quitDriver(instance, driver);
+            }
+            return;
+        }
+
+        final String retirementReason = statistics == null ? null : retirementReason(statistics);
+        if (statistics != null && retirementReason != null) {
+            LOGGER.debug("Retiring driver {} after {}", statistics.driverId(), retirementReason);
+            retireDriver(instance, driver);
+            // Replacing only the browser context would keep using the same shared browser, which is what holds the memory
+            SharedBrowserContexts.retireHost(driver);
+            if (pooled) {
+                replacePooledDriver(instance, driver);
+            } else {
+                quitDriver(instance, driver);
+            }
+            return;
+        }
+
+        if (!pooled) {
+            returnExtensionDriver(instance, driver);
+        } else if (removeIfSurplus(instance, driver)) {
+            LOGGER.debug("Pool has been shrunk, quitting surplus pooled driver");
+            quitQuietly(driver);
+        } else {
+            returnDriverToPool(instance, driver);
+        }
+    }
+
+    private static long measureMemory(final RemoteWebDriver driver) {
+        if (SharedBrowserContexts.isContextDriver(driver)) {
+            return SharedBrowserContexts.measureMemory(driver);
+        }
+        return ChromeProcessMemory.measure(driver, JavaWebDriverFactory.userDataDir(driver));
+    }
+
+    private static @Nullable DriverStatistics recordUse(final DriverPool instance, final RemoteWebDriver driver, final long memoryBytes) {
+        instance.lock.lock();
+        try {
+            return instance.liveDriverStatistics.computeIfPresent(driver, (_, statistics) -> statistics.withUse(memoryBytes));
+        } finally {
+            instance.lock.unlock();
+        }
+    }
+
+    private static @Nullable String retirementReason(final DriverStatistics statistics) {
+        if (statistics.uses() >= CONFIG.driverMaxUses()) {
+            return "%d uses".formatted(statistics.uses());
+        }
+
+        final long maxMemoryBytes = CONFIG.driverMaxMemoryMegabytes() * BYTES_PER_MEGABYTE;
+        if (statistics.peakMemoryBytes() >= maxMemoryBytes) {
+            return "using %d MB".formatted(statistics.peakMemoryBytes() / BYTES_PER_MEGABYTE);
+        }
+        return null;
+    }
+
+    private static void retireDriver(final DriverPool instance, final RemoteWebDriver driver) {
+        instance.lock.lock();
+        try {
+            instance.liveDriverStatistics.computeIfPresent(driver, (_, statistics) -> statistics.retire());
+        } finally {
+            instance.lock.unlock();
+        }
+    }
+
+    private static void startBackgroundThread(final DriverPool instance, final Thread.Builder builder, final Runnable task) {
+        instance.lock.lock();
+        try {
+            instance.backgroundThreads.removeIf(thread -> !thread.isAlive());
+            instance.backgroundThreads.add(builder.start(task));
+        } finally {
+            instance.lock.unlock();
+        }
+    }
+
+    private static RemoteWebDriver takePooledDriver(final DriverPool instance, final TrackerType trackerType,
+                                                    final BlockingDeque<RemoteWebDriver> deque) throws InterruptedException {
+        while (true) {
+            final RemoteWebDriver driver = deque.pollFirst(ACQUIRE_POLL_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+            if (driver != null) {
+                return driver;
+            }
+
+            if (!hasLiveOrPendingDrivers(instance, trackerType)) {
+                throw new IllegalStateException("No pooled %s drivers could be created".formatted(trackerType.formattedName()));
+            }
+        }
+    }
+
+    private static boolean hasLiveOrPendingDrivers(final DriverPool instance, final TrackerType trackerType) {
+        instance.lock.lock();
+        try {
+            final AtomicInteger pending = instance.pendingLaunches.get(trackerType);
+            if (pending != null && pending.get() > 0) {
+                return true;
+            }
+
+            return countPooledDrivers(instance, trackerType) > 0;
+        } finally {
+            instance.lock.unlock();
+        }
+    }
+
+    private static RemoteWebDriver acquireExtensionDriver(final DriverPool instance, final TrackerType trackerType,
+                                                          final List<Extension> extensions) {
+        final String extensionKey = extensionKey(trackerType, extensions);
+        final RemoteWebDriver idleDriver = takeIdleExtensionDriver(instance, extensionKey);
+        if (idleDriver != null) {
+            LOGGER.trace("Reusing idle driver for extension-based {} tracker", trackerType);
+            return idleDriver;
+        }
+
+        LOGGER.trace("Creating driver for extension-based {} tracker", trackerType);
+        final RemoteWebDriver driver = JavaWebDriverFactory.createDriver(trackerType, extensions);
+        instance.lock.lock();
+        try {
+            trackDriver(instance, driver, trackerType);
+            instance.extensionDriverKeys.put(driver, extensionKey);
+        } finally {
+            instance.lock.unlock();
+        }
+        return driver;
+    }
+
+    private static String extensionKey(final TrackerType trackerType, final List<Extension> extensions) {
+        return extensions.stream()
+            .map(Extension::configurationKey)
+            .sorted()
+            .collect(Collectors.joining(",", trackerType + "[", "]"));
+    }
+
+    private static @Nullable RemoteWebDriver takeIdleExtensionDriver(final DriverPool instance, final String extensionKey) {
+        instance.lock.lock();
+        try {
+            final BlockingDeque<RemoteWebDriver> idleDrivers = instance.idleExtensionDrivers.get(extensionKey);
+            return idleDrivers == null ? null : idleDrivers.pollFirst();
+        } finally {
+            instance.lock.unlock();
+        }
+    }
+
+    private static boolean isExtensionDriver(final DriverPool instance, final RemoteWebDriver driver) {
+        instance.lock.lock();
+        try {
+            return instance.extensionDriverKeys.containsKey(driver);
+        } finally {
+            instance.lock.unlock();
+        }
+    }
+
+    private static void returnExtensionDriver(final DriverPool instance, final RemoteWebDriver driver) {
+        instance.lock.lock();
+        try {
+            final String extensionKey = instance.extensionDriverKeys.get(driver);
+            final TrackerType type = instance.driverTypeMap.get(driver);
+            if (extensionKey != null && type != null) {
+                final BlockingDeque<RemoteWebDriver> idleDrivers = instance.idleExtensionDrivers.computeIfAbsent(extensionKey,
+                    _ -> new LinkedBlockingDeque<>());
+                if (hasRemainingTasks(instance, type) && idleDrivers.size() < idleExtensionDriverLimit(instance, type)) {
+                    idleDrivers.addFirst(driver);
+                    return;
+                }
+            }
+        } finally {
+            instance.lock.unlock();
+        }
+
+        LOGGER.debug("No idle driver needed for extension-based tracker, quitting");
+        quitDriver(instance, driver);
+    }
+
+    // Must be called while holding the lock
+    private static boolean hasRemainingTasks(final DriverPool instance, final TrackerType trackerType) {
+        final AtomicInteger remaining = instance.remainingTasks.get(trackerType);
+        return remaining == null || remaining.get() > 0;
+    }
+
+    // No more idle drivers are kept than could be used at once by the TrackerType, must be called while holding the lock
+    private static int idleExtensionDriverLimit(final DriverPool instance, final TrackerType trackerType) {
+        return instance.targetPoolSizes.getOrDefault(trackerType, 1);
+    }
+
+    private static void quitIdleExtensionDrivers(final DriverPool instance, final TrackerType trackerType) {
+        final List<RemoteWebDriver> idleDrivers = new ArrayList<>();
+        instance.lock.lock();
+        try {
+            for (final BlockingDeque<RemoteWebDriver> idleDriversForKey : instance.idleExtensionDrivers.values()) {
+                idleDriversForKey.removeIf(driver -> {
+                    if (instance.driverTypeMap.get(driver) != trackerType) {
+                        return false;
+                    }
+
+                    untrackDriver(instance, driver);
+                    instance.driverTypeMap.remove(driver);
+                    instance.extensionDriverKeys.remove(driver);
+                    idleDrivers.add(driver);
+                    return true;
+                });
+            }
+        } finally {
+            instance.lock.unlock();
+        }
+
+        if (!idleDrivers.isEmpty()) {
+            LOGGER.debug("No {} tasks remaining, quitting {} idle extension-based driver{}", trackerType.formattedName(), idleDrivers.size(),
+                StringUtils.pluralise(idleDrivers.size()));
+        }
+        idleDrivers.forEach(DriverPool::quitQuietly);
+    }
+
+    // Must be called while holding the lock
+    private static void trackDriver(final DriverPool instance, final RemoteWebDriver driver, final TrackerType trackerType) {
+        instance.driverTypeMap.put(driver, trackerType);
+        instance.liveDriverStatistics.put(driver, DriverStatistics.create(instance.nextDriverId.incrementAndGet(), trackerType));
+    }
+
+    // Must be called while holding the lock
+    private static void untrackDriver(final DriverPool instance, final RemoteWebDriver driver) {
+        final DriverStatistics statistics = instance.liveDriverStatistics.remove(driver);
+        if (statistics != null) {
+            instance.finishedDriverStatistics.add(statistics);
+        }
+    }
+
+    private static void quitDriver(final DriverPool instance, final RemoteWebDriver driver) {
+        instance.lock.lock();
+        try {
+            untrackDriver(instance, driver);
+            instance.driverTypeMap.remove(driver);
+            instance.extensionDriverKeys.remove(driver);
+        } finally {
+            instance.lock.unlock();
+        }
+        closeDriver(driver);
+    }
+
+    private static void closeDriver(final RemoteWebDriver driver) {
+        if (SharedBrowserContexts.isContextDriver(driver)) {
+            SharedBrowserContexts.quit(driver);
+            return;
+        }
+
+        driver.quit();
+        JavaWebDriverFactory.deleteUserDataDir(driver);
+    }
+
+    private static RemoteWebDriver createPooledDriver(final TrackerType trackerType) {
+        if (CONFIG.useBrowserContexts() && trackerType == TrackerType.HEADLESS) {
+            return SharedBrowserContexts.createDriver(trackerType);
+        }
+        return JavaWebDriverFactory.createDriver(trackerType, List.of());
+    }
+
+    /**
+     * Records that an additional task will acquire a driver of the given {@link TrackerType}, such as when a failed tracker is requeued for another
+     * attempt. This ensures dead pooled drivers are still replaced while retries are pending.
+     *
+     * @param trackerType the {@link TrackerType} of the additional task
+     */
+    public static void expectAdditionalTask(final TrackerType trackerType) {
+        final DriverPool instance = get();
+        instance.lock.lock();
+        try {
+            final AtomicInteger remaining = instance.remainingTasks.get(trackerType);
+            if (remaining != null) {
+                remaining.incrementAndGet();
+            }
+        } finally {
+            instance.lock.unlock();
+        }
+    }
+
+    private static boolean addTasksToExistingPool(final DriverPool instance, final TrackerType trackerType, final int numberOfTrackers) {
+        instance.lock.lock();
+        try {
+            final AtomicInteger remaining = instance.remainingTasks.get(trackerType);
+            if (remaining == null || !instance.pool.containsKey(trackerType)) {
+                return false;
+            }
+
+            remaining.addAndGet(numberOfTrackers);
+            return true;
+        } finally {
+            instance.lock.unlock();
+        }
+    }
+
+    private static @Nullable BlockingDeque<RemoteWebDriver> getDeque(final DriverPool instance, final TrackerType trackerType) {
+        instance.lock.lock();
+        try {
+            return instance.pool.get(trackerType);
+        } finally {
+            instance.lock.unlock();
         }
     }
 
-    private static void replaceDeadDriverInPool(final DriverPool instance, final RemoteWebDriver deadDriver) {
-        LOGGER.warn("Pooled driver is dead, replacing with a fresh driver");
-        final TrackerType type = removeDeadTracker(instance, deadDriver);
+    private static boolean isPooledDriver(final DriverPool instance, final RemoteWebDriver driver) {
+        instance.lock.lock();
+        try {
+            return instance.allPooledDrivers.contains(driver);
+        } finally {
+            instance.lock.unlock();
+        }
+    }
+
+    // Returns the TrackerType of the driver if this was its last remaining task
+    private static @Nullable TrackerType decrementRemainingTasks(final DriverPool instance, final RemoteWebDriver driver) {
+        instance.lock.lock();
+        try {
+            final TrackerType type = instance.driverTypeMap.get(driver);
+            final AtomicInteger remaining = type == null ? null : instance.remainingTasks.get(type);
+            if (remaining != null && remaining.decrementAndGet() == 0) {
+                return type;
+            }
+            return null;
+        } finally {
+            instance.lock.unlock();
+        }
+    }
+
+    private static int getRemainingTasks(final DriverPool instance, final TrackerType trackerType) {
+        instance.lock.lock();
+        try {
+            final AtomicInteger remaining = instance.remainingTasks.get(trackerType);
+            return remaining == null ? 0 : remaining.get();
+        } finally {
+            instance.lock.unlock();
+        }
+    }
+
+    private static void replacePooledDriver(final DriverPool instance, final RemoteWebDriver oldDriver) {
+        // The replacement is counted as a pending launch before the old driver is removed, so an acquire waiting on the pool never sees it empty
+        final TrackerType type = removePooledDriverForReplacement(instance, oldDriver);
+        quitQuietly(oldDriver);
 
         if (type == null) {
-            LOGGER.warn("Dead driver has no associated TrackerType, cannot replace");
+            LOGGER.warn("Pooled driver has no associated TrackerType, cannot replace");
+            return;
+        }
+
+        try {
+            launchReplacementDriver(instance, type);
+        } finally {
+            completePendingLaunch(instance, type);
+        }
+    }
+
+    private static void launchReplacementDriver(final DriverPool instance, final TrackerType type) {
+        if (getRemainingTasks(instance, type) <= 0) {
+            LOGGER.debug("No remaining tasks, skipping pooled driver replacement");
             return;
         }
 
-        if (instance.remainingTasks.get() == 0) {
-            LOGGER.debug("No remaining tasks, skipping dead driver replacement");
+        if (!isBelowTargetSize(instance, type, 1)) {
+            LOGGER.debug("Pool is already at its target size, skipping pooled driver replacement");
             return;
         }
 
-        final BlockingDeque<RemoteWebDriver> deque = instance.pool.get(type);
+        final BlockingDeque<RemoteWebDriver> deque = getDeque(instance, type);
         if (deque == null) {
-            LOGGER.warn("No pool found for type {}, cannot replace dead driver", type.formattedName());
+            LOGGER.warn("No pool found for type {}, cannot replace pooled driver", type.formattedName());
+            return;
+        }
+
+        final RemoteWebDriver replacement;
+        try {
+            replacement = createPooledDriver(type);
+        } catch (final RuntimeException e) {
+            LOGGER.debug("Failed to replace pooled {} driver", type.formattedName(), e);
+            LOGGER.warn("Failed to replace pooled {} driver: {}", type.formattedName(), e.getMessage());
             return;
         }
 
-        final RemoteWebDriver replacement = JavaWebDriverFactory.createDriver(type, List.of());
         instance.lock.lock();
         try {
             instance.allPooledDrivers.add(replacement);
-            instance.driverTypeMap.put(replacement, type);
+            trackDriver(instance, replacement, type);
         } finally {
             instance.lock.unlock();
         }
         deque.addFirst(replacement);
-        LOGGER.debug("Replaced dead pooled {} driver with a fresh one", type.formattedName());
+        LOGGER.debug("Replaced pooled {} driver with a fresh one", type.formattedName());
+    }
+
+    private static void quitQuietly(final RemoteWebDriver driver) {
+        if (SharedBrowserContexts.isContextDriver(driver)) {
+            SharedBrowserContexts.quit(driver);
+            return;
+        }
+
+        try {
+            driver.quit();
+        } catch (final WebDriverException e) {
+            LOGGER.trace("Unable to quit driver", e);
+        }
+        JavaWebDriverFactory.deleteUserDataDir(driver);
     }
 
-    private static TrackerType removeDeadTracker(final DriverPool instance, final RemoteWebDriver deadDriver) {
-        final TrackerType type;
+    private static @Nullable TrackerType removePooledDriverForReplacement(final DriverPool instance, final RemoteWebDriver driver) {
         instance.lock.lock();
         try {
-            type = instance.driverTypeMap.remove(deadDriver);
-            instance.allPooledDrivers.remove(deadDriver);
+            untrackDriver(instance, driver);
+            final TrackerType type = instance.driverTypeMap.remove(driver);
+            instance.allPooledDrivers.remove(driver);
+            if (type != null) {
+                final AtomicInteger pending = instance.pendingLaunches.get(type);
+                if (pending != null) {
+                    pending.incrementAndGet();
+                }
+            }
+            return type;
         } finally {
             instance.lock.unlock();
         }
-        return type;
     }
 
     private static void returnDriverToPool(final DriverPool instance, final RemoteWebDriver driver) {
-        final TrackerType type = instance.driverTypeMap.get(driver);
-        if (type == null) {
-            return;
+        final BlockingDeque<RemoteWebDriver> deque;
+        instance.lock.lock();
+        try {
+            final TrackerType type = instance.driverTypeMap.get(driver);
+            deque = type == null ? null : instance.pool.get(type);
+        } finally {
+            instance.lock.unlock();
         }
 
-        final BlockingDeque<RemoteWebDriver> deque = instance.pool.get(type);
         if (deque != null) {
             deque.addFirst(driver);
         }
@@ -258,16 +841,74 @@ public final class DriverPool {
      */
     public static void shutdown() {
         final DriverPool instance = get();
-        final int numberOfPooledDrivers = instance.allPooledDrivers.size();
+        // A driver still being launched or reset is only added to the pool once ready, so wait for it rather than leaking its browser process
+        awaitBackgroundThreads(instance);
+
+        final List<RemoteWebDriver> pooledDrivers;
+        instance.lock.lock();
+        try {
+            pooledDrivers = new ArrayList<>(instance.allPooledDrivers);
+            pooledDrivers.addAll(instance.extensionDriverKeys.keySet());
+            instance.pool.clear();
+            instance.idleExtensionDrivers.clear();
+            instance.extensionDriverKeys.clear();
+            instance.allPooledDrivers.clear();
+            instance.driverTypeMap.clear();
+            instance.finishedDriverStatistics.addAll(instance.liveDriverStatistics.values());
+            instance.liveDriverStatistics.clear();
+            instance.remainingTasks.clear();
+            instance.pendingLaunches.clear();
+            instance.targetPoolSizes.clear();
+        } finally {
+            instance.lock.unlock();
+        }
+
+        final int numberOfPooledDrivers = pooledDrivers.size();
         LOGGER.debug("Shutting down driver pool with {} pooled driver{}", numberOfPooledDrivers, StringUtils.pluralise(numberOfPooledDrivers));
-        for (final RemoteWebDriver driver : instance.allPooledDrivers) {
-            driver.quit();
-            JavaWebDriverFactory.deleteUserDataDir(driver);
+        for (final RemoteWebDriver driver : pooledDrivers) {
+            closeDriver(driver);
         }
+        SharedBrowserContexts.shutdown();
+        JavaWebDriverFactory.shutdown();
+    }
 
-        instance.pool.clear();
-        instance.allPooledDrivers.clear();
-        instance.driverTypeMap.clear();
-        instance.remainingTasks.set(0);
+    /**
+     * Retrieves the {@link DriverStatistics} of every {@link RemoteWebDriver} created by the pool, including those that have since been quit or
+     * replaced. The statistics are kept after {@link #shutdown()}, so they can be reported once all work has completed.
+     *
+     * @return the {@link DriverStatistics}, ordered by {@link DriverStatistics#driverId()}
+     */
+    public static List<DriverStatistics> driverStatistics() {
+        final DriverPool instance = get();
+        instance.lock.lock();
+        try {
+            return Stream.concat(instance.finishedDriverStatistics.stream(), instance.liveDriverStatistics.values().stream())
+                .sorted(Comparator.comparingInt(DriverStatistics::driverId))
+                .toList();
+        } finally {
+            instance.lock.unlock();
+        }
+    }
+
+    private static void awaitBackgroundThreads(final DriverPool instance) {
+        final List<Thread> threads;
+        instance.lock.lock();
+        try {
+            threads = new ArrayList<>(instance.backgroundThreads);
+            instance.backgroundThreads.clear();
+        } finally {
+            instance.lock.unlock();
+        }
+
+        for (final Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOGGER.debug("Interrupted while waiting for pooled driver launch or reset", e);
+                LOGGER.warn("Interrupted while waiting for pooled driver launch or reset: {}", e.getMessage());
+                return;
+            }
+        }
     }
 }
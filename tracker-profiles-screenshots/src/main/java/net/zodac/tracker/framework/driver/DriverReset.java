@@ -0,0 +1,180 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.driver;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jspecify.annotations.Nullable;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+/**
+ * Resets a released {@link RemoteWebDriver} so that it can be safely handed to the next tracker.
+ *
+ * <p>
+ * The reset clears all cookies, removes any user-agent override applied when restoring a saved session, and clears the storage (local storage,
+ * session storage, IndexedDB, service workers, cache storage, etc.) of every origin visited since the last reset. The browser is then navigated
+ * to a blank page and pinged to confirm it is still responsive. The HTTP disk cache is intentionally kept, since Chrome partitions it by top-level
+ * site and reusing it avoids re-downloading static assets.
+ *
+ * <p>
+ * Storage can only be cleared one origin at a time, so the visited origins are collected from the navigation history of the tab (which includes
+ * pages left after a redirect), the frames of the current page (such as challenge or login iframes), and the domains of any cookies (such as
+ * login or CDN hosts that were only redirected through). The navigation history is then reset, so the next tracker only collects its own origins.
+ *
+ * <p>
+ * Drivers using a browser context of a shared browser (see {@link SharedBrowserContexts}) are instead moved to a fresh browser context.
+ */
+final class DriverReset {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final String ALL_STORAGE_TYPES = "all";
+
+    private DriverReset() {
+
+    }
+
+    /**
+     * Resets the provided {@link RemoteWebDriver} and checks that it is still alive.
+     *
+     * @param driver         the {@link RemoteWebDriver} to reset
+     * @param defaultPageUrl  the URL of the blank page to leave the driver on
+     * @return {@code true} if the {@link RemoteWebDriver} was reset and is responsive, {@code false} if it should be replaced
+     */
+    static boolean reset(final RemoteWebDriver driver, final String defaultPageUrl) {
+        try {
+            if (SharedBrowserContexts.isContextDriver(driver)) {
+                // A fresh browser context has no cookies, storage or user-agent override, so there is nothing to clear
+                SharedBrowserContexts.recycle(driver);
+                return isAlive(driver);
+            }
+
+            if (driver instanceof final HasCdp cdpDriver) {
+                clearBrowserState(driver, cdpDriver);
+            }
+
+            driver.navigate().to(defaultPageUrl);
+            return isAlive(driver);
+        } catch (final WebDriverException e) {
+            LOGGER.trace("Unable to reset driver", e);
+            return false;
+        }
+    }
+
+    private static void clearBrowserState(final RemoteWebDriver driver, final HasCdp cdpDriver) {
+        for (final String origin : visitedOrigins(driver, cdpDriver)) {
+            LOGGER.trace("Clearing storage for origin '{}'", origin);
+            cdpDriver.executeCdpCommand("Storage.clearDataForOrigin", Map.of("origin", origin, "storageTypes", ALL_STORAGE_TYPES));
+        }
+
+        cdpDriver.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+        // An empty user-agent removes the override, restoring the browser's default
+        cdpDriver.executeCdpCommand("Network.setUserAgentOverride", Map.of("userAgent", ""));
+        cdpDriver.executeCdpCommand("Page.resetNavigationHistory", Map.of());
+    }
+
+    // Must be called before the cookies are cleared
+    private static Set<String> visitedOrigins(final RemoteWebDriver driver, final HasCdp cdpDriver) {
+        final Set<String> origins = new TreeSet<>();
+        addOrigin(origins, driver.getCurrentUrl());
+
+        final Map<String, Object> history = cdpDriver.executeCdpCommand("Page.getNavigationHistory", Map.of());
+        if (history.get("entries") instanceof final List<?> entries) {
+            for (final Object entry : entries) {
+                if (entry instanceof final Map<?, ?> historyEntry) {
+                    addOrigin(origins, historyEntry.get("url"));
+                    addOrigin(origins, historyEntry.get("userTypedURL"));
+                }
+            }
+        }
+
+        final Map<String, Object> frameTree = cdpDriver.executeCdpCommand("Page.getFrameTree", Map.of());
+        addFrameOrigins(origins, frameTree.get("frameTree"));
+
+        final Map<String, Object> cookies = cdpDriver.executeCdpCommand("Network.getAllCookies", Map.of());
+        if (cookies.get("cookies") instanceof final List<?> cookieList) {
+            for (final Object cookie : cookieList) {
+                if (cookie instanceof final Map<?, ?> cookieValues && cookieValues.get("domain") instanceof final String domain) {
+                    // A leading '.' means the cookie also applies to subdomains, the domain itself is the only origin that can be derived from it
+                    final String host = domain.startsWith(".") ? domain.substring(1) : domain;
+                    addOrigin(origins, "https://" + host);
+                    addOrigin(origins, "http://" + host);
+                }
+            }
+        }
+        return origins;
+    }
+
+    private static void addFrameOrigins(final Set<String> origins, final @Nullable Object frameTree) {
+        if (!(frameTree instanceof final Map<?, ?> tree)) {
+            return;
+        }
+
+        if (tree.get("frame") instanceof final Map<?, ?> frame) {
+            addOrigin(origins, frame.get("url"));
+        }
+        if (tree.get("childFrames") instanceof final List<?> childFrames) {
+            for (final Object childFrame : childFrames) {
+                addFrameOrigins(origins, childFrame);
+            }
+        }
+    }
+
+    private static void addOrigin(final Set<String> origins, final @Nullable Object url) {
+        if (url instanceof final String urlValue) {
+            final String origin = getOrigin(urlValue);
+            if (origin != null) {
+                origins.add(origin);
+            }
+        }
+    }
+
+    private static @Nullable String getOrigin(final @Nullable String url) {
+        if (url == null) {
+            return null;
+        }
+
+        try {
+            final URI uri = URI.create(url);
+            final String scheme = uri.getScheme();
+            if (uri.getHost() == null || !("http".equals(scheme) || "https".equals(scheme))) {
+                return null;
+            }
+            return uri.getPort() == -1 ? "%s://%s".formatted(scheme, uri.getHost()) : "%s://%s:%d".formatted(scheme, uri.getHost(), uri.getPort());
+        } catch (final IllegalArgumentException e) {
+            LOGGER.trace("Unable to parse origin of '{}'", url, e);
+            return null;
+        }
+    }
+
+    // A cheap round-trip to the browser, which fails if the browser or its renderer has crashed
+    private static boolean isAlive(final RemoteWebDriver driver) {
+        if (driver instanceof final HasCdp cdpDriver) {
+            cdpDriver.executeCdpCommand("Browser.getVersion", Map.of());
+        } else {
+            driver.getWindowHandle();
+        }
+        return true;
+    }
+}
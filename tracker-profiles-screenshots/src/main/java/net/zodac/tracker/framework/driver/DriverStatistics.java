@@ -0,0 +1,62 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.driver;
+
+import net.zodac.tracker.framework.TrackerType;
+
+/**
+ * The usage of a single {@link org.openqa.selenium.remote.RemoteWebDriver} created by the {@link DriverPool}.
+ *
+ * @param driverId        the ID of the driver, in the order it was created
+ * @param trackerType     the {@link TrackerType} the driver was created for
+ * @param uses            the number of trackers the driver was used for
+ * @param peakMemoryBytes the highest memory (in bytes) measured for the browser, or {@code 0} if it was never measured
+ * @param retired         whether the driver was replaced for exceeding its memory or usage limit
+ */
+public record DriverStatistics(int driverId, TrackerType trackerType, int uses, long peakMemoryBytes, boolean retired) {
+
+    /**
+     * Creates the {@link DriverStatistics} for a newly-created driver.
+     *
+     * @param driverId    the ID of the driver
+     * @param trackerType the {@link TrackerType} the driver was created for
+     * @return the {@link DriverStatistics}
+     */
+    static DriverStatistics create(final int driverId, final TrackerType trackerType) {
+        return new DriverStatistics(driverId, trackerType, 0, 0L, false);
+    }
+
+    /**
+     * Records a use of the driver, along with its memory once the use completed.
+     *
+     * @param memoryBytes the memory (in bytes) of the browser, or {@link ChromeProcessMemory#UNKNOWN}
+     * @return the updated {@link DriverStatistics}
+     */
+    DriverStatistics withUse(final long memoryBytes) {
+        return new DriverStatistics(driverId, trackerType, uses + 1, Math.max(peakMemoryBytes, memoryBytes), retired);
+    }
+
+    /**
+     * Marks the driver as retired.
+     *
+     * @return the updated {@link DriverStatistics}
+     */
+    DriverStatistics retire() {
+        return new DriverStatistics(driverId, trackerType, uses, peakMemoryBytes, true);
+    }
+}
@@ -21,21 +21,28 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.BitSet;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import net.zodac.tracker.framework.TrackerType;
 import net.zodac.tracker.framework.config.ApplicationConfiguration;
 import net.zodac.tracker.framework.config.Configuration;
 import net.zodac.tracker.framework.driver.extension.Extension;
+import net.zodac.tracker.util.TimingUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.jspecify.annotations.Nullable;
 import org.openqa.selenium.Dimension;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeDriverService;
@@ -48,9 +55,39 @@ import org.openqa.selenium.remote.RemoteWebDriver;
 public final class JavaWebDriverFactory {
 
     private static final File CHROMEDRIVER_EXECUTABLE_FILEPATH = new File("/usr/local/chromium/chromedriver-linux64/chromedriver");
+    private static final File HEADLESS_SHELL_EXECUTABLE_FILEPATH =
+        new File("/usr/local/chromium/chrome-headless-shell-linux64/chrome-headless-shell");
     private static final ApplicationConfiguration CONFIG = Configuration.get();
     private static final Logger LOGGER = LogManager.getLogger();
     private static final Map<RemoteWebDriver, Path> USER_DATA_DIRS = new ConcurrentHashMap<>();
+    private static final Map<RemoteWebDriver, Integer> CACHE_SHARDS = new ConcurrentHashMap<>();
+    private static final BitSet LEASED_CACHE_SHARDS = new BitSet();
+    private static final Lock CACHE_SHARD_LOCK = new ReentrantLock();
+    private static final String CACHE_DIRECTORY_NAME = "selenium";
+    private static final String DEFAULT_BROWSER_PAGE = "about:blank";
+    private static final String PROFILE_TEMPLATE_NAME = "profile-template";
+    private static final ChromeProfileTemplate PROFILE_TEMPLATE =
+        new ChromeProfileTemplate(Path.of(CONFIG.browserDataStoragePath(), PROFILE_TEMPLATE_NAME));
+    private static final Map<String, ChromeProfileTemplate> EXTENSION_PROFILE_TEMPLATES = new ConcurrentHashMap<>();
+
+    // Flags which avoid background work that is not needed for automation, none of which change how pages are rendered
+    private static final List<String> LOW_OVERHEAD_ARGUMENTS = List.of(
+        "--disable-background-timer-throttling",
+        "--disable-backgrounding-occluded-windows",
+        "--disable-breakpad",
+        "--disable-client-side-phishing-detection",
+        "--disable-default-apps",
+        "--disable-domain-reliability",
+        "--disable-hang-monitor",
+        "--disable-ipc-flooding-protection",
+        "--disable-renderer-backgrounding",
+        "--disable-sync",
+        "--metrics-recording-only",
+        "--mute-audio",
+        "--no-default-browser-check",
+        "--no-first-run",
+        "--password-store=basic"
+    );
 
     private JavaWebDriverFactory() {
 
@@ -69,7 +106,22 @@ public final class JavaWebDriverFactory {
      * </ul>
      *
      * <p>
-     * Otherwise it will run in full UI mode.
+     * Otherwise it will run in full UI mode. A headless {@link RemoteWebDriver} without {@link Extension}s uses {@code chrome-headless-shell} if
+     * {@link ApplicationConfiguration#useHeadlessShell()} is enabled and it is installed, since it starts faster and uses less memory than the full
+     * browser in headless mode.
+     *
+     * <p>
+     * All {@link RemoteWebDriver}s share a single chromedriver process (see {@link SharedChromeDriverService}), and the time taken to launch each
+     * browser is logged.
+     *
+     * <p>
+     * Each browser starts from a copy of the {@link ChromeProfileTemplate} rather than an empty profile, and is given its own disk cache shard. Cache
+     * shards are reused by later browsers once released by {@link #deleteUserDataDir(RemoteWebDriver)}, so the cache is still kept between runs.
+     *
+     * <p>
+     * Any {@link Extension}s are configured with {@link Extension#configure(RemoteWebDriver)}. A separate {@link ChromeProfileTemplate} is kept for
+     * each set of {@link Extension#configurationKey()}s, with the {@link Extension}s already configured, so the configuration is only performed when
+     * the template is built.
      *
      * @param trackerType whether {@link TrackerType} defining the execution method for this tracker
      * @param extensions  any {@link Extension}s to be installed
@@ -77,28 +129,70 @@ public final class JavaWebDriverFactory {
      */
     public static RemoteWebDriver createDriver(final TrackerType trackerType, final List<Extension> extensions) {
         LOGGER.trace("Creating Java driver");
-        final ChromeOptions chromeOptions = new ChromeOptions();
         final Path userDataDir = Path.of(CONFIG.browserDataStoragePath(), UUID.randomUUID().toString());
+        final boolean copiedProfileTemplate = copyProfileTemplate(userDataDir, extensions);
+        final int cacheShard = leaseCacheShard();
+
+        final ChromeOptions chromeOptions = createSharedChromeOptions();
 
         // User-defined options
         chromeOptions.addArguments("--window-size=" + CONFIG.browserDimensions());
-        if (canTrackerUseHeadlessBrowser(trackerType)) {
+        final boolean useHeadlessShell = canTrackerUseHeadlessBrowser(trackerType) && canUseHeadlessShell(extensions);
+        if (useHeadlessShell) {
+            LOGGER.trace("Using headless shell browser");
+            chromeOptions.setBinary(HEADLESS_SHELL_EXECUTABLE_FILEPATH);
+        } else if (canTrackerUseHeadlessBrowser(trackerType)) {
             LOGGER.trace("Using headless browser");
             chromeOptions.addArguments("--headless=new");
         }
 
-        // Cache to avoid reloading data on subsequent runs
-        chromeOptions.addArguments("--disk-cache-dir=" + CONFIG.browserDataStoragePath() + File.separator + "selenium");
-
-        // Following 3 options are to ensure there are no conflicting issues running the browser on Linux
+        // Cache to avoid reloading data on subsequent runs, with each concurrent browser using its own shard to avoid contention
+        chromeOptions.addArguments("--disk-cache-dir=" + cacheShardDirectory(cacheShard));
         chromeOptions.addArguments("--user-data-dir=" + userDataDir);
+
+        for (final Extension extension : extensions) {
+            LOGGER.trace("Installing extension {} from '{}'", extension.getClass().getSimpleName(), extension.path());
+            final File extensionFile = new File(extension.path());
+            chromeOptions.addExtensions(extensionFile);
+        }
+
+        final long launchStartNanos = System.nanoTime();
+        final ChromeDriver driver;
+        try {
+            driver = launchDriver(chromeOptions);
+        } catch (final RuntimeException e) {
+            releaseCacheShard(cacheShard);
+            deleteDirectory(userDataDir);
+            throw e;
+        }
+
+        // Extensions are already configured in their profile template
+        if (!copiedProfileTemplate) {
+            configureExtensions(driver, extensions);
+        }
+
+        applyConfiguredSize(driver);
+        LOGGER.debug("\t- Launched {} browser{} in {}", trackerType.formattedName(), useHeadlessShell ? " (headless shell)" : "",
+            TimingUtils.toNaturalTime(System.nanoTime() - launchStartNanos));
+        LOGGER.trace("Returning created driver");
+        USER_DATA_DIRS.put(driver, userDataDir);
+        CACHE_SHARDS.put(driver, cacheShard);
+        return driver;
+    }
+
+    // Options that are the same for every browser, and are used to fingerprint the profile template
+    private static ChromeOptions createSharedChromeOptions() {
+        final ChromeOptions chromeOptions = new ChromeOptions();
+        chromeOptions.addArguments(LOW_OVERHEAD_ARGUMENTS);
+
+        // Following 2 options (with '--user-data-dir') are to ensure there are no conflicting issues running the browser on Linux
         chromeOptions.addArguments("--no-sandbox");
         chromeOptions.addArguments("--disable-dev-shm-usage");
 
         // Disable warnings when visiting HTTP-only sites
         chromeOptions.addArguments("--unsafely-treat-insecure-origin-as-secure=*");
 
-        final Map<String, Object> driverPreferences = new HashMap<>();
+        final Map<String, Object> driverPreferences = new TreeMap<>();
         // Disable password manager pop-ups
         driverPreferences.put("credentials_enable_service", false);
         driverPreferences.put("profile.password_manager_enabled", false);
@@ -119,33 +213,133 @@ public final class JavaWebDriverFactory {
         chromeOptions.addArguments("--disable-gpu");
         chromeOptions.addArguments("--disable-notifications");
         chromeOptions.addArguments("--ignore-certificate-errors");
+        return chromeOptions;
+    }
 
-        for (final Extension extension : extensions) {
-            LOGGER.trace("Installing extension {} from '{}'", extension.getClass().getSimpleName(), extension.path());
-            final File extensionFile = new File(extension.path());
-            chromeOptions.addExtensions(extensionFile);
-        }
+    private static ChromeDriver launchDriver(final ChromeOptions chromeOptions) {
         LOGGER.trace("Creating driver with following options: {}", chromeOptions);
-
-        final ChromeDriver driver;
         if (CHROMEDRIVER_EXECUTABLE_FILEPATH.exists()) {
-            final ChromeDriverService service = new ChromeDriverService  // NOPMD: CloseResource - Not closing since it takes 5 seconds to close
-                .Builder()
-                .usingDriverExecutable(CHROMEDRIVER_EXECUTABLE_FILEPATH)
-                .build();
+            final ChromeDriverService service = SharedChromeDriverService.get(CHROMEDRIVER_EXECUTABLE_FILEPATH);  // NOPMD: CloseResource - Shared
             LOGGER.trace("Creating driver with chromedriver executable at '{}'", CHROMEDRIVER_EXECUTABLE_FILEPATH.getAbsolutePath());
-            driver = new ChromeDriver(service, chromeOptions);
+            return new ChromeDriver(service, chromeOptions);
+        }
+
+        LOGGER.trace("Creating driver without chromedriver executable filepath");
+        return new ChromeDriver(chromeOptions);
+    }
+
+    /**
+     * Creates a new {@link ChromeDriver} session attached to an already-running browser, rather than launching a new browser. The browser must have
+     * been created by {@link #createDriver(TrackerType, List)}, and the session shares its profile, preferences and flags.
+     *
+     * @param debuggerAddress the address of the browser's DevTools endpoint (see {@link #debuggerAddress(RemoteWebDriver)})
+     * @return the attached {@link ChromeDriver}
+     */
+    static ChromeDriver attachDriver(final String debuggerAddress) {
+        LOGGER.trace("Attaching driver to browser at '{}'", debuggerAddress);
+        final ChromeOptions chromeOptions = new ChromeOptions();
+        chromeOptions.setExperimentalOption("debuggerAddress", debuggerAddress);
+        return launchDriver(chromeOptions);
+    }
+
+    /**
+     * Retrieves the address of the DevTools endpoint of the browser controlled by the {@link RemoteWebDriver}, as reported by chromedriver.
+     *
+     * @param driver the {@link RemoteWebDriver}
+     * @return the {@code host:port} address, or {@code null} if it was not reported
+     */
+    static @Nullable String debuggerAddress(final RemoteWebDriver driver) {
+        if (driver.getCapabilities().getCapability(ChromeOptions.CAPABILITY) instanceof final Map<?, ?> chromeCapabilities
+            && chromeCapabilities.get("debuggerAddress") instanceof final String debuggerAddress) {
+            return debuggerAddress;
+        }
+        return null;
+    }
+
+    // Starts the browser from a copy of the profile template rather than an empty profile, falling back to an empty profile if it cannot be copied
+    private static boolean copyProfileTemplate(final Path userDataDir, final List<Extension> extensions) {
+        final String sharedFingerprint = Integer.toHexString(createSharedChromeOptions().asMap().toString().hashCode());
+        final ChromeProfileTemplate profileTemplate;
+        final String fingerprint;
+        if (extensions.isEmpty()) {
+            profileTemplate = PROFILE_TEMPLATE;
+            fingerprint = sharedFingerprint;
         } else {
-            LOGGER.trace("Creating driver without chromedriver executable filepath");
-            driver = new ChromeDriver(chromeOptions);
+            final String extensionsKey = extensions.stream()
+                .map(Extension::configurationKey)
+                .sorted()
+                .collect(Collectors.joining(","));
+            profileTemplate = EXTENSION_PROFILE_TEMPLATES.computeIfAbsent(extensionsKey, key -> new ChromeProfileTemplate(
+                Path.of(CONFIG.browserDataStoragePath(), PROFILE_TEMPLATE_NAME + "-" + Integer.toHexString(key.hashCode()))));
+            fingerprint = sharedFingerprint + ":" + extensionsKey;
         }
 
-        applyConfiguredSize(driver);
-        LOGGER.trace("Returning created driver");
-        USER_DATA_DIRS.put(driver, userDataDir);
+        if (!profileTemplate.prepare(fingerprint, templateUserDataDir -> launchProfileTemplateDriver(templateUserDataDir, extensions))) {
+            return false;
+        }
+
+        try {
+            profileTemplate.copyTo(userDataDir);
+            return true;
+        } catch (final IOException e) {
+            LOGGER.debug("Unable to copy Chrome profile template to '{}'", userDataDir, e);
+            LOGGER.warn("Unable to copy Chrome profile template, browser will start with an empty profile: {}", e.getMessage());
+            deleteDirectory(userDataDir);
+            return false;
+        }
+    }
+
+    private static RemoteWebDriver launchProfileTemplateDriver(final Path templateUserDataDir, final List<Extension> extensions) {
+        final ChromeOptions chromeOptions = createSharedChromeOptions();
+        chromeOptions.addArguments("--headless=new");
+        chromeOptions.addArguments("--disk-cache-dir=" + Path.of(CONFIG.browserDataStoragePath(), CACHE_DIRECTORY_NAME, "template"));
+        chromeOptions.addArguments("--user-data-dir=" + templateUserDataDir);
+        for (final Extension extension : extensions) {
+            chromeOptions.addExtensions(new File(extension.path()));
+        }
+
+        final ChromeDriver driver = launchDriver(chromeOptions);
+        if (!configureExtensions(driver, extensions)) {
+            driver.quit();
+            throw new IllegalStateException("Unable to configure extensions for profile template: " + extensions);
+        }
+        driver.navigate().to(DEFAULT_BROWSER_PAGE);
         return driver;
     }
 
+    private static boolean configureExtensions(final RemoteWebDriver driver, final List<Extension> extensions) {
+        boolean allConfigured = true;
+        for (final Extension extension : extensions) {
+            LOGGER.trace("Configuring extension {}", extension.getClass().getSimpleName());
+            allConfigured &= extension.configure(driver);
+        }
+        return allConfigured;
+    }
+
+    private static int leaseCacheShard() {
+        CACHE_SHARD_LOCK.lock();
+        try {
+            final int cacheShard = LEASED_CACHE_SHARDS.nextClearBit(0);
+            LEASED_CACHE_SHARDS.set(cacheShard);
+            return cacheShard;
+        } finally {
+            CACHE_SHARD_LOCK.unlock();
+        }
+    }
+
+    private static void releaseCacheShard(final int cacheShard) {
+        CACHE_SHARD_LOCK.lock();
+        try {
+            LEASED_CACHE_SHARDS.clear(cacheShard);
+        } finally {
+            CACHE_SHARD_LOCK.unlock();
+        }
+    }
+
+    private static Path cacheShardDirectory(final int cacheShard) {
+        return Path.of(CONFIG.browserDataStoragePath(), CACHE_DIRECTORY_NAME, String.valueOf(cacheShard));
+    }
+
     /**
      * Sweeps and deletes any stale user-data directories under the configured browser data storage path.
      *
@@ -181,6 +375,16 @@ public final class JavaWebDriverFactory {
         }
     }
 
+    /**
+     * Retrieves the user-data directory of the given {@link RemoteWebDriver}.
+     *
+     * @param driver the {@link RemoteWebDriver}
+     * @return the user-data directory, or {@code null} if the driver was not created by {@link #createDriver(TrackerType, List)}
+     */
+    static @Nullable Path userDataDir(final RemoteWebDriver driver) {
+        return USER_DATA_DIRS.get(driver);
+    }
+
     /**
      * Removes the user-data directory associated with the given {@link RemoteWebDriver} and deletes it from disk.
      *
@@ -191,6 +395,11 @@ public final class JavaWebDriverFactory {
      * @param driver the {@link RemoteWebDriver} whose user-data directory should be deleted
      */
     static void deleteUserDataDir(final RemoteWebDriver driver) {
+        final Integer cacheShard = CACHE_SHARDS.remove(driver);
+        if (cacheShard != null) {
+            releaseCacheShard(cacheShard);
+        }
+
         final Path dir = USER_DATA_DIRS.remove(driver);
         if (dir != null) {
             LOGGER.trace("Deleting user-data directory '{}'", dir);
@@ -211,12 +420,21 @@ public final class JavaWebDriverFactory {
         }
     }
 
-    private static void deleteDirectory(final Path dir) {
+    /**
+     * Deletes the directory and all of its contents, if it exists.
+     *
+     * @param dir the directory to delete
+     */
+    static void deleteDirectory(final Path dir) {
+        if (!Files.exists(dir)) {
+            return;
+        }
+
         try (final Stream<Path> walk = Files.walk(dir)) {
             walk.sorted(Comparator.reverseOrder())
                 .forEach(JavaWebDriverFactory::deleteWithLogging);
         } catch (final IOException e) {
-            LOGGER.trace("Could not delete user-data directory '{}'", dir, e);
+            LOGGER.trace("Could not delete directory '{}'", dir, e);
         }
     }
 
@@ -228,7 +446,12 @@ public final class JavaWebDriverFactory {
         }
     }
 
-    private static void applyConfiguredSize(final ChromeDriver driver) {
+    /**
+     * Applies the configured browser dimensions to the current window of the {@link ChromeDriver}.
+     *
+     * @param driver the {@link ChromeDriver}
+     */
+    static void applyConfiguredSize(final ChromeDriver driver) {
         LOGGER.trace("Applying display size for driver");
         final Dimension size = parseDimensions();
         driver.manage().window().setSize(size);
@@ -242,8 +465,13 @@ public final class JavaWebDriverFactory {
         driver.executeCdpCommand("Emulation.setDeviceMetricsOverride", cdpOverrides);
     }
 
-    // No need to perform any validation, browserDimensions has been parsed already
-    private static Dimension parseDimensions() {
+    /**
+     * Parses the configured browser dimensions. No need to perform any validation, since they have already been validated by the
+     * {@link ApplicationConfiguration}.
+     *
+     * @return the browser {@link Dimension}
+     */
+    static Dimension parseDimensions() {
         final String[] parts = CONFIG.browserDimensions().split(",");
         final int width = Integer.parseInt(parts[0].trim());
         final int height = Integer.parseInt(parts[1].trim());
@@ -271,6 +499,18 @@ public final class JavaWebDriverFactory {
         return translateWhitelists;
     }
 
+    /**
+     * Stops the shared chromedriver process. Should only be called once all {@link RemoteWebDriver}s have been quit.
+     */
+    static void shutdown() {
+        SharedChromeDriverService.shutdown();
+    }
+
+    // The headless shell does not support extensions
+    private static boolean canUseHeadlessShell(final List<Extension> extensions) {
+        return CONFIG.useHeadlessShell() && extensions.isEmpty() && HEADLESS_SHELL_EXECUTABLE_FILEPATH.canExecute();
+    }
+
     private static boolean canTrackerUseHeadlessBrowser(final TrackerType trackerType) {
         if (CONFIG.forceUiBrowser()) {
             LOGGER.trace("UI browser is forced");
@@ -0,0 +1,380 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.driver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import net.zodac.tracker.framework.TrackerType;
+import net.zodac.tracker.framework.config.ApplicationConfiguration;
+import net.zodac.tracker.framework.config.Configuration;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+/**
+ * Creates {@link RemoteWebDriver}s which share a browser, rather than each launching their own browser.
+ *
+ * <p>
+ * Each shared browser is a normal browser created by {@link JavaWebDriverFactory#createDriver(TrackerType, List)}, which serves up to
+ * {@link ApplicationConfiguration#browserContextsPerBrowser()} drivers. Each driver is a separate chromedriver session attached to the shared
+ * browser, controlling a single tab in its own browser context (created with the CDP {@code Target.createBrowserContext} command). Browser contexts
+ * do not share cookies, storage or cache, so each driver is isolated in the same way as a separate browser, without the memory of a separate
+ * browser process.
+ *
+ * <p>
+ * When a driver is reset with {@link #recycle(RemoteWebDriver)}, its browser context is replaced with a fresh one rather than being cleared. Once
+ * every driver of a shared browser has been quit with {@link #quit(RemoteWebDriver)}, the shared browser is also quit.
+ *
+ * <p>
+ * The memory of a shared browser cannot be attributed to a single browser context, so {@link #measureMemory(RemoteWebDriver)} splits it evenly
+ * across the browser contexts leased from it. A shared browser can be retired with {@link #retireHost(RemoteWebDriver)}, after which no new
+ * browser contexts are leased from it, so it is quit once its remaining drivers have been quit.
+ */
+final class SharedBrowserContexts {
+
+    private static final ApplicationConfiguration CONFIG = Configuration.get();
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final String DEFAULT_BROWSER_PAGE = "about:blank";
+    private static final Lock HOSTS_LOCK = new ReentrantLock();
+    private static final List<HostBrowser> HOSTS = new ArrayList<>();
+    private static final Map<RemoteWebDriver, BrowserContext> CONTEXTS = new ConcurrentHashMap<>();
+
+    private SharedBrowserContexts() {
+
+    }
+
+    /**
+     * Creates a {@link RemoteWebDriver} in a new browser context of a shared browser, launching a new shared browser if all existing ones are full.
+     *
+     * @param trackerType the {@link TrackerType} of the shared browser
+     * @return the {@link RemoteWebDriver}
+     */
+    static RemoteWebDriver createDriver(final TrackerType trackerType) {
+        final HostBrowser host = leaseHost(trackerType);
+        BrowserContext context = null;
+        try {
+            context = createContext(host);
+            final ChromeDriver driver = JavaWebDriverFactory.attachDriver(host.debuggerAddress());
+            switchToContext(driver, context);
+            CONTEXTS.put(driver, context);
+            return driver;
+        } catch (final RuntimeException e) {
+            if (context == null) {
+                // The shared browser could not create a context, so stop leasing it to new drivers
+                host.retire();
+            } else {
+                disposeContext(context);
+            }
+            releaseHost(host);
+            throw e;
+        }
+    }
+
+    /**
+     * Checks whether the {@link RemoteWebDriver} was created by {@link #createDriver(TrackerType)}.
+     *
+     * @param driver the {@link RemoteWebDriver}
+     * @return {@code true} if the {@link RemoteWebDriver} uses a browser context of a shared browser
+     */
+    static boolean isContextDriver(final RemoteWebDriver driver) {
+        return CONTEXTS.containsKey(driver);
+    }
+
+    /**
+     * Replaces the browser context of the {@link RemoteWebDriver} with a fresh one, discarding all cookies, storage and cache of the previous one.
+     *
+     * @param driver the {@link RemoteWebDriver} to recycle
+     * @throws WebDriverException thrown if a new browser context could not be created
+     */
+    static void recycle(final RemoteWebDriver driver) {
+        final BrowserContext previousContext = CONTEXTS.get(driver);
+        if (previousContext == null) {
+            return;
+        }
+
+        final BrowserContext freshContext = createContext(previousContext.host());
+        try {
+            switchToContext(driver, freshContext);
+        } catch (final RuntimeException e) {
+            disposeContext(freshContext);
+            throw e;
+        }
+        CONTEXTS.put(driver, freshContext);
+        disposeContext(previousContext);
+    }
+
+    /**
+     * Quits the {@link RemoteWebDriver} and disposes of its browser context. The shared browser is quit if it has no remaining browser contexts.
+     *
+     * @param driver the {@link RemoteWebDriver} to quit
+     */
+    static void quit(final RemoteWebDriver driver) {
+        final BrowserContext context = CONTEXTS.remove(driver);
+        try {
+            // Sessions attached to an existing browser do not quit the browser itself
+            driver.quit();
+        } catch (final WebDriverException e) {
+            LOGGER.trace("Unable to quit browser context driver", e);
+        }
+
+        if (context != null) {
+            disposeContext(context);
+            releaseHost(context.host());
+        }
+    }
+
+    /**
+     * Measures the share of the memory of the shared browser used by the {@link RemoteWebDriver}, being the memory of the shared browser (see
+     * {@link ChromeProcessMemory}) divided by the number of browser contexts leased from it.
+     *
+     * @param driver the {@link RemoteWebDriver}
+     * @return the memory used in bytes, or {@link ChromeProcessMemory#UNKNOWN}
+     */
+    static long measureMemory(final RemoteWebDriver driver) {
+        final BrowserContext context = CONTEXTS.get(driver);
+        if (context == null) {
+            return ChromeProcessMemory.UNKNOWN;
+        }
+
+        final HostBrowser host = context.host();
+        final long hostBytes = ChromeProcessMemory.measure(host.driver(), JavaWebDriverFactory.userDataDir(host.driver()));
+        if (hostBytes == ChromeProcessMemory.UNKNOWN) {
+            return ChromeProcessMemory.UNKNOWN;
+        }
+        return hostBytes / Math.max(1, host.leasedContexts());
+    }
+
+    /**
+     * Stops leasing new browser contexts from the shared browser of the {@link RemoteWebDriver}, so that it is quit once every driver using it has
+     * been quit.
+     *
+     * @param driver the {@link RemoteWebDriver}
+     */
+    static void retireHost(final RemoteWebDriver driver) {
+        final BrowserContext context = CONTEXTS.get(driver);
+        if (context != null) {
+            context.host().retire();
+        }
+    }
+
+    /**
+     * Quits any shared browsers which are still running.
+     */
+    static void shutdown() {
+        final List<HostBrowser> remainingHosts;
+        HOSTS_LOCK.lock();
+        try {
+            remainingHosts = new ArrayList<>(HOSTS);
+            HOSTS.clear();
+        } finally {
+            HOSTS_LOCK.unlock();
+        }
+
+        CONTEXTS.clear();
+        remainingHosts.forEach(SharedBrowserContexts::quitHost);
+    }
+
+    // Shared browsers are launched while holding the lock, so concurrent callers wait for a single launch rather than each launching a browser
+    private static HostBrowser leaseHost(final TrackerType trackerType) {
+        HOSTS_LOCK.lock();
+        try {
+            for (final HostBrowser host : HOSTS) {
+                if (host.trackerType() == trackerType && host.tryLease(CONFIG.browserContextsPerBrowser())) {
+                    return host;
+                }
+            }
+
+            final RemoteWebDriver hostDriver = JavaWebDriverFactory.createDriver(trackerType, List.of());
+            final String debuggerAddress = JavaWebDriverFactory.debuggerAddress(hostDriver);
+            if (debuggerAddress == null) {
+                hostDriver.quit();
+                JavaWebDriverFactory.deleteUserDataDir(hostDriver);
+                throw new WebDriverException("Shared browser did not report a DevTools address");
+            }
+
+            LOGGER.debug("Launched shared {} browser at '{}'", trackerType.formattedName(), debuggerAddress);
+            final HostBrowser host = new HostBrowser(trackerType, hostDriver, debuggerAddress);
+            host.tryLease(CONFIG.browserContextsPerBrowser());
+            HOSTS.add(host);
+            return host;
+        } finally {
+            HOSTS_LOCK.unlock();
+        }
+    }
+
+    private static void releaseHost(final HostBrowser host) {
+        final boolean unused;
+        HOSTS_LOCK.lock();
+        try {
+            unused = host.release() == 0 && HOSTS.remove(host);
+        } finally {
+            HOSTS_LOCK.unlock();
+        }
+
+        if (unused) {
+            quitHost(host);
+        }
+    }
+
+    private static void quitHost(final HostBrowser host) {
+        LOGGER.debug("Quitting shared {} browser at '{}'", host.trackerType().formattedName(), host.debuggerAddress());
+        try {
+            host.driver().quit();
+        } catch (final WebDriverException e) {
+            LOGGER.trace("Unable to quit shared browser", e);
+        }
+        JavaWebDriverFactory.deleteUserDataDir(host.driver());
+    }
+
+    private static BrowserContext createContext(final HostBrowser host) {
+        final Dimension size = JavaWebDriverFactory.parseDimensions();
+        host.lock().lock();
+        try {
+            final String browserContextId = stringValue(
+                host.cdp().executeCdpCommand("Target.createBrowserContext", Map.of("disposeOnDetach", false)), "browserContextId");
+            final Map<String, Object> targetParameters = Map.of(
+                "url", DEFAULT_BROWSER_PAGE,
+                "browserContextId", browserContextId,
+                "width", size.getWidth(),
+                "height", size.getHeight()
+            );
+            final String targetId = stringValue(host.cdp().executeCdpCommand("Target.createTarget", targetParameters), "targetId");
+            LOGGER.trace("Created browser context '{}' with target '{}'", browserContextId, targetId);
+            return new BrowserContext(host, browserContextId, targetId);
+        } finally {
+            host.lock().unlock();
+        }
+    }
+
+    private static void disposeContext(final BrowserContext context) {
+        final HostBrowser host = context.host();
+        host.lock().lock();
+        try {
+            host.cdp().executeCdpCommand("Target.disposeBrowserContext", Map.of("browserContextId", context.browserContextId()));
+        } catch (final WebDriverException e) {
+            LOGGER.trace("Unable to dispose browser context '{}'", context.browserContextId(), e);
+        } finally {
+            host.lock().unlock();
+        }
+    }
+
+    // chromedriver uses the CDP target ID as the window handle
+    private static void switchToContext(final RemoteWebDriver driver, final BrowserContext context) {
+        driver.switchTo().window(context.targetId());
+        if (driver instanceof final ChromeDriver chromeDriver) {
+            JavaWebDriverFactory.applyConfiguredSize(chromeDriver);
+        }
+    }
+
+    private static String stringValue(final Map<String, Object> response, final String key) {
+        if (response.get(key) instanceof final String value) {
+            return value;
+        }
+        throw new WebDriverException("CDP response did not include '%s': %s".formatted(key, response));
+    }
+
+    /**
+     * A browser context in a shared browser, along with the single tab created in it.
+     *
+     * @param host             the {@link HostBrowser} owning the browser context
+     * @param browserContextId the ID of the browser context
+     * @param targetId         the target ID of the tab in the browser context
+     */
+    private record BrowserContext(HostBrowser host, String browserContextId, String targetId) {
+
+    }
+
+    /**
+     * A shared browser, tracking the number of browser contexts leased from it.
+     */
+    private static final class HostBrowser {
+
+        private final Lock lock = new ReentrantLock();
+        private final TrackerType trackerType;
+        private final RemoteWebDriver driver;
+        private final String debuggerAddress;
+        private int leasedContexts;
+        private boolean retired;
+
+        HostBrowser(final TrackerType trackerType, final RemoteWebDriver driver, final String debuggerAddress) {
+            this.trackerType = trackerType;
+            this.driver = driver;
+            this.debuggerAddress = debuggerAddress;
+        }
+
+        // Only called while holding the HOSTS_LOCK
+        boolean tryLease(final int maximumContexts) {
+            if (retired || leasedContexts >= maximumContexts) {
+                return false;
+            }
+            leasedContexts++;
+            return true;
+        }
+
+        // Only called while holding the HOSTS_LOCK
+        int release() {
+            return --leasedContexts;
+        }
+
+        int leasedContexts() {
+            HOSTS_LOCK.lock();
+            try {
+                return leasedContexts;
+            } finally {
+                HOSTS_LOCK.unlock();
+            }
+        }
+
+        void retire() {
+            HOSTS_LOCK.lock();
+            try {
+                retired = true;
+            } finally {
+                HOSTS_LOCK.unlock();
+            }
+        }
+
+        Lock lock() {
+            return lock;
+        }
+
+        TrackerType trackerType() {
+            return trackerType;
+        }
+
+        RemoteWebDriver driver() {
+            return driver;
+        }
+
+        HasCdp cdp() {
+            return (HasCdp) driver;
+        }
+
+        String debuggerAddress() {
+            return debuggerAddress;
+        }
+    }
+}
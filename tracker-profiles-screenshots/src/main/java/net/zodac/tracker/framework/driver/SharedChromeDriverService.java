@@ -0,0 +1,116 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.driver;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import net.zodac.tracker.util.TimingUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jspecify.annotations.Nullable;
+import org.openqa.selenium.chrome.ChromeDriverService;
+
+/**
+ * A single, long-lived {@link ChromeDriverService} shared by every {@link org.openqa.selenium.chrome.ChromeDriver} session.
+ *
+ * <p>
+ * Selenium stops the {@link ChromeDriverService} of a {@link org.openqa.selenium.chrome.ChromeDriver} when that driver quits. Since a single
+ * chromedriver process can serve many concurrent sessions, {@link #stop()} is ignored here, and the process is only stopped once all browsers are
+ * done with {@link #shutdown()}. This avoids starting a chromedriver process for each browser, and waiting for it to stop when each browser quits.
+ */
+final class SharedChromeDriverService extends ChromeDriverService {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(20L);
+    private static final Lock LOCK = new ReentrantLock();
+    private static @Nullable SharedChromeDriverService instance;
+
+    private SharedChromeDriverService(final File executable, final int port) throws IOException {
+        super(executable, port, STARTUP_TIMEOUT, List.of("--port=" + port), Map.of());
+    }
+
+    /**
+     * Retrieves the shared {@link ChromeDriverService}, starting it on first use, or restarting it if the process has exited.
+     *
+     * @param executable the chromedriver executable
+     * @return the running {@link SharedChromeDriverService}
+     */
+    static SharedChromeDriverService get(final File executable) {
+        LOCK.lock();
+        try {
+            if (instance != null && !instance.isRunning()) {
+                LOGGER.warn("Shared chromedriver is no longer running, restarting");
+                instance.stopProcess();
+                instance = null;
+            }
+
+            if (instance == null) {
+                final long startNanos = System.nanoTime();
+                final SharedChromeDriverService service = new SharedChromeDriverService(executable, findFreePort());
+                service.start();
+                LOGGER.debug("\t- Started shared chromedriver at '{}' in {}", service.getUrl(),
+                    TimingUtils.toNaturalTime(System.nanoTime() - startNanos));
+                instance = service;
+            }
+            return instance;
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to start shared chromedriver", e);
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    /**
+     * Stops the shared chromedriver process, if it was started. Should only be called once all browsers have been quit.
+     */
+    static void shutdown() {
+        LOCK.lock();
+        try {
+            if (instance != null) {
+                LOGGER.trace("Stopping shared chromedriver at '{}'", instance.getUrl());
+                instance.stopProcess();
+                instance = null;
+            }
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    // Called by each driver as it quits, but other drivers may still be using the service
+    @Override
+    public void stop() {
+        LOGGER.trace("Ignoring stop request for shared chromedriver");
+    }
+
+    private void stopProcess() {
+        super.stop();
+    }
+
+    private static int findFreePort() throws IOException {
+        try (final ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
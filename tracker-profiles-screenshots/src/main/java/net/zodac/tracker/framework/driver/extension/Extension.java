@@ -38,10 +38,24 @@ public interface Extension {
      */
     String path();
 
+    /**
+     * A key identifying the {@link Extension} and its configuration. Browsers configured with {@link Extension}s with the same keys are identical, so
+     * can be reused by any tracker requiring the same {@link Extension}s.
+     *
+     * <p>
+     * Defaults to the {@link #id()}, and should be overridden if the {@link Extension} can be configured differently.
+     *
+     * @return the configuration key
+     */
+    default String configurationKey() {
+        return id();
+    }
+
     /**
      * Performs any configuration needed for the {@link Extension}.
      *
      * @param driver the {@link RemoteWebDriver}
+     * @return {@code true} if the {@link Extension} was successfully configured
      */
-    void configure(RemoteWebDriver driver);
+    boolean configure(RemoteWebDriver driver);
 }
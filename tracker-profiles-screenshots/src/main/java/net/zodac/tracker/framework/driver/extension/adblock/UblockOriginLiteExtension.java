@@ -27,6 +27,7 @@ import static net.zodac.tracker.framework.xpath.XpathAttributePredicate.withId;
 import static net.zodac.tracker.framework.xpath.XpathAttributePredicate.withType;
 
 import java.time.Duration;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import net.zodac.tracker.framework.driver.extension.Extension;
@@ -45,6 +46,7 @@ import org.openqa.selenium.remote.RemoteWebDriver;
 public class UblockOriginLiteExtension implements Extension {
 
     private static final Logger LOGGER = LogManager.getLogger();
+    private static final Duration CONFIGURATION_PAGE_TIMEOUT = Duration.ofSeconds(5L);
     private static final int Y_PIXELS_TO_SCROLL_TO_MAKE_CHECKBOXES_VISIBLE = -150;
 
     private final Map<UblockOriginSetting, Boolean> settings;
@@ -68,6 +70,15 @@ public class UblockOriginLiteExtension implements Extension {
         return "/app/ublock_origin_lite.crx";
     }
 
+    @Override
+    public String configurationKey() {
+        final Map<UblockOriginSetting, Boolean> resolvedSettings = new EnumMap<>(UblockOriginSetting.class);
+        for (final UblockOriginSetting setting : UblockOriginSetting.values()) {
+            resolvedSettings.put(setting, isSettingEnabled(setting));
+        }
+        return id() + resolvedSettings;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -82,12 +93,12 @@ public class UblockOriginLiteExtension implements Extension {
      * </ol>
      */
     @Override
-    public void configure(final RemoteWebDriver driver) {
+    public boolean configure(final RemoteWebDriver driver) {
         try {
             final BrowserInteractionHelper browserInteractionHelper = new BrowserInteractionHelper(driver);
             LOGGER.info("\t- Configuring {}", getClass().getSimpleName());
             LOGGER.debug("\t\t- Configuring with settings {}", settings);
-            openExtensionConfigurationPage(driver, id());
+            openExtensionConfigurationPage(driver, browserInteractionHelper, id());
 
             if (isSettingEnabled(UblockOriginSetting.SET_FILTERING_MODE)) {
                 LOGGER.debug("\t\t- Setting filtering mode");
@@ -112,9 +123,11 @@ public class UblockOriginLiteExtension implements Extension {
                     enableAllRegionFilters(driver, browserInteractionHelper);
                 }
             }
+            return true;
         } catch (final Exception e) {
             LOGGER.debug("Error configuring {}", UblockOriginLiteExtension.class.getSimpleName(), e);
             LOGGER.warn("Error configuring {}: {}", UblockOriginLiteExtension.class.getSimpleName(), e.getMessage());
+            return false;
         }
     }
 
@@ -122,9 +135,10 @@ public class UblockOriginLiteExtension implements Extension {
         return settings.getOrDefault(setting, true);
     }
 
-    private static void openExtensionConfigurationPage(final RemoteWebDriver driver, final String id) {
+    private static void openExtensionConfigurationPage(final RemoteWebDriver driver, final BrowserInteractionHelper browserInteractionHelper,
+                                                       final String id) {
         driver.navigate().to(String.format("chrome-extension://%s/dashboard.html", id));
-        BrowserInteractionHelper.explicitWait(Duration.ofSeconds(1L), "configuration page to open");
+        browserInteractionHelper.waitForElementToBePresent(By.id("defaultFilteringMode"), CONFIGURATION_PAGE_TIMEOUT);
     }
 
     // Set filtering mode to 'Complete' option
@@ -176,7 +190,7 @@ public class UblockOriginLiteExtension implements Extension {
         browserInteractionHelper.scrollToElement(regionsList);
         regionsList.click();
         LOGGER.trace("Clicking {} to expand list", regionsList);
-        BrowserInteractionHelper.explicitWait(Duration.ofSeconds(1L), "region filter lists to expand");
+        browserInteractionHelper.waitForDomToSettle(Duration.ofSeconds(1L));
     }
 
     private static void enableAllRegionFilters(final RemoteWebDriver driver, final BrowserInteractionHelper browserInteractionHelper) {
@@ -0,0 +1,41 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.exception;
+
+import java.io.Serial;
+
+/**
+ * Exception used to indicate that a tracker being executed in a headless browser needs a manual input, so must be executed in a UI browser instead.
+ */
+public class ManualInputRequiredException extends RuntimeException {
+
+    private static final String ERROR_MESSAGE_FORMAT = "Tracker '%s' requires manual input: %s";
+
+    @Serial
+    private static final long serialVersionUID = -2204671593140265379L;
+
+    /**
+     * Takes the tracker name and reason and constructs an error message for the {@link ManualInputRequiredException}.
+     *
+     * @param trackerName the name of the tracker
+     * @param reason      the reason manual input is required
+     */
+    public ManualInputRequiredException(final String trackerName, final String reason) {
+        super(String.format(ERROR_MESSAGE_FORMAT, trackerName, reason));
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.network;
+
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.channels.UnresolvedAddressException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import net.zodac.tracker.framework.TrackerDefinition;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Checks whether the URLs of each tracker are reachable, before any browser is launched.
+ *
+ * <p>
+ * A lightweight {@code HEAD} request is sent to every URL of every {@link TrackerDefinition} at once. Any HTTP response (including error status
+ * codes, or a Cloudflare challenge) means the server is up and the URL is considered reachable. Only a failure to resolve or connect to the host,
+ * or no response within the timeout, means the URL is unreachable. Any other failure (such as a TLS error) is left for the browser to decide.
+ */
+public final class TrackerReachabilityProbe {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final int FIRST_SERVER_ERROR_STATUS_CODE = 500;
+    private static final String USER_AGENT = "Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/140.0.0.0 Safari/537.36";
+
+    private final Duration timeout;
+
+    /**
+     * Constructor for {@link TrackerReachabilityProbe}.
+     *
+     * @param timeout the maximum time to wait for each URL to connect and respond
+     */
+    public TrackerReachabilityProbe(final Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * Probes every URL of each provided {@link TrackerDefinition} concurrently.
+     *
+     * <p>
+     * The {@link UrlProbeResult}s for each tracker are ranked with the reachable URLs first (healthy responses before server errors, then fastest
+     * response first), followed by any unreachable URLs in their declared order.
+     *
+     * @param trackerDefinitions the {@link TrackerDefinition}s to probe
+     * @return the ranked {@link UrlProbeResult}s, keyed by {@link TrackerDefinition#name()}
+     */
+    public Map<String, List<UrlProbeResult>> probe(final Collection<TrackerDefinition> trackerDefinitions) {
+        final Map<String, List<CompletableFuture<UrlProbeResult>>> pendingResults = new LinkedHashMap<>();
+
+        try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             final HttpClient httpClient = createHttpClient(executor)) {
+            for (final TrackerDefinition trackerDefinition : trackerDefinitions) {
+                final List<CompletableFuture<UrlProbeResult>> urlResults = new ArrayList<>();
+                for (final String url : trackerDefinition.urls()) {
+                    urlResults.add(probeUrl(httpClient, url));
+                }
+                pendingResults.put(trackerDefinition.name(), urlResults);
+            }
+
+            final Map<String, List<UrlProbeResult>> results = new LinkedHashMap<>();
+            for (final Map.Entry<String, List<CompletableFuture<UrlProbeResult>>> entry : pendingResults.entrySet()) {
+                final List<UrlProbeResult> urlResults = entry.getValue()
+                    .stream()
+                    .map(CompletableFuture::join)
+                    .toList();
+                results.put(entry.getKey(), rank(urlResults));
+            }
+            return results;
+        }
+    }
+
+    /**
+     * Races a request against each of the {@code urls} concurrently, returning the first URL to respond with a healthy HTTP status code. Any
+     * requests still in progress are cancelled once a URL has won.
+     *
+     * @param urls the URLs to race
+     * @return the first healthy URL, or {@link Optional#empty()} if no URL responded in time with a healthy status code
+     */
+    public Optional<String> race(final Collection<String> urls) {
+        final CompletableFuture<Optional<String>> winner = new CompletableFuture<>();
+
+        try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             final HttpClient httpClient = createHttpClient(executor)) {
+            final List<CompletableFuture<UrlProbeResult>> pendingResults = new ArrayList<>();
+            for (final String url : urls) {
+                pendingResults.add(probeUrl(httpClient, url).whenComplete((result, _) -> {
+                    if (result != null && result.healthy()) {
+                        winner.complete(Optional.of(result.url()));
+                    }
+                }));
+            }
+
+            final CompletableFuture<Optional<String>> noWinner = CompletableFuture
+                .allOf(pendingResults.toArray(new CompletableFuture<?>[0]))
+                .thenApply(_ -> Optional.empty());
+            final Optional<String> winningUrl = winner.applyToEither(noWinner, Function.identity()).join();
+
+            // Abort the slower requests, otherwise closing the client waits for them to finish
+            pendingResults.forEach(pendingResult -> pendingResult.cancel(true));
+            httpClient.shutdownNow();
+            return winningUrl;
+        }
+    }
+
+    private HttpClient createHttpClient(final ExecutorService executor) {
+        return HttpClient.newBuilder()
+            .connectTimeout(timeout)
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .executor(executor)
+            .build();
+    }
+
+    private CompletableFuture<UrlProbeResult> probeUrl(final HttpClient httpClient, final String url) {
+        final HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(URI.create(url))
+                .method("HEAD", HttpRequest.BodyPublishers.noBody())
+                .header("User-Agent", USER_AGENT)
+                .timeout(timeout)
+                .build();
+        } catch (final IllegalArgumentException e) {
+            LOGGER.debug("Unable to probe invalid URL '{}', leaving for browser", url, e);
+            return CompletableFuture.completedFuture(new UrlProbeResult(url, true, false, timeout));
+        }
+
+        final long startNanos = System.nanoTime();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+            .handle((response, error) -> {
+                final Duration responseTime = Duration.ofNanos(System.nanoTime() - startNanos);
+                if (error == null) {
+                    LOGGER.trace("Probed '{}' in {}ms: HTTP {}", url, responseTime.toMillis(), response.statusCode());
+                    return new UrlProbeResult(url, true, response.statusCode() < FIRST_SERVER_ERROR_STATUS_CODE, responseTime);
+                }
+
+                final Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                final boolean reachable = !isUnreachable(cause);
+                LOGGER.trace("Probed '{}' in {}ms: {} (reachable: {})", url, responseTime.toMillis(), cause.toString(), reachable);
+                return new UrlProbeResult(url, reachable, false, responseTime);
+            });
+    }
+
+    private static boolean isUnreachable(final Throwable error) {
+        Throwable current = error;
+        while (current != null) {
+            if (current instanceof ConnectException || current instanceof HttpTimeoutException || current instanceof UnresolvedAddressException) {
+                return true;
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+
+    private static List<UrlProbeResult> rank(final List<UrlProbeResult> urlResults) {
+        final List<UrlProbeResult> reachable = urlResults
+            .stream()
+            .filter(UrlProbeResult::reachable)
+            .sorted(Comparator.comparing(UrlProbeResult::healthy).reversed().thenComparing(UrlProbeResult::responseTime))
+            .toList();
+
+        final List<UrlProbeResult> ranked = new ArrayList<>(reachable);
+        urlResults
+            .stream()
+            .filter(result -> !result.reachable())
+            .forEach(ranked::add);
+        return List.copyOf(ranked);
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.network;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import net.zodac.tracker.framework.TrackerDefinition;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Holds the preferred order of the URLs for each tracker, so the fastest reachable URL is opened first.
+ *
+ * <p>
+ * The URL that was successfully opened for each tracker is remembered, and can be persisted with {@link #save(Path)} so it is preferred on the next
+ * execution. If the URLs are ranked during the current execution with {@link #update(String, List)}, that ranking is used instead.
+ */
+public final class TrackerUrlRanking {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final String COMMENT_PREFIX = "#";
+    private static final String DELIMITER = ",";
+    private static final int NUMBER_OF_FIELDS = 2;
+
+    private static final Map<String, List<String>> RANKED_URLS_BY_TRACKER_NAME = new ConcurrentHashMap<>();
+    private static final Map<String, String> PREFERRED_URL_BY_TRACKER_NAME = new ConcurrentHashMap<>();
+
+    private TrackerUrlRanking() {
+
+    }
+
+    /**
+     * Loads the preferred URL of each tracker from a previous execution, replacing any existing preferred URLs. If the file does not exist or
+     * cannot be read, no URLs are preferred.
+     *
+     * @param preferredUrlsFile the {@link Path} to the preferred URLs file
+     */
+    public static void load(final Path preferredUrlsFile) {
+        PREFERRED_URL_BY_TRACKER_NAME.clear();
+        if (!Files.isRegularFile(preferredUrlsFile)) {
+            LOGGER.trace("No preferred tracker URLs found at '{}'", preferredUrlsFile);
+            return;
+        }
+
+        try {
+            for (final String line : Files.readAllLines(preferredUrlsFile, StandardCharsets.UTF_8)) {
+                final String trimmedLine = line.trim();
+                if (trimmedLine.isEmpty() || trimmedLine.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                final String[] fields = trimmedLine.split(DELIMITER, NUMBER_OF_FIELDS);
+                if (fields.length == NUMBER_OF_FIELDS) {
+                    PREFERRED_URL_BY_TRACKER_NAME.put(key(fields[0]), fields[1].trim());
+                } else {
+                    LOGGER.trace("Ignoring invalid preferred tracker URL entry: '{}'", trimmedLine);
+                }
+            }
+            LOGGER.trace("Loaded preferred URLs for {} trackers from '{}'", PREFERRED_URL_BY_TRACKER_NAME.size(), preferredUrlsFile);
+        } catch (final IOException e) {
+            LOGGER.debug("Unable to read preferred tracker URLs from '{}'", preferredUrlsFile, e);
+            LOGGER.warn("Unable to read preferred tracker URLs from '{}': {}", preferredUrlsFile, e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the preferred URL of each tracker to the file, creating any parent directories if needed.
+     *
+     * @param preferredUrlsFile the {@link Path} to the preferred URLs file
+     */
+    public static void save(final Path preferredUrlsFile) {
+        final List<String> lines = new ArrayList<>();
+        lines.add(COMMENT_PREFIX + " trackerName,url");
+        new TreeMap<>(PREFERRED_URL_BY_TRACKER_NAME).forEach((trackerName, url) -> lines.add(trackerName + DELIMITER + url));
+
+        try {
+            final Path parent = preferredUrlsFile.getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.write(preferredUrlsFile, lines, StandardCharsets.UTF_8);
+            LOGGER.trace("Saved preferred URLs for {} trackers to '{}'", PREFERRED_URL_BY_TRACKER_NAME.size(), preferredUrlsFile);
+        } catch (final IOException e) {
+            LOGGER.debug("Unable to save preferred tracker URLs to '{}'", preferredUrlsFile, e);
+            LOGGER.warn("Unable to save preferred tracker URLs to '{}': {}", preferredUrlsFile, e.getMessage());
+        }
+    }
+
+    /**
+     * Updates the preferred order of URLs for a tracker.
+     *
+     * @param trackerName the name of the tracker
+     * @param rankedUrls  the URLs of the tracker, in their preferred order
+     */
+    public static void update(final String trackerName, final List<String> rankedUrls) {
+        RANKED_URLS_BY_TRACKER_NAME.put(key(trackerName), List.copyOf(rankedUrls));
+    }
+
+    /**
+     * Records the URL that was successfully opened for a tracker, so it is preferred on the next execution.
+     *
+     * @param trackerName the name of the tracker
+     * @param url         the URL that was successfully opened
+     */
+    public static void recordPreferredUrl(final String trackerName, final String url) {
+        PREFERRED_URL_BY_TRACKER_NAME.put(key(trackerName), url);
+    }
+
+    /**
+     * Returns a copy of the {@link TrackerDefinition} with its {@link TrackerDefinition#urls()} in their preferred order. Any URL that has not been
+     * ranked keeps its declared position after the ranked URLs.
+     *
+     * @param trackerDefinition the {@link TrackerDefinition}
+     * @return the {@link TrackerDefinition} with ordered URLs
+     */
+    public static TrackerDefinition apply(final TrackerDefinition trackerDefinition) {
+        if (trackerDefinition.urls().size() < 2) {
+            return trackerDefinition;
+        }
+
+        final List<String> rankedUrls = rankedUrls(trackerDefinition.name());
+        if (rankedUrls.isEmpty()) {
+            return trackerDefinition;
+        }
+
+        final Collection<String> declaredUrls = trackerDefinition.urls();
+        final List<String> orderedUrls = new ArrayList<>(declaredUrls.size());
+        for (final String rankedUrl : rankedUrls) {
+            if (declaredUrls.contains(rankedUrl)) {
+                orderedUrls.add(rankedUrl);
+            }
+        }
+        for (final String declaredUrl : declaredUrls) {
+            if (!orderedUrls.contains(declaredUrl)) {
+                orderedUrls.add(declaredUrl);
+            }
+        }
+        return new TrackerDefinition(trackerDefinition.name(), trackerDefinition.type(), orderedUrls);
+    }
+
+    private static List<String> rankedUrls(final String trackerName) {
+        final List<String> rankedUrls = RANKED_URLS_BY_TRACKER_NAME.get(key(trackerName));
+        if (rankedUrls != null) {
+            return rankedUrls;
+        }
+
+        final String preferredUrl = PREFERRED_URL_BY_TRACKER_NAME.get(key(trackerName));
+        return preferredUrl == null ? List.of() : List.of(preferredUrl);
+    }
+
+    private static String key(final String trackerName) {
+        return trackerName.trim().toLowerCase(Locale.ROOT);
+    }
+}
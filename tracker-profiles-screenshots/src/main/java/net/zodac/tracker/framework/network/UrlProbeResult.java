@@ -0,0 +1,32 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.network;
+
+import java.time.Duration;
+
+/**
+ * The result of probing a single tracker URL.
+ *
+ * @param url          the probed URL
+ * @param reachable    whether the server responded to the request (with any HTTP status code)
+ * @param healthy      whether the server responded with a non-server-error HTTP status code (below {@code 500})
+ * @param responseTime the time taken for the server to respond, or the time until the request failed
+ */
+public record UrlProbeResult(String url, boolean reachable, boolean healthy, Duration responseTime) {
+
+}
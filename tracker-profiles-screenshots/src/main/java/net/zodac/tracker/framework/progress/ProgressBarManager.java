@@ -148,7 +148,7 @@ public final class ProgressBarManager {
      *
      * <p>
      * When a tracker fails partway through or its screenshots are skipped, the unfired ticks would leave the bar permanently under-filled. Call this
-     * in a {@code finally} block in the screenshot workflow to compensate for missing ticks.
+     * once a tracker has finished (successfully or not) to compensate for missing ticks.
      *
      * @param stepsToTick the number of {@link TrackerStep} steps to {@link ProgressBar#tick(int)}
      */
@@ -65,7 +65,7 @@ public enum TrackerStep {
      *
      * @return the {@link TrackerStep} name
      */
-    String formattedName() {
+    public String formattedName() {
         return name;
     }
 }
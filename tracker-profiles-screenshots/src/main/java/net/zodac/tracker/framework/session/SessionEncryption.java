@@ -0,0 +1,118 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.session;
+
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Utility class to encrypt and decrypt saved sessions at rest.
+ *
+ * <p>
+ * Data is encrypted with {@code AES-256-GCM}, using a key derived from a passphrase with {@code PBKDF2WithHmacSHA256}. A random salt and IV are
+ * generated for each encryption and stored in the output, in the format: {@code version | salt | iv | ciphertext}. As GCM is authenticated, any
+ * modified data (or the wrong passphrase) fails to decrypt, rather than producing invalid output.
+ */
+final class SessionEncryption {
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final String CIPHER_ALGORITHM = "AES/GCM/NoPadding";
+    private static final String KEY_ALGORITHM = "AES";
+    private static final String KEY_DERIVATION_ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int KEY_DERIVATION_ITERATIONS = 210_000;
+    private static final int KEY_LENGTH_BITS = 256;
+    private static final int SALT_LENGTH_BYTES = 16;
+    private static final int IV_LENGTH_BYTES = 12;
+    private static final int TAG_LENGTH_BITS = 128;
+    private static final int HEADER_LENGTH_BYTES = 1 + SALT_LENGTH_BYTES + IV_LENGTH_BYTES;
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    private SessionEncryption() {
+
+    }
+
+    /**
+     * Encrypts the {@code plaintext} with a key derived from the {@code passphrase}.
+     *
+     * @param plaintext  the data to encrypt
+     * @param passphrase the passphrase to derive the key from
+     * @return the encrypted data, including the salt and IV needed to decrypt it
+     * @throws GeneralSecurityException thrown if the data could not be encrypted
+     */
+    static byte[] encrypt(final byte[] plaintext, final String passphrase) throws GeneralSecurityException {
+        final byte[] salt = randomBytes(SALT_LENGTH_BYTES);
+        final byte[] iv = randomBytes(IV_LENGTH_BYTES);
+
+        final Cipher cipher = Cipher.getInstance(CIPHER_ALGORITHM);
+        cipher.init(Cipher.ENCRYPT_MODE, deriveKey(passphrase, salt), new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+        final byte[] ciphertext = cipher.doFinal(plaintext);
+
+        return ByteBuffer.allocate(HEADER_LENGTH_BYTES + ciphertext.length)
+            .put(FORMAT_VERSION)
+            .put(salt)
+            .put(iv)
+            .put(ciphertext)
+            .array();
+    }
+
+    /**
+     * Decrypts data previously created by {@link #encrypt(byte[], String)}.
+     *
+     * @param encrypted  the encrypted data
+     * @param passphrase the passphrase used to encrypt the data
+     * @return the decrypted data
+     * @throws GeneralSecurityException thrown if the data is invalid, has been modified, or the passphrase is incorrect
+     */
+    static byte[] decrypt(final byte[] encrypted, final String passphrase) throws GeneralSecurityException {
+        if (encrypted.length <= HEADER_LENGTH_BYTES || encrypted[0] != FORMAT_VERSION) {
+            throw new GeneralSecurityException("Unsupported or corrupt session data");
+        }
+
+        final byte[] salt = Arrays.copyOfRange(encrypted, 1, 1 + SALT_LENGTH_BYTES);
+        final byte[] iv = Arrays.copyOfRange(encrypted, 1 + SALT_LENGTH_BYTES, HEADER_LENGTH_BYTES);
+
+        final Cipher cipher = Cipher.getInstance(CIPHER_ALGORITHM);
+        cipher.init(Cipher.DECRYPT_MODE, deriveKey(passphrase, salt), new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+        return cipher.doFinal(encrypted, HEADER_LENGTH_BYTES, encrypted.length - HEADER_LENGTH_BYTES);
+    }
+
+    private static SecretKeySpec deriveKey(final String passphrase, final byte[] salt) throws GeneralSecurityException {
+        final char[] passphraseCharacters = passphrase.toCharArray();
+        final PBEKeySpec keySpec = new PBEKeySpec(passphraseCharacters, salt, KEY_DERIVATION_ITERATIONS, KEY_LENGTH_BITS);
+        try {
+            final byte[] key = SecretKeyFactory.getInstance(KEY_DERIVATION_ALGORITHM).generateSecret(keySpec).getEncoded();
+            return new SecretKeySpec(key, KEY_ALGORITHM);
+        } finally {
+            keySpec.clearPassword();
+            Arrays.fill(passphraseCharacters, '\0');
+        }
+    }
+
+    private static byte[] randomBytes(final int length) {
+        final byte[] bytes = new byte[length];
+        SECURE_RANDOM.nextBytes(bytes);
+        return bytes;
+    }
+}
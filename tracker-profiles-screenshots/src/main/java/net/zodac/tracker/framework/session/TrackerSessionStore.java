@@ -0,0 +1,282 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.session;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import net.zodac.tracker.framework.config.ApplicationConfiguration;
+import net.zodac.tracker.framework.config.Configuration;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jspecify.annotations.Nullable;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+/**
+ * Stores the session cookies of each tracker between executions, so a tracker with a valid session does not need to log in again.
+ *
+ * <p>
+ * Sessions are only stored if {@link ApplicationConfiguration#persistTrackerSessions()} is enabled. Each tracker is saved to its own file in the
+ * {@link ApplicationConfiguration#browserDataStoragePath()}, encrypted with the {@link ApplicationConfiguration#sessionStorePassphrase()} (see
+ * {@link SessionEncryption}). Any file that cannot be read or decrypted is treated as if there is no saved session.
+ *
+ * <p>
+ * The user-agent of the browser is saved with the cookies, and is applied when the session is restored. Clearance cookies (like Cloudflare's) are
+ * tied to the user-agent that passed the challenge, so a headless browser can only reuse them while sending the same user-agent as the UI browser.
+ */
+public final class TrackerSessionStore {
+
+    private static final ApplicationConfiguration CONFIG = Configuration.get();
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final Path SESSION_DIRECTORY = Path.of(CONFIG.browserDataStoragePath(), "sessions");
+    private static final String SESSION_FILE_EXTENSION = ".session";
+    private static final int FORMAT_VERSION = 2;
+    private static final long NO_EXPIRY = -1L;
+
+    private TrackerSessionStore() {
+
+    }
+
+    /**
+     * Checks whether tracker sessions should be persisted between executions.
+     *
+     * @return {@code true} if {@link ApplicationConfiguration#persistTrackerSessions()} is enabled
+     */
+    public static boolean isEnabled() {
+        return CONFIG.persistTrackerSessions();
+    }
+
+    /**
+     * Saves the current cookies of the {@link RemoteWebDriver} as the session for the tracker, replacing any existing session.
+     *
+     * @param trackerName the name of the tracker
+     * @param driver      the {@link RemoteWebDriver} with the logged-in session
+     */
+    public static void save(final String trackerName, final RemoteWebDriver driver) {
+        final Path sessionFile = sessionFile(trackerName);
+        try {
+            final String userAgent = String.valueOf(driver.executeScript("return navigator.userAgent;"));
+            final byte[] serialised = serialise(new StoredSession(userAgent, List.copyOf(driver.manage().getCookies())));
+            final byte[] encrypted = SessionEncryption.encrypt(serialised, CONFIG.sessionStorePassphrase());
+            Files.createDirectories(SESSION_DIRECTORY);
+            Files.write(sessionFile, encrypted);
+            restrictPermissions(sessionFile);
+            LOGGER.trace("Saved session for '{}' to '{}'", trackerName, sessionFile);
+        } catch (final IOException | GeneralSecurityException e) {
+            LOGGER.debug("Unable to save session for '{}'", trackerName, e);
+            LOGGER.warn("Unable to save session for '{}': {}", trackerName, e.getMessage());
+        }
+    }
+
+    /**
+     * Checks whether a session has been saved for the tracker. The session is not read, so it may have expired or be unreadable.
+     *
+     * @param trackerName the name of the tracker
+     * @return {@code true} if a saved session exists
+     */
+    public static boolean hasSession(final String trackerName) {
+        return Files.isRegularFile(sessionFile(trackerName));
+    }
+
+    /**
+     * Restores the saved session for the tracker into the {@link RemoteWebDriver}. The saved user-agent and session cookies are set before any page
+     * is opened, so the tracker should be opened afterwards to check whether the session is still valid.
+     *
+     * @param trackerName the name of the tracker
+     * @param driver      the {@link RemoteWebDriver} to restore the session into
+     * @return {@code true} if a saved session was restored
+     */
+    public static boolean restore(final String trackerName, final RemoteWebDriver driver) {
+        final Path sessionFile = sessionFile(trackerName);
+        if (!Files.isRegularFile(sessionFile)) {
+            LOGGER.trace("No saved session for '{}'", trackerName);
+            return false;
+        }
+
+        if (!(driver instanceof final HasCdp cdpDriver)) {
+            LOGGER.trace("Driver for '{}' does not support restoring sessions", trackerName);
+            return false;
+        }
+
+        try {
+            final StoredSession storedSession =
+                deserialise(SessionEncryption.decrypt(Files.readAllBytes(sessionFile), CONFIG.sessionStorePassphrase()));
+            final List<Cookie> cookies = storedSession.cookies();
+            if (cookies.isEmpty()) {
+                return false;
+            }
+
+            if (!storedSession.userAgent().isBlank()) {
+                cdpDriver.executeCdpCommand("Network.setUserAgentOverride", Map.of("userAgent", storedSession.userAgent()));
+            }
+            cdpDriver.executeCdpCommand("Network.setCookies", Map.of("cookies", cookies.stream().map(TrackerSessionStore::toCdpCookie).toList()));
+            LOGGER.trace("Restored {} cookies for '{}'", cookies.size(), trackerName);
+            return true;
+        } catch (final IOException | GeneralSecurityException e) {
+            LOGGER.debug("Unable to restore session for '{}'", trackerName, e);
+            LOGGER.warn("Unable to restore session for '{}', will log in instead: {}", trackerName, e.getMessage());
+            delete(trackerName);
+            return false;
+        }
+    }
+
+    /**
+     * Clears the cookies of a restored session from the {@link RemoteWebDriver}. The cookies are restored for every domain they were saved for (such
+     * as tracker mirrors), so they are cleared from the whole browser rather than only the current domain.
+     *
+     * @param driver the {@link RemoteWebDriver} the session was restored into
+     */
+    public static void clearRestoredCookies(final RemoteWebDriver driver) {
+        if (driver instanceof final HasCdp cdpDriver) {
+            cdpDriver.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+        } else {
+            driver.manage().deleteAllCookies();
+        }
+    }
+
+    /**
+     * Deletes the saved session for the tracker, if one exists.
+     *
+     * @param trackerName the name of the tracker
+     */
+    public static void delete(final String trackerName) {
+        try {
+            Files.deleteIfExists(sessionFile(trackerName));
+        } catch (final IOException e) {
+            LOGGER.trace("Could not delete session for '{}'", trackerName, e);
+        }
+    }
+
+    /**
+     * Serialises the {@link StoredSession} into a compact binary format.
+     *
+     * @param storedSession the {@link StoredSession} to serialise
+     * @return the serialised {@link StoredSession}
+     * @throws IOException thrown if the {@link StoredSession} could not be written
+     */
+    static byte[] serialise(final StoredSession storedSession) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeInt(FORMAT_VERSION);
+            output.writeUTF(storedSession.userAgent());
+            output.writeInt(storedSession.cookies().size());
+            for (final Cookie cookie : storedSession.cookies()) {
+                output.writeUTF(cookie.getName());
+                output.writeUTF(cookie.getValue());
+                output.writeUTF(nullToEmpty(cookie.getDomain()));
+                output.writeUTF(nullToEmpty(cookie.getPath()));
+                output.writeLong(cookie.getExpiry() == null ? NO_EXPIRY : cookie.getExpiry().getTime());
+                output.writeBoolean(cookie.isSecure());
+                output.writeBoolean(cookie.isHttpOnly());
+                output.writeUTF(nullToEmpty(cookie.getSameSite()));
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Deserialises a {@link StoredSession} previously serialised by {@link #serialise(StoredSession)}.
+     *
+     * @param serialised the serialised {@link StoredSession}
+     * @return the deserialised {@link StoredSession}
+     * @throws IOException thrown if the data is not in the expected format
+     */
+    static StoredSession deserialise(final byte[] serialised) throws IOException {
+        try (final DataInputStream input = new DataInputStream(new ByteArrayInputStream(serialised))) {
+            final int version = input.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported session format version: " + version);
+            }
+
+            final String userAgent = input.readUTF();
+            final int numberOfCookies = input.readInt();
+            final List<Cookie> cookies = new ArrayList<>(numberOfCookies);
+            for (int i = 0; i < numberOfCookies; i++) {
+                final Cookie.Builder builder = new Cookie.Builder(input.readUTF(), input.readUTF());
+                final String domain = input.readUTF();
+                if (!domain.isEmpty()) {
+                    builder.domain(domain);
+                }
+                final String path = input.readUTF();
+                if (!path.isEmpty()) {
+                    builder.path(path);
+                }
+                final long expiry = input.readLong();
+                if (expiry != NO_EXPIRY) {
+                    builder.expiresOn(new Date(expiry));
+                }
+                builder.isSecure(input.readBoolean());
+                builder.isHttpOnly(input.readBoolean());
+                final String sameSite = input.readUTF();
+                if (!sameSite.isEmpty()) {
+                    builder.sameSite(sameSite);
+                }
+                cookies.add(builder.build());
+            }
+            return new StoredSession(userAgent, cookies);
+        }
+    }
+
+    private static Map<String, Object> toCdpCookie(final Cookie cookie) {
+        final Map<String, Object> cdpCookie = HashMap.newHashMap(8);
+        cdpCookie.put("name", cookie.getName());
+        cdpCookie.put("value", cookie.getValue());
+        cdpCookie.put("domain", nullToEmpty(cookie.getDomain()));
+        cdpCookie.put("path", cookie.getPath() == null ? "/" : cookie.getPath());
+        cdpCookie.put("secure", cookie.isSecure());
+        cdpCookie.put("httpOnly", cookie.isHttpOnly());
+        if (cookie.getExpiry() != null) {
+            cdpCookie.put("expires", cookie.getExpiry().getTime() / 1_000L);
+        }
+        if (cookie.getSameSite() != null) {
+            cdpCookie.put("sameSite", cookie.getSameSite());
+        }
+        return cdpCookie;
+    }
+
+    private static void restrictPermissions(final Path sessionFile) {
+        try {
+            Files.setPosixFilePermissions(sessionFile, PosixFilePermissions.fromString("rw-------"));
+        } catch (final IOException | UnsupportedOperationException e) {
+            LOGGER.trace("Could not restrict permissions of '{}'", sessionFile, e);
+        }
+    }
+
+    private static Path sessionFile(final String trackerName) {
+        final String fileName = trackerName.trim().toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9.-]", "_");
+        return SESSION_DIRECTORY.resolve(fileName + SESSION_FILE_EXTENSION);
+    }
+
+    private static String nullToEmpty(final @Nullable String value) {
+        return value == null ? "" : value;
+    }
+}
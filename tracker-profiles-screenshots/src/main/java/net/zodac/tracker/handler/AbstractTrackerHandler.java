@@ -20,17 +20,23 @@ package net.zodac.tracker.handler;
 import static net.zodac.tracker.framework.xpath.HtmlElement.a;
 import static net.zodac.tracker.framework.xpath.XpathAttributePredicate.withClass;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import net.zodac.tracker.app.ScreenshotOrchestrator;
 import net.zodac.tracker.framework.TrackerDefinition;
 import net.zodac.tracker.framework.TrackerType;
 import net.zodac.tracker.framework.driver.DriverPool;
 import net.zodac.tracker.framework.driver.extension.Extension;
+import net.zodac.tracker.framework.exception.ManualInputRequiredException;
 import net.zodac.tracker.framework.exception.TrackerUnavailableException;
 import net.zodac.tracker.framework.gui.DisplayUtils;
+import net.zodac.tracker.framework.network.TrackerReachabilityProbe;
+import net.zodac.tracker.framework.network.TrackerUrlRanking;
 import net.zodac.tracker.framework.xpath.XpathBuilder;
 import net.zodac.tracker.handler.definition.HasCloudflareCheck;
 import net.zodac.tracker.handler.definition.HasProfilePageActions;
@@ -65,6 +71,8 @@ public abstract class AbstractTrackerHandler implements AutoCloseable, TrackerTi
      */
     protected static final Logger LOGGER = LogManager.getLogger();
 
+    private static final Duration MIRROR_RACE_TIMEOUT = Duration.ofSeconds(10);
+
     /**
      * The {@link RemoteWebDriver} instance used to load web pages and perform UI actions.
      */
@@ -110,11 +118,15 @@ public abstract class AbstractTrackerHandler implements AutoCloseable, TrackerTi
 
     /**
      * Navigates to the home page of the tracker. Waits {@link #pageLoadDuration()} for the page to finish loading.
+     *
+     * <p>
+     * If the tracker has multiple URLs, a lightweight request is raced against each of them and the browser is sent to the first healthy responder,
+     * with the remaining URLs used as fallbacks. The URL that was successfully opened is recorded in the {@link TrackerUrlRanking}.
      */
     public void openTracker() {
         String successfulUrl = null;
 
-        for (final String trackerUrl : trackerDefinition.urls()) {
+        for (final String trackerUrl : urlsInRaceOrder()) {
             if (successfulUrl != null) {
                 // A previous URL successfully connected, no need to try another
                 break;
@@ -143,6 +155,28 @@ public abstract class AbstractTrackerHandler implements AutoCloseable, TrackerTi
         if (successfulUrl == null) {
             throw new TrackerUnavailableException(trackerDefinition.name(), trackerDefinition.urls());
         }
+        TrackerUrlRanking.recordPreferredUrl(trackerDefinition.name(), successfulUrl);
+    }
+
+    private List<String> urlsInRaceOrder() {
+        final List<String> trackerUrls = List.copyOf(trackerDefinition.urls());
+        if (trackerUrls.size() < 2) {
+            return trackerUrls;
+        }
+
+        final Optional<String> fastestUrl = new TrackerReachabilityProbe(MIRROR_RACE_TIMEOUT).race(trackerUrls);
+        if (fastestUrl.isEmpty()) {
+            LOGGER.debug("\t\t- No mirror responded, trying URLs in order");
+            return trackerUrls;
+        }
+
+        LOGGER.debug("\t\t- Fastest mirror: '{}'", fastestUrl.get());
+        final List<String> orderedUrls = new ArrayList<>(trackerUrls.size());
+        orderedUrls.add(fastestUrl.get());
+        trackerUrls.stream()
+            .filter(trackerUrl -> !trackerUrl.equals(fastestUrl.get()))
+            .forEach(orderedUrls::add);
+        return orderedUrls;
     }
 
     /**
@@ -157,13 +191,30 @@ public abstract class AbstractTrackerHandler implements AutoCloseable, TrackerTi
         // Do nothing by default
     }
 
+    /**
+     * Checks whether the tracker can be logged into in the current browser, before anything is done that assumes a login will follow.
+     *
+     * @param trackerName the name of the tracker
+     * @throws ManualInputRequiredException thrown if the tracker {@link HasCloudflareCheck} but is being executed in a {@link TrackerType#HEADLESS}
+     *                                      browser, where the check cannot be passed
+     */
+    public void checkLoginIsPossible(final String trackerName) {
+        if (this instanceof HasCloudflareCheck && trackerDefinition.type() == TrackerType.HEADLESS) {
+            throw new ManualInputRequiredException(trackerName, "Cloudflare verification check cannot be passed in a headless browser");
+        }
+    }
+
     /**
      * For some trackers the home page does not automatically redirect to the login page. In these cases, we need to explicitly click on the login
      * link to redirect. We'll only do this navigation if {@link #loginPageSelector()} is not {@code null}.
      *
      * @param trackerName the name of the tracker
+     * @throws ManualInputRequiredException thrown if the tracker {@link HasCloudflareCheck} but is being executed in a {@link TrackerType#HEADLESS}
+     *                                      browser, where the check cannot be passed
      */
     public void navigateToLoginPage(final String trackerName) {
+        checkLoginIsPossible(trackerName);
+
         LOGGER.debug("\t- Navigating to login page");
         preLoginNavigationAction();
         final By loginLinkSelector = loginPageSelector();
@@ -312,6 +363,23 @@ public abstract class AbstractTrackerHandler implements AutoCloseable, TrackerTi
         return profileLinkSelector();
     }
 
+    /**
+     * Checks whether the user is already logged in to the tracker, for example from a restored session. The tracker should already be open, and
+     * waits {@link #pageTransitionsDuration()} for the {@link #postLoginSelector()} to be present.
+     *
+     * @return {@code true} if the user is already logged in
+     */
+    public boolean hasActiveSession() {
+        browserInteractionHelper.waitForPageToLoad(pageLoadDuration());
+        try {
+            browserInteractionHelper.waitForElementToBePresent(postLoginSelector(), pageTransitionsDuration());
+            return true;
+        } catch (final TimeoutException e) {
+            LOGGER.trace("Post-login selector not found, user is not logged in", e);
+            return false;
+        }
+    }
+
     /**
      * Once logged in, navigates to the user's profile page on the tracker. Waits {@link #pageLoadDuration()} for the page to finish
      * loading.
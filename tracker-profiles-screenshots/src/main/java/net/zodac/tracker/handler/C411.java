@@ -38,7 +38,6 @@ import net.zodac.tracker.framework.xpath.NamedHtmlElement;
 import net.zodac.tracker.framework.xpath.XpathBuilder;
 import net.zodac.tracker.handler.definition.HasDismissibleElement;
 import net.zodac.tracker.handler.definition.HasFixedHeader;
-import net.zodac.tracker.util.BrowserInteractionHelper;
 import net.zodac.tracker.util.StringUtils;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
@@ -51,7 +50,7 @@ public class C411 extends AbstractTrackerHandler implements HasDismissibleElemen
 
     @Override
     protected By usernameFieldSelector() {
-        BrowserInteractionHelper.explicitWait(Duration.ofSeconds(1L), "web page to complete translation");
+        browserInteractionHelper.waitForTranslation(Duration.ofSeconds(1L));
         return super.usernameFieldSelector();
     }
 
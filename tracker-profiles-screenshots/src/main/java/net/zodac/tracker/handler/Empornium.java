@@ -30,7 +30,6 @@ import java.util.Map;
 import net.zodac.tracker.framework.annotation.TrackerHandler;
 import net.zodac.tracker.framework.xpath.XpathBuilder;
 import net.zodac.tracker.handler.definition.HasProfilePageActions;
-import net.zodac.tracker.util.BrowserInteractionHelper;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 
@@ -82,7 +81,7 @@ public class Empornium extends LuminanceHandler implements HasProfilePageActions
                 if (sectionDiv.isDisplayed()) {
                     LOGGER.debug("\t\t- Closing section #{}", entry.getValue());
                     clickButton(driver.findElement(By.id(entry.getKey())));
-                    BrowserInteractionHelper.explicitWait(pageTransitionsDuration(), "section to close");
+                    browserInteractionHelper.waitForElementToDisappear(By.id(entry.getValue()), pageTransitionsDuration());
                 }
             }
         }
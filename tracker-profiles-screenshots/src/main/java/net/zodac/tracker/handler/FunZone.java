@@ -28,9 +28,9 @@ import java.time.Duration;
 import java.util.Collection;
 import net.zodac.tracker.framework.annotation.TrackerHandler;
 import net.zodac.tracker.framework.xpath.XpathBuilder;
-import net.zodac.tracker.util.BrowserInteractionHelper;
 import net.zodac.tracker.util.StringUtils;
 import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebElement;
 
 /**
@@ -39,6 +39,8 @@ import org.openqa.selenium.WebElement;
 @TrackerHandler(name = "FunZone", url = "https://myfunzone.org/")
 public class FunZone extends Unit3dHandler {
 
+    private static final Duration WAIT_FOR_THEME_POPUPS = Duration.ofSeconds(2L);
+
     /**
      * {@inheritDoc}
      *
@@ -54,7 +56,6 @@ public class FunZone extends Unit3dHandler {
     }
 
     private void clearThemesPopups() {
-        BrowserInteractionHelper.explicitWait(Duration.ofSeconds(2L), "theme pop-ups to load");
         LOGGER.debug("\t\t- Checking for theme pop-ups");
 
         final By popupsSelector = XpathBuilder
@@ -63,12 +64,17 @@ public class FunZone extends Unit3dHandler {
             .child(button, atIndex(1))
             .build();
 
-        final Collection<WebElement> popups = driver.findElements(popupsSelector);
-        if (popups.isEmpty()) {
+        try {
+            // The pop-ups are added shortly after the page loads, so wait for the first one rather than sleeping for the full duration
+            browserInteractionHelper.waitForElementToBePresent(popupsSelector, WAIT_FOR_THEME_POPUPS);
+        } catch (final TimeoutException e) {
+            LOGGER.trace("No theme pop-up appeared", e);
             LOGGER.debug("\t\t\t- No theme pop-ups found");
             return;
         }
 
+        final Collection<WebElement> popups = driver.findElements(popupsSelector);
+
         LOGGER.debug("\t\t\t- Found {} theme pop-up{}, clearing", popups.size(), StringUtils.pluralise(popups));
         for (final WebElement popup : popups) {
             final By dontShowCheckboxSelector = By.id("popup-dont-show");
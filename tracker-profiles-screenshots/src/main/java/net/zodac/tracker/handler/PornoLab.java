@@ -34,7 +34,6 @@ import net.zodac.tracker.framework.xpath.NamedHtmlElement;
 import net.zodac.tracker.framework.xpath.XpathBuilder;
 import net.zodac.tracker.handler.definition.HasProfilePageActions;
 import net.zodac.tracker.handler.definition.NeedsExplicitTranslation;
-import net.zodac.tracker.util.BrowserInteractionHelper;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 
@@ -85,7 +84,7 @@ public class PornoLab extends TorrentPier implements HasProfilePageActions, Need
 
         final WebElement activeTorrents = driver.findElement(activeTorrentsSelector);
         clickButton(activeTorrents);
-        BrowserInteractionHelper.explicitWait(pageTransitionsDuration(), "section to close");
+        browserInteractionHelper.waitForDomToSettle(pageTransitionsDuration());
     }
 
     @Override
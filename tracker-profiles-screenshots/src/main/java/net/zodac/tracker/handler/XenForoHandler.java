@@ -27,7 +27,6 @@ import static net.zodac.tracker.framework.xpath.XpathAttributePredicate.withType
 
 import net.zodac.tracker.framework.annotation.CommonTrackerHandler;
 import net.zodac.tracker.framework.xpath.XpathBuilder;
-import net.zodac.tracker.util.BrowserInteractionHelper;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 
@@ -97,10 +96,10 @@ public class XenForoHandler extends AbstractTrackerHandler {
             .build();
         final WebElement profileParent = browserInteractionHelper.waitForElementToBeInteractable(profileParentSelector, pageTransitionsDuration());
         clickButton(profileParent);
-        BrowserInteractionHelper.explicitWait(pageTransitionsDuration(), "first navbar click");
+        browserInteractionHelper.waitForDomToSettle(pageTransitionsDuration());
 
         clickButton(profileParent);
-        BrowserInteractionHelper.explicitWait(pageTransitionsDuration(), "second navbar click");
+        browserInteractionHelper.waitForDomToSettle(pageTransitionsDuration());
     }
 
     /**
@@ -37,7 +37,6 @@ import java.util.List;
 import net.zodac.tracker.framework.annotation.TrackerHandler;
 import net.zodac.tracker.framework.xpath.XpathBuilder;
 import net.zodac.tracker.handler.definition.HasFixedHeader;
-import net.zodac.tracker.util.BrowserInteractionHelper;
 import org.openqa.selenium.By;
 import org.openqa.selenium.NoSuchElementException;
 
@@ -49,7 +48,7 @@ public class YggReborn extends AbstractTrackerHandler implements HasFixedHeader
 
     @Override
     protected By usernameFieldSelector() {
-        BrowserInteractionHelper.explicitWait(Duration.ofSeconds(1L), "web page to complete translation");
+        browserInteractionHelper.waitForTranslation(Duration.ofSeconds(1L));
         return By.id("identifier");
     }
 
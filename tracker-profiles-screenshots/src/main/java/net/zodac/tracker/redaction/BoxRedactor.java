@@ -18,11 +18,16 @@
 package net.zodac.tracker.redaction;
 
 import java.util.List;
+import java.util.Map;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.remote.RemoteWebDriver;
 
 /**
  * Implementation of {@link Redactor} that redacts text by covering the impacted {@link WebElement} with a solid, coloured box with a title.
+ *
+ * <p>
+ * Alternatively, created with {@link #createCollecting(RemoteWebDriver)}, the page is left unchanged and the position and appearance of each box
+ * is instead recorded as a {@link RedactionRegion}, to be rendered onto a screenshot later.
  */
 final class BoxRedactor implements Redactor {
 
@@ -37,11 +42,19 @@ final class BoxRedactor implements Redactor {
     private static final String CALL_IP_ADDRESS_SCRIPT = "window.__redactIpAddress.apply(null, arguments);";
     private static final String CALL_PASSKEY_SCRIPT = "window.__redactPasskey.apply(null, arguments);";
     private static final String CALL_UNDO_SCRIPT = "window.__undoRedaction();";
+    private static final String INSTALL_COLLECTION_SCRIPT = Redactor.loadScript("collect_redaction_region.js");
+    private static final String TAKE_COLLECTED_REGIONS_SCRIPT = """
+        const regions = window.__collectedRedactionRegions || [];
+        window.__collectedRedactionRegions = [];
+        return regions;
+        """;
 
     private final RemoteWebDriver driver;
+    private final String mode;
 
-    private BoxRedactor(final RemoteWebDriver driver) {
+    private BoxRedactor(final RemoteWebDriver driver, final String mode) {
         this.driver = driver;
+        this.mode = mode;
     }
 
     /**
@@ -51,43 +64,74 @@ final class BoxRedactor implements Redactor {
      * @return the created {@link BoxRedactor}
      */
     static BoxRedactor create(final RemoteWebDriver driver) {
-        final BoxRedactor redactor = new BoxRedactor(driver);
+        final BoxRedactor redactor = new BoxRedactor(driver, "box");
         driver.executeScript(INSTALL_ALL_SCRIPTS);
         return redactor;
     }
 
+    /**
+     * Creates a {@link BoxRedactor} which collects {@link RedactionRegion}s rather than redacting the page, and installs the redaction scripts on the
+     * page.
+     *
+     * @param driver the {@link RemoteWebDriver}
+     * @return the created {@link BoxRedactor}
+     * @see #collectedRegions()
+     */
+    static BoxRedactor createCollecting(final RemoteWebDriver driver) {
+        final BoxRedactor redactor = new BoxRedactor(driver, "collect");
+        driver.executeScript(INSTALL_COLLECTION_SCRIPT + '\n' + INSTALL_ALL_SCRIPTS);
+        return redactor;
+    }
+
+    /**
+     * Retrieves the {@link RedactionRegion}s collected since the last call, in a single script call. Only populated if this {@link BoxRedactor} was
+     * created with {@link #createCollecting(RemoteWebDriver)}.
+     *
+     * @return the collected {@link RedactionRegion}s
+     */
+    List<RedactionRegion> collectedRegions() {
+        if (!(driver.executeScript(TAKE_COLLECTED_REGIONS_SCRIPT) instanceof final List<?> regions)) {
+            return List.of();
+        }
+
+        return regions.stream()
+            .filter(Map.class::isInstance)
+            .map(region -> RedactionRegion.fromScriptResult((Map<?, ?>) region))
+            .toList();
+    }
+
     @Override
     public int redact(final WebElement element, final String description, final RedactionBuffer buffer) {
         driver.executeScript(CALL_ELEMENT_SCRIPT, element, buffer.left(), buffer.up(), buffer.right(), buffer.down(), "orange", "white",
-            description, "", "box");
+            description, "", mode);
         return 1;
     }
 
     @Override
     public int redactEmail(final WebElement element, final RedactionBuffer buffer) {
         driver.executeScript(CALL_EMAIL_SCRIPT, element, buffer.left(), buffer.up(), buffer.right(), buffer.down(), "blue", "white", "Email",
-            "", "box");
+            "", mode);
         return 1;
     }
 
     @Override
     public int redactIpAddress(final WebElement element, final RedactionBuffer buffer) {
         driver.executeScript(CALL_IP_ADDRESS_SCRIPT, element, buffer.left(), buffer.up(), buffer.right(), buffer.down(), "yellow", "black", "IP",
-            "", "box");
+            "", mode);
         return 1;
     }
 
     @Override
     public int redactIrcPasskey(final WebElement element, final RedactionBuffer buffer) {
         driver.executeScript(CALL_PASSKEY_SCRIPT, element, buffer.left(), buffer.up(), buffer.right(), buffer.down(), "gray", "IRC",
-            IRC_KEY_PREFIX_ALTERNATION, "", "box");
+            IRC_KEY_PREFIX_ALTERNATION, "", mode);
         return 1;
     }
 
     @Override
     public int redactTorrentPasskey(final WebElement element, final RedactionBuffer buffer) {
         driver.executeScript(CALL_PASSKEY_SCRIPT, element, buffer.left(), buffer.up(), buffer.right(), buffer.down(), "red", "Passkey",
-            TORRENT_PASSKEY_PREFIX_ALTERNATION, "", "box");
+            TORRENT_PASSKEY_PREFIX_ALTERNATION, "", mode);
         return 1;
     }
 
@@ -0,0 +1,144 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.redaction;
+
+import java.awt.Rectangle;
+
+/**
+ * Applies a Gaussian blur to a rectangular region of an ARGB raster, equivalent to a CSS {@code filter: blur()} on the content within that region.
+ * The blur is separable, so it is applied as a horizontal pass followed by a vertical pass. Pixels outside the region are never read or written;
+ * samples beyond the edge of the region are clamped to the nearest edge pixel.
+ *
+ * <p>
+ * The kernel weights are fixed-point integers that sum to exactly {@code 1 << }{@link #WEIGHT_BITS}, so every channel is computed with integer
+ * arithmetic only. This is the straightforward reference implementation, which {@link TiledGaussianBlur} must match pixel for pixel.
+ */
+final class GaussianBlur {
+
+    /**
+     * The number of fractional bits in each fixed-point kernel weight.
+     */
+    static final int WEIGHT_BITS = 16;
+
+    private static final int WEIGHT_TOTAL = 1 << WEIGHT_BITS;
+    private static final int ROUNDING = WEIGHT_TOTAL >>> 1;
+    private static final double KERNEL_RADIUS_IN_SIGMAS = 3.0D;
+
+    private GaussianBlur() {
+
+    }
+
+    /**
+     * Blurs the {@code region} of the {@code pixels} in place.
+     *
+     * @param pixels         the ARGB pixels of the image, one {@code int} per pixel
+     * @param scanlineStride the number of pixels in each row of the image
+     * @param region         the {@link Rectangle} to blur, which must be within the image
+     * @param sigma          the standard deviation of the Gaussian, in pixels
+     */
+    static void blur(final int[] pixels, final int scanlineStride, final Rectangle region, final double sigma) {
+        if (region.isEmpty() || sigma <= 0.0D) {
+            return;
+        }
+
+        final int[] kernel = kernel(sigma);
+        final int radius = kernel.length / 2;
+        final int[] horizontal = new int[region.width * region.height];
+
+        for (int y = 0; y < region.height; y++) {
+            final int rowStart = (region.y + y) * scanlineStride + region.x;
+            for (int x = 0; x < region.width; x++) {
+                int alpha = 0;
+                int red = 0;
+                int green = 0;
+                int blue = 0;
+                for (int k = -radius; k <= radius; k++) {
+                    final int sample = pixels[rowStart + Math.clamp(x + k, 0, region.width - 1)];
+                    final int weight = kernel[k + radius];
+                    alpha += (sample >>> 24) * weight;
+                    red += ((sample >>> 16) & 0xFF) * weight;
+                    green += ((sample >>> 8) & 0xFF) * weight;
+                    blue += (sample & 0xFF) * weight;
+                }
+                horizontal[y * region.width + x] = toArgb(alpha, red, green, blue);
+            }
+        }
+
+        for (int y = 0; y < region.height; y++) {
+            final int rowStart = (region.y + y) * scanlineStride + region.x;
+            for (int x = 0; x < region.width; x++) {
+                int alpha = 0;
+                int red = 0;
+                int green = 0;
+                int blue = 0;
+                for (int k = -radius; k <= radius; k++) {
+                    final int sample = horizontal[Math.clamp(y + k, 0, region.height - 1) * region.width + x];
+                    final int weight = kernel[k + radius];
+                    alpha += (sample >>> 24) * weight;
+                    red += ((sample >>> 16) & 0xFF) * weight;
+                    green += ((sample >>> 8) & 0xFF) * weight;
+                    blue += (sample & 0xFF) * weight;
+                }
+                pixels[rowStart + x] = toArgb(alpha, red, green, blue);
+            }
+        }
+    }
+
+    /**
+     * Creates the fixed-point Gaussian kernel for the {@code sigma}, with a radius of three standard deviations. Any rounding error is added to the
+     * centre weight, so the weights always sum to exactly {@code 1 << }{@link #WEIGHT_BITS} and a blurred channel can never exceed {@code 255}.
+     *
+     * @param sigma the standard deviation of the Gaussian, in pixels
+     * @return the kernel weights, of length {@code 2 * radius + 1}
+     */
+    static int[] kernel(final double sigma) {
+        final int radius = (int) Math.ceil(sigma * KERNEL_RADIUS_IN_SIGMAS);
+        final double[] gaussian = new double[radius * 2 + 1];
+        double total = 0.0D;
+        for (int i = -radius; i <= radius; i++) {
+            gaussian[i + radius] = Math.exp(-(i * i) / (2.0D * sigma * sigma));
+            total += gaussian[i + radius];
+        }
+
+        final int[] kernel = new int[gaussian.length];
+        int fixedPointTotal = 0;
+        for (int i = 0; i < kernel.length; i++) {
+            kernel[i] = (int) Math.round(gaussian[i] / total * WEIGHT_TOTAL);
+            fixedPointTotal += kernel[i];
+        }
+        kernel[radius] += WEIGHT_TOTAL - fixedPointTotal;
+        return kernel;
+    }
+
+    /**
+     * Converts the fixed-point weighted sums of each channel back into a single ARGB pixel, rounding each channel to the nearest integer.
+     *
+     * @param alpha the weighted sum of the alpha channel
+     * @param red   the weighted sum of the red channel
+     * @param green the weighted sum of the green channel
+     * @param blue  the weighted sum of the blue channel
+     * @return the ARGB pixel
+     */
+    static int toArgb(final int alpha, final int red, final int green, final int blue) {
+        return (channel(alpha) << 24) | (channel(red) << 16) | (channel(green) << 8) | channel(blue);
+    }
+
+    private static int channel(final int weightedSum) {
+        return (weightedSum + ROUNDING) >>> WEIGHT_BITS;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.redaction;
+
+import java.awt.Rectangle;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Splits a rectangular region of a raster into bands of rows, which are processed in parallel on the common {@link java.util.concurrent.ForkJoinPool}
+ * for large regions. Small regions (such as a single line of text) are processed on the calling thread, since the cost of scheduling the tiles
+ * would outweigh any gain.
+ */
+final class RasterTiles {
+
+    /**
+     * The number of rows in each tile.
+     */
+    static final int ROWS_PER_TILE = 32;
+
+    /**
+     * The minimum number of pixels in a region before its tiles are processed in parallel.
+     */
+    static final int MINIMUM_PIXELS_FOR_PARALLEL = 64 * 1024;
+
+    private RasterTiles() {
+
+    }
+
+    /**
+     * Action applied to a tile of a region.
+     */
+    @FunctionalInterface
+    interface TileAction {
+
+        /**
+         * Processes the rows in the range {@code [fromRow, toRow)}, relative to the top of the region.
+         *
+         * @param fromRow the first row of the tile
+         * @param toRow   the row to stop at (exclusive)
+         */
+        void apply(int fromRow, int toRow);
+    }
+
+    /**
+     * Applies the {@link TileAction} to every tile of the {@code region}, returning once all tiles have been processed. The {@link TileAction} must
+     * only write to the rows of its own tile.
+     *
+     * @param region the {@link Rectangle} to process
+     * @param action the {@link TileAction} to apply
+     */
+    static void forEachTile(final Rectangle region, final TileAction action) {
+        if (region.isEmpty()) {
+            return;
+        }
+
+        if ((long) region.width * region.height < MINIMUM_PIXELS_FOR_PARALLEL) {
+            action.apply(0, region.height);
+            return;
+        }
+
+        final int numberOfTiles = Math.ceilDiv(region.height, ROWS_PER_TILE);
+        IntStream.range(0, numberOfTiles)
+            .parallel()
+            .forEach(tile -> action.apply(tile * ROWS_PER_TILE, Math.min(region.height, (tile + 1) * ROWS_PER_TILE)));
+    }
+
+    /**
+     * Fills the {@code region} of the {@code pixels} with a single colour.
+     *
+     * @param pixels         the ARGB pixels of the image, one {@code int} per pixel
+     * @param scanlineStride the number of pixels in each row of the image
+     * @param region         the {@link Rectangle} to fill, which must be within the image
+     * @param argb           the ARGB colour to fill with
+     */
+    static void fill(final int[] pixels, final int scanlineStride, final Rectangle region, final int argb) {
+        forEachTile(region, (fromRow, toRow) -> {
+            for (int y = fromRow; y < toRow; y++) {
+                final int rowStart = (region.y + y) * scanlineStride + region.x;
+                Arrays.fill(pixels, rowStart, rowStart + region.width, argb);
+            }
+        });
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.redaction;
+
+import java.awt.Rectangle;
+import java.util.Map;
+
+/**
+ * The position and appearance of a single redaction on the web page, collected from the page rather than drawn onto it, so that it can be rendered
+ * onto a screenshot in Java instead.
+ *
+ * @param x                the left edge of the sensitive content, in CSS pixels from the left of the page
+ * @param y                the top edge of the sensitive content, in CSS pixels from the top of the page
+ * @param width            the width of the sensitive content, in CSS pixels
+ * @param height           the height of the sensitive content, in CSS pixels
+ * @param buffer           the {@link RedactionBuffer} to expand a {@link RedactionType#BOX} redaction by
+ * @param backgroundColour the CSS colour of a {@link RedactionType#BOX} redaction
+ * @param textColour       the CSS colour of the label of a {@link RedactionType#BOX} redaction
+ * @param label            the label of a {@link RedactionType#BOX} redaction, or an empty {@link String} for no label
+ * @param fontSize         the font size of the sensitive content, in CSS pixels
+ * @param fontFamily       the CSS font family of the sensitive content
+ */
+public record RedactionRegion(
+    double x,
+    double y,
+    double width,
+    double height,
+    RedactionBuffer buffer,
+    String backgroundColour,
+    String textColour,
+    String label,
+    double fontSize,
+    String fontFamily
+) {
+
+    /**
+     * Creates a {@link RedactionRegion} from a region object returned by the {@code collect_redaction_region.js} script.
+     *
+     * @param region the region returned by the script
+     * @return the created {@link RedactionRegion}
+     */
+    static RedactionRegion fromScriptResult(final Map<?, ?> region) {
+        final RedactionBuffer buffer = RedactionBuffer.of(intValue(region, "bufferUp"), intValue(region, "bufferDown"),
+            intValue(region, "bufferLeft"), intValue(region, "bufferRight"));
+        return new RedactionRegion(doubleValue(region, "x"), doubleValue(region, "y"), doubleValue(region, "width"), doubleValue(region, "height"),
+            buffer, stringValue(region, "backgroundColour"), stringValue(region, "textColour"), stringValue(region, "label"),
+            doubleValue(region, "fontSize"), stringValue(region, "fontFamily"));
+    }
+
+    /**
+     * The pixel area covered by the sensitive content, used for a {@link RedactionType#BLUR} redaction.
+     *
+     * @param scale the number of screenshot pixels per CSS pixel (the device pixel ratio of the screenshot)
+     * @return the content {@link Rectangle}, in screenshot pixels
+     */
+    public Rectangle contentBounds(final double scale) {
+        final int left = (int) Math.floor(x * scale);
+        final int top = (int) Math.floor(y * scale);
+        return new Rectangle(left, top, (int) Math.ceil((x + width) * scale) - left, (int) Math.ceil((y + height) * scale) - top);
+    }
+
+    /**
+     * The pixel area covered by the sensitive content expanded by the {@link RedactionBuffer}, used for a {@link RedactionType#BOX} redaction.
+     *
+     * @param scale the number of screenshot pixels per CSS pixel (the device pixel ratio of the screenshot)
+     * @return the box {@link Rectangle}, in screenshot pixels
+     */
+    public Rectangle boxBounds(final double scale) {
+        final Rectangle content = contentBounds(scale);
+        final int left = scaled(buffer.left(), scale);
+        final int up = scaled(buffer.up(), scale);
+        return new Rectangle(content.x - left, content.y - up, content.width + left + scaled(buffer.right(), scale),
+            content.height + up + scaled(buffer.down(), scale));
+    }
+
+    private static int scaled(final int cssPixels, final double scale) {
+        return (int) Math.ceil(cssPixels * scale);
+    }
+
+    private static double doubleValue(final Map<?, ?> region, final String key) {
+        return region.get(key) instanceof final Number number ? number.doubleValue() : 0.0D;
+    }
+
+    private static int intValue(final Map<?, ?> region, final String key) {
+        return (int) Math.round(doubleValue(region, key));
+    }
+
+    private static String stringValue(final Map<?, ?> region, final String key) {
+        return region.get(key) instanceof final String value ? value : "";
+    }
+}
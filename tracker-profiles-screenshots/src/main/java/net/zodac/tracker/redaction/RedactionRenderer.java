@@ -0,0 +1,156 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.redaction;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Renders {@link RedactionRegion}s onto a screenshot in Java, producing the same result as redacting the web page before taking the screenshot. This
+ * allows every {@link RedactionType} to be produced from a single screenshot of the unredacted page.
+ *
+ * <p>
+ * Blurs and boxes are applied directly to the {@code int[]} raster of the screenshot by {@link TiledGaussianBlur} and {@link RasterTiles}, with
+ * Java2D only used to draw the labels.
+ *
+ * <p>
+ * The {@link RedactionRegion}s are measured in CSS pixels, while the screenshot is rendered at the device pixel ratio of the browser, so every
+ * position, font size and blur radius is scaled by the width of the screenshot over the width of the page.
+ */
+public final class RedactionRenderer {
+
+    // CSS 'filter: blur(0.5em)' used by the BlurRedactor, where the blur radius is the standard deviation of the Gaussian
+    private static final double BLUR_SIGMA_IN_EMS = 0.5D;
+    private static final Map<String, Color> CSS_COLOURS = Map.of(
+        "black", Color.BLACK,
+        "blue", new Color(0, 0, 255),
+        "gray", new Color(128, 128, 128),
+        "orange", new Color(255, 165, 0),
+        "red", new Color(255, 0, 0),
+        "white", Color.WHITE,
+        "yellow", new Color(255, 255, 0)
+    );
+
+    private RedactionRenderer() {
+
+    }
+
+    /**
+     * Renders the {@link RedactionRegion}s onto a copy of the {@code screenshot} for the given {@link RedactionType}. The {@code screenshot} itself
+     * is not modified.
+     *
+     * @param screenshot    the screenshot of the unredacted page
+     * @param pageWidth     the width of the page, in CSS pixels
+     * @param regions       the {@link RedactionRegion}s to redact, in page coordinates
+     * @param redactionType the {@link RedactionType} to render
+     * @return the redacted screenshot, or the original {@code screenshot} for {@link RedactionType#NONE}
+     */
+    public static BufferedImage render(final BufferedImage screenshot, final long pageWidth, final List<RedactionRegion> regions,
+                                       final RedactionType redactionType) {
+        if (redactionType == RedactionType.NONE) {
+            return screenshot;
+        }
+
+        final double scale = pageWidth > 0L ? (double) screenshot.getWidth() / pageWidth : 1.0D;
+        final BufferedImage redacted = copyAsArgb(screenshot);
+        final Rectangle imageBounds = new Rectangle(redacted.getWidth(), redacted.getHeight());
+        switch (redactionType) {
+            case BLUR -> {
+                final int[] pixels = ((DataBufferInt) redacted.getRaster().getDataBuffer()).getData();
+                for (final RedactionRegion region : regions) {
+                    TiledGaussianBlur.blur(pixels, redacted.getWidth(), region.contentBounds(scale).intersection(imageBounds),
+                        region.fontSize() * scale * BLUR_SIGMA_IN_EMS);
+                }
+            }
+            case BOX -> {
+                final int[] pixels = ((DataBufferInt) redacted.getRaster().getDataBuffer()).getData();
+                for (final RedactionRegion region : regions) {
+                    RasterTiles.fill(pixels, redacted.getWidth(), region.boxBounds(scale).intersection(imageBounds),
+                        cssColour(region.backgroundColour()).getRGB());
+                }
+                drawLabels(redacted, regions, scale);
+            }
+            case NONE -> throw new IllegalStateException("No rendering required for NONE redaction type");
+        }
+        return redacted;
+    }
+
+    private static BufferedImage copyAsArgb(final BufferedImage screenshot) {
+        final BufferedImage copy = new BufferedImage(screenshot.getWidth(), screenshot.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D graphics = copy.createGraphics();
+        try {
+            graphics.drawImage(screenshot, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        return copy;
+    }
+
+    // Only the labels are drawn with Java2D, the boxes themselves are filled directly on the raster
+    private static void drawLabels(final BufferedImage redacted, final List<RedactionRegion> regions, final double scale) {
+        final Graphics2D graphics = redacted.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            for (final RedactionRegion region : regions) {
+                if (!region.label().isEmpty()) {
+                    drawLabel(graphics, region, scale);
+                }
+            }
+        } finally {
+            graphics.dispose();
+        }
+    }
+
+    private static void drawLabel(final Graphics2D graphics, final RedactionRegion region, final double scale) {
+        final Rectangle box = region.boxBounds(scale);
+        graphics.setFont(new Font(primaryFontFamily(region.fontFamily()), Font.BOLD, (int) Math.round(region.fontSize() * scale)));
+        graphics.setColor(cssColour(region.textColour()));
+        final FontMetrics metrics = graphics.getFontMetrics();
+        final int textX = box.x + (box.width - metrics.stringWidth(region.label())) / 2;
+        final int textY = box.y + (box.height - metrics.getHeight()) / 2 + metrics.getAscent();
+
+        final Shape previousClip = graphics.getClip();
+        graphics.clip(box);
+        graphics.drawString(region.label(), textX, textY);
+        graphics.setClip(previousClip);
+    }
+
+    private static Color cssColour(final String cssColour) {
+        final String colour = cssColour.trim().toLowerCase(Locale.ROOT);
+        if (colour.startsWith("#")) {
+            return Color.decode(colour);
+        }
+        return CSS_COLOURS.getOrDefault(colour, Color.BLACK);
+    }
+
+    // The CSS font family is a comma-separated list of fallbacks, Java falls back to its default font if the first family is not installed
+    private static String primaryFontFamily(final String cssFontFamily) {
+        final String firstFamily = cssFontFamily.split(",", 2)[0].trim();
+        return firstFamily.replace("\"", "").replace("'", "");
+    }
+}
@@ -17,6 +17,7 @@
 
 package net.zodac.tracker.redaction;
 
+import java.util.List;
 import java.util.regex.Pattern;
 import net.zodac.tracker.util.BrowserInteractionHelper;
 import org.apache.logging.log4j.LogManager;
@@ -57,6 +58,31 @@ public final class RedactorDelegator implements Redactor {
         return new RedactorDelegator(new BrowserInteractionHelper(driver), redactor);
     }
 
+    /**
+     * Creates a {@link RedactorDelegator} that does not redact the page, but instead collects the {@link RedactionRegion} of each piece of sensitive
+     * information, so that every {@link RedactionType} can be rendered from a single screenshot.
+     *
+     * @param driver the {@link RemoteWebDriver}
+     * @return the created {@link RedactorDelegator}
+     * @see #collectedRegions()
+     */
+    public static RedactorDelegator createRegionCollector(final RemoteWebDriver driver) {
+        return new RedactorDelegator(new BrowserInteractionHelper(driver), BoxRedactor.createCollecting(driver));
+    }
+
+    /**
+     * Retrieves the {@link RedactionRegion}s collected since the last call.
+     *
+     * @return the collected {@link RedactionRegion}s
+     * @throws IllegalStateException thrown if this {@link RedactorDelegator} was not created with {@link #createRegionCollector(RemoteWebDriver)}
+     */
+    public List<RedactionRegion> collectedRegions() {
+        if (redactor instanceof final BoxRedactor boxRedactor) {
+            return boxRedactor.collectedRegions();
+        }
+        throw new IllegalStateException("RedactorDelegator was not created to collect redaction regions");
+    }
+
     @Override
     public int redact(final WebElement element, final String description, final RedactionBuffer buffer) {
         logElementToBeRedacted(element, description);
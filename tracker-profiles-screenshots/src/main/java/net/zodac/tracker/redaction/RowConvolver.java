@@ -0,0 +1,49 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.redaction;
+
+/**
+ * Convolves a single row of ARGB pixels with a fixed-point kernel from {@link GaussianBlur#kernel(double)}. Implementations must produce the same
+ * pixels as {@link GaussianBlur}, so they can be swapped without changing the rendered screenshot.
+ */
+interface RowConvolver {
+
+    /**
+     * Convolves a row horizontally, clamping samples beyond either end of the row to the nearest edge pixel.
+     *
+     * @param source       the source pixels
+     * @param sourceOffset the index of the first pixel of the row in {@code source}
+     * @param target       the target pixels
+     * @param targetOffset the index of the first pixel of the row in {@code target}
+     * @param width        the number of pixels in the row
+     * @param kernel       the fixed-point kernel weights
+     */
+    void convolveHorizontally(int[] source, int sourceOffset, int[] target, int targetOffset, int width, int[] kernel);
+
+    /**
+     * Convolves a row vertically, where each kernel tap reads the same columns from a different source row.
+     *
+     * @param source       the source pixels
+     * @param tapOffsets   the index of the first pixel of the source row for each kernel tap, already clamped to the rows of the region
+     * @param target       the target pixels
+     * @param targetOffset the index of the first pixel of the row in {@code target}
+     * @param width        the number of pixels in the row
+     * @param kernel       the fixed-point kernel weights
+     */
+    void convolveVertically(int[] source, int[] tapOffsets, int[] target, int targetOffset, int width, int[] kernel);
+}
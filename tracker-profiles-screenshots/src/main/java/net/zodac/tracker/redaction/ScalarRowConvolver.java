@@ -0,0 +1,101 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.redaction;
+
+/**
+ * Scalar {@link RowConvolver}, used when the Vector API is not available, and for the pixels that do not fill a whole vector.
+ */
+final class ScalarRowConvolver implements RowConvolver {
+
+    @Override
+    public void convolveHorizontally(final int[] source, final int sourceOffset, final int[] target, final int targetOffset, final int width,
+                                     final int[] kernel) {
+        convolveHorizontally(source, sourceOffset, target, targetOffset, width, kernel, 0, width);
+    }
+
+    @Override
+    public void convolveVertically(final int[] source, final int[] tapOffsets, final int[] target, final int targetOffset, final int width,
+                                   final int[] kernel) {
+        convolveVertically(source, tapOffsets, target, targetOffset, kernel, 0, width);
+    }
+
+    /**
+     * Convolves the pixels in the range {@code [from, to)} of a row horizontally. Only the pixels within the kernel radius of either end of the row
+     * need their samples clamped.
+     *
+     * @param source       the source pixels
+     * @param sourceOffset the index of the first pixel of the row in {@code source}
+     * @param target       the target pixels
+     * @param targetOffset the index of the first pixel of the row in {@code target}
+     * @param width        the number of pixels in the row
+     * @param kernel       the fixed-point kernel weights
+     * @param from         the first pixel in the row to convolve
+     * @param to           the pixel in the row to stop at (exclusive)
+     */
+    static void convolveHorizontally(final int[] source, final int sourceOffset, final int[] target, final int targetOffset, final int width,
+                                     final int[] kernel, final int from, final int to) {
+        final int radius = kernel.length / 2;
+        for (int x = from; x < to; x++) {
+            final boolean clampRequired = x < radius || x + radius >= width;
+            int alpha = 0;
+            int red = 0;
+            int green = 0;
+            int blue = 0;
+            for (int k = 0; k < kernel.length; k++) {
+                final int column = clampRequired ? Math.clamp(x + k - radius, 0, width - 1) : x + k - radius;
+                final int sample = source[sourceOffset + column];
+                final int weight = kernel[k];
+                alpha += (sample >>> 24) * weight;
+                red += ((sample >>> 16) & 0xFF) * weight;
+                green += ((sample >>> 8) & 0xFF) * weight;
+                blue += (sample & 0xFF) * weight;
+            }
+            target[targetOffset + x] = GaussianBlur.toArgb(alpha, red, green, blue);
+        }
+    }
+
+    /**
+     * Convolves the pixels in the range {@code [from, to)} of a row vertically.
+     *
+     * @param source       the source pixels
+     * @param tapOffsets   the index of the first pixel of the source row for each kernel tap
+     * @param target       the target pixels
+     * @param targetOffset the index of the first pixel of the row in {@code target}
+     * @param kernel       the fixed-point kernel weights
+     * @param from         the first pixel in the row to convolve
+     * @param to           the pixel in the row to stop at (exclusive)
+     */
+    static void convolveVertically(final int[] source, final int[] tapOffsets, final int[] target, final int targetOffset, final int[] kernel,
+                                   final int from, final int to) {
+        for (int x = from; x < to; x++) {
+            int alpha = 0;
+            int red = 0;
+            int green = 0;
+            int blue = 0;
+            for (int k = 0; k < kernel.length; k++) {
+                final int sample = source[tapOffsets[k] + x];
+                final int weight = kernel[k];
+                alpha += (sample >>> 24) * weight;
+                red += ((sample >>> 16) & 0xFF) * weight;
+                green += ((sample >>> 8) & 0xFF) * weight;
+                blue += (sample & 0xFF) * weight;
+            }
+            target[targetOffset + x] = GaussianBlur.toArgb(alpha, red, green, blue);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.redaction;
+
+import java.awt.Rectangle;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Fast Gaussian blur of a rectangular region of an ARGB raster, producing exactly the same pixels as {@link GaussianBlur}. The region is split into
+ * {@link RasterTiles} for both the horizontal and vertical passes, and each row is convolved by a {@link RowConvolver}.
+ *
+ * <p>
+ * If the JVM was started with {@code --add-modules jdk.incubator.vector}, rows are convolved by the {@code VectorRowConvolver}, otherwise by the
+ * {@link ScalarRowConvolver}.
+ */
+final class TiledGaussianBlur {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final String VECTOR_MODULE_NAME = "jdk.incubator.vector";
+    private static final String VECTOR_CONVOLVER_CLASS_NAME = "net.zodac.tracker.redaction.VectorRowConvolver";
+    private static final RowConvolver DEFAULT_CONVOLVER = createDefaultConvolver();
+
+    private TiledGaussianBlur() {
+
+    }
+
+    /**
+     * Blurs the {@code region} of the {@code pixels} in place, using the fastest {@link RowConvolver} available.
+     *
+     * @param pixels         the ARGB pixels of the image, one {@code int} per pixel
+     * @param scanlineStride the number of pixels in each row of the image
+     * @param region         the {@link Rectangle} to blur, which must be within the image
+     * @param sigma          the standard deviation of the Gaussian, in pixels
+     */
+    static void blur(final int[] pixels, final int scanlineStride, final Rectangle region, final double sigma) {
+        blur(pixels, scanlineStride, region, sigma, DEFAULT_CONVOLVER);
+    }
+
+    /**
+     * Blurs the {@code region} of the {@code pixels} in place, using the provided {@link RowConvolver}.
+     *
+     * @param pixels         the ARGB pixels of the image, one {@code int} per pixel
+     * @param scanlineStride the number of pixels in each row of the image
+     * @param region         the {@link Rectangle} to blur, which must be within the image
+     * @param sigma          the standard deviation of the Gaussian, in pixels
+     * @param convolver      the {@link RowConvolver} to convolve each row
+     */
+    static void blur(final int[] pixels, final int scanlineStride, final Rectangle region, final double sigma, final RowConvolver convolver) {
+        if (region.isEmpty() || sigma <= 0.0D) {
+            return;
+        }
+
+        final int[] kernel = GaussianBlur.kernel(sigma);
+        final int radius = kernel.length / 2;
+        final int[] horizontal = new int[region.width * region.height];
+
+        RasterTiles.forEachTile(region, (fromRow, toRow) -> {
+            for (int y = fromRow; y < toRow; y++) {
+                final int rowStart = (region.y + y) * scanlineStride + region.x;
+                convolver.convolveHorizontally(pixels, rowStart, horizontal, y * region.width, region.width, kernel);
+            }
+        });
+
+        RasterTiles.forEachTile(region, (fromRow, toRow) -> {
+            final int[] tapOffsets = new int[kernel.length];
+            for (int y = fromRow; y < toRow; y++) {
+                for (int k = 0; k < kernel.length; k++) {
+                    tapOffsets[k] = Math.clamp(y + k - radius, 0, region.height - 1) * region.width;
+                }
+                final int rowStart = (region.y + y) * scanlineStride + region.x;
+                convolver.convolveVertically(horizontal, tapOffsets, pixels, rowStart, region.width, kernel);
+            }
+        });
+    }
+
+    /**
+     * Checks whether the incubating Vector API has been added to the JVM.
+     *
+     * @return {@code true} if the {@code VectorRowConvolver} can be used
+     */
+    static boolean isVectorApiAvailable() {
+        return ModuleLayer.boot().findModule(VECTOR_MODULE_NAME).isPresent();
+    }
+
+    // The VectorRowConvolver is loaded by name, so it is never loaded without the module, and is kept out of the javadoc of the other classes
+    private static RowConvolver createDefaultConvolver() {
+        if (isVectorApiAvailable()) {
+            try {
+                final RowConvolver vectorConvolver = (RowConvolver) Class.forName(VECTOR_CONVOLVER_CLASS_NAME).getDeclaredConstructor().newInstance();
+                LOGGER.debug("Blurring redactions with the Vector API");
+                return vectorConvolver;
+            } catch (final ReflectiveOperationException | LinkageError e) {
+                LOGGER.debug("Unable to load '{}', blurring redactions with scalar code", VECTOR_CONVOLVER_CLASS_NAME, e);
+                return new ScalarRowConvolver();
+            }
+        }
+
+        LOGGER.debug("'{}' module not available, blurring redactions with scalar code", VECTOR_MODULE_NAME);
+        return new ScalarRowConvolver();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.redaction;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link RowConvolver} using the incubating Vector API, which convolves as many pixels as fit in the preferred vector shape at once. Each channel is
+ * unpacked into its own lanes and accumulated with the same integer arithmetic as {@link ScalarRowConvolver}, so the output is identical. The
+ * pixels at either end of a horizontal row (where samples must be clamped) and any tail shorter than a vector are delegated to
+ * {@link ScalarRowConvolver}.
+ *
+ * <p>
+ * This class must only be loaded when the {@code jdk.incubator.vector} module has been added to the JVM, so it is only loaded by name by
+ * {@link TiledGaussianBlur}. It is also excluded from the javadoc, which would otherwise warn about the incubating module.
+ */
+final class VectorRowConvolver implements RowConvolver {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final int ROUNDING = 1 << (GaussianBlur.WEIGHT_BITS - 1);
+    private static final int CHANNEL_MASK = 0xFF;
+
+    @Override
+    public void convolveHorizontally(final int[] source, final int sourceOffset, final int[] target, final int targetOffset, final int width,
+                                     final int[] kernel) {
+        final int radius = kernel.length / 2;
+        final int vectorStart = Math.min(radius, width);
+        final int vectorEnd = vectorStart + SPECIES.loopBound(Math.max(0, width - 2 * radius));
+
+        ScalarRowConvolver.convolveHorizontally(source, sourceOffset, target, targetOffset, width, kernel, 0, vectorStart);
+        for (int x = vectorStart; x < vectorEnd; x += SPECIES.length()) {
+            IntVector alpha = IntVector.zero(SPECIES);
+            IntVector red = IntVector.zero(SPECIES);
+            IntVector green = IntVector.zero(SPECIES);
+            IntVector blue = IntVector.zero(SPECIES);
+            for (int k = 0; k < kernel.length; k++) {
+                final IntVector samples = IntVector.fromArray(SPECIES, source, sourceOffset + x + k - radius);
+                final int weight = kernel[k];
+                alpha = alpha.add(samples.lanewise(VectorOperators.LSHR, 24).mul(weight));
+                red = red.add(samples.lanewise(VectorOperators.LSHR, 16).and(CHANNEL_MASK).mul(weight));
+                green = green.add(samples.lanewise(VectorOperators.LSHR, 8).and(CHANNEL_MASK).mul(weight));
+                blue = blue.add(samples.and(CHANNEL_MASK).mul(weight));
+            }
+            toArgb(alpha, red, green, blue).intoArray(target, targetOffset + x);
+        }
+        ScalarRowConvolver.convolveHorizontally(source, sourceOffset, target, targetOffset, width, kernel, vectorEnd, width);
+    }
+
+    @Override
+    public void convolveVertically(final int[] source, final int[] tapOffsets, final int[] target, final int targetOffset, final int width,
+                                   final int[] kernel) {
+        final int vectorEnd = SPECIES.loopBound(width);
+        for (int x = 0; x < vectorEnd; x += SPECIES.length()) {
+            IntVector alpha = IntVector.zero(SPECIES);
+            IntVector red = IntVector.zero(SPECIES);
+            IntVector green = IntVector.zero(SPECIES);
+            IntVector blue = IntVector.zero(SPECIES);
+            for (int k = 0; k < kernel.length; k++) {
+                final IntVector samples = IntVector.fromArray(SPECIES, source, tapOffsets[k] + x);
+                final int weight = kernel[k];
+                alpha = alpha.add(samples.lanewise(VectorOperators.LSHR, 24).mul(weight));
+                red = red.add(samples.lanewise(VectorOperators.LSHR, 16).and(CHANNEL_MASK).mul(weight));
+                green = green.add(samples.lanewise(VectorOperators.LSHR, 8).and(CHANNEL_MASK).mul(weight));
+                blue = blue.add(samples.and(CHANNEL_MASK).mul(weight));
+            }
+            toArgb(alpha, red, green, blue).intoArray(target, targetOffset + x);
+        }
+        ScalarRowConvolver.convolveVertically(source, tapOffsets, target, targetOffset, kernel, vectorEnd, width);
+    }
+
+    private static IntVector toArgb(final IntVector alpha, final IntVector red, final IntVector green, final IntVector blue) {
+        return channel(alpha).lanewise(VectorOperators.LSHL, 24)
+            .or(channel(red).lanewise(VectorOperators.LSHL, 16))
+            .or(channel(green).lanewise(VectorOperators.LSHL, 8))
+            .or(channel(blue));
+    }
+
+    private static IntVector channel(final IntVector weightedSum) {
+        return weightedSum.add(ROUNDING).lanewise(VectorOperators.LSHR, GaussianBlur.WEIGHT_BITS);
+    }
+}
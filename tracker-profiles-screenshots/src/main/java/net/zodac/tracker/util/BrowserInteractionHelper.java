@@ -24,7 +24,10 @@ import java.io.IOException;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import net.zodac.tracker.framework.exception.TranslationException;
+import net.zodac.tracker.util.InPageWait.ElementCondition;
+import net.zodac.tracker.util.InPageWait.PageReadiness;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.Alert;
@@ -45,6 +48,7 @@ import org.openqa.selenium.support.ui.WebDriverWait;
  */
 public class BrowserInteractionHelper {
 
+    private static final Duration DEFAULT_DOM_QUIET_WINDOW = Duration.ofMillis(250L);
     private static final Duration DEFAULT_WAIT_FOR_ALERT = Duration.ofSeconds(2L);
     private static final Duration DEFAULT_WAIT_FOR_CONTEXT_MENU = Duration.of(500L, ChronoUnit.MILLIS);
     private static final Duration DEFAULT_WAIT_FOR_KEY_PRESS = Duration.of(250L, ChronoUnit.MILLIS);
@@ -86,7 +90,9 @@ public class BrowserInteractionHelper {
     }
 
     /**
-     * Performs a {@link Thread#sleep(Duration)} for the specified {@link Duration}.
+     * Performs a {@link Thread#sleep(Duration)} for the specified {@link Duration}. Since this is an unconditional wait, the time is recorded in the
+     * {@link SleepAudit}. Prefer a condition-based wait (such as {@link #waitForDomToSettle(Duration)}) wherever the page exposes something to wait
+     * on.
      *
      * @param sleepTime the time to wait
      * @param reason    the reason for sleeping
@@ -94,6 +100,7 @@ public class BrowserInteractionHelper {
     public static void explicitWait(final Duration sleepTime, final String reason) {
         try {
             LOGGER.trace("Sleeping for {}, waiting for {}", sleepTime, reason);
+            SleepAudit.record(sleepTime);
             Thread.sleep(sleepTime);
         } catch (final InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -337,8 +344,13 @@ public class BrowserInteractionHelper {
      *      <li>Performs a right-click</li>
      *      <li>Using {@link Robot}, performs 3 'UP' keyboard presses to highlight the 'Translate to English' option</li>
      *      <li>Presses 'ENTER'</li>
+     *      <li>Waits for the translation to be applied, see {@link #waitForTranslation(Duration)}</li>
      * </ol>
      *
+     * <p>
+     * The context menu and key presses are native browser UI driven through {@link Robot}, which the web page cannot observe, so those steps still
+     * use short {@link #explicitWait(Duration, String)}s.
+     *
      * @param nonInteractiveElementSelector the {@link By} selector to a non-interactive {@link WebElement} to right-click
      */
     public void translatePage(final By nonInteractiveElementSelector) {
@@ -366,7 +378,7 @@ public class BrowserInteractionHelper {
             robot.keyPress(KeyEvent.VK_ENTER);
             robot.keyRelease(KeyEvent.VK_ENTER);
 
-            explicitWait(DEFAULT_WAIT_FOR_TRANSLATION, "translation to complete");
+            waitForTranslation(DEFAULT_WAIT_FOR_TRANSLATION);
         } catch (final AWTException e) {
             throw new TranslationException(e);
         }
@@ -405,8 +417,7 @@ public class BrowserInteractionHelper {
      */
     public WebElement waitForElementToBeInteractable(final By selector, final Duration timeout) {
         LOGGER.trace("Waiting {} for [{}] to be interactable", timeout, selector);
-        final Wait<WebDriver> wait = new WebDriverWait(driver, timeout);
-        return wait.until(ExpectedConditions.elementToBeClickable(selector));
+        return Objects.requireNonNull(InPageWait.forElement(driver, selector, ElementCondition.INTERACTABLE, timeout));
     }
 
     /**
@@ -419,8 +430,7 @@ public class BrowserInteractionHelper {
      */
     public WebElement waitForElementToBePresent(final By selector, final Duration timeout) {
         LOGGER.trace("Waiting {} for [{}] to appear", timeout, selector);
-        final Wait<WebDriver> wait = new WebDriverWait(driver, timeout);
-        return wait.until(ExpectedConditions.presenceOfElementLocated(selector));
+        return Objects.requireNonNull(InPageWait.forElement(driver, selector, ElementCondition.PRESENT, timeout));
     }
 
     /**
@@ -432,8 +442,7 @@ public class BrowserInteractionHelper {
      */
     public void waitForElementToBeVisible(final By selector, final Duration timeout) {
         LOGGER.trace("Waiting {} for [{}] to be visible", timeout, selector);
-        final Wait<WebDriver> wait = new WebDriverWait(driver, timeout);
-        wait.until(ExpectedConditions.visibilityOfElementLocated(selector));
+        InPageWait.forElement(driver, selector, ElementCondition.VISIBLE, timeout);
     }
 
     /**
@@ -445,26 +454,83 @@ public class BrowserInteractionHelper {
      */
     public void waitForElementToDisappear(final By selector, final Duration timeout) {
         LOGGER.trace("Waiting {} for [{}] to disappear", timeout, selector);
-        final Wait<WebDriver> wait = new WebDriverWait(driver, timeout);
-        wait.until(ExpectedConditions.invisibilityOfElementLocated(selector));
+        InPageWait.forElement(driver, selector, ElementCondition.HIDDEN, timeout);
     }
 
     /**
-     * Waits for the page that the {@link RemoteWebDriver} is loading to completely load. If the {@code timeout} {@link Duration} is exceeded, the
-     * execution will continue.
+     * Waits for the DOM to stop changing for a short quiet window, such as after a click that expands or collapses a section, or opens a menu. If
+     * the DOM is still changing after the {@code timeout} {@link Duration}, the execution will continue.
      *
      * @param timeout the maximum {@link Duration} to wait
      */
-    public void waitForPageToLoad(final Duration timeout) {
+    public void waitForDomToSettle(final Duration timeout) {
         try {
-            LOGGER.trace("Waiting {} for page to load", timeout);
-            final Wait<WebDriver> wait = new WebDriverWait(driver, timeout);
-            wait.until(_ -> "complete".equals(driver.executeScript("return document.readyState")));
+            InPageWait.forDomToSettle(driver, DEFAULT_DOM_QUIET_WINDOW, false, timeout);
         } catch (final TimeoutException e) {
-            if (LOGGER.isTraceEnabled()) {
-                LOGGER.trace("Page didn't load, page source: {}", driver.getPageSource());
-            }
-            throw e;
+            LOGGER.trace("DOM did not settle, continuing", e);
+        }
+    }
+
+    /**
+     * Waits for Chrome's built-in translation to be applied to the page, and for the translated DOM to stop changing. If the page has not been
+     * translated after the {@code timeout} {@link Duration} (for example, if it was already in English), the execution will continue.
+     *
+     * @param timeout the maximum {@link Duration} to wait
+     */
+    public void waitForTranslation(final Duration timeout) {
+        try {
+            InPageWait.forDomToSettle(driver, DEFAULT_DOM_QUIET_WINDOW, true, timeout);
+        } catch (final TimeoutException e) {
+            LOGGER.trace("Page translation not detected, continuing", e);
+        }
+    }
+
+    /**
+     * Waits for every image (including lazy-loaded images outside the viewport) and web font on the page to finish loading, so that they are
+     * rendered in a screenshot. If they are still loading after the {@code timeout} {@link Duration}, the execution will continue.
+     *
+     * @param timeout the maximum {@link Duration} to wait
+     */
+    public void waitForImagesAndFonts(final Duration timeout) {
+        try {
+            InPageWait.forImagesAndFonts(driver, timeout);
+        } catch (final TimeoutException e) {
+            LOGGER.trace("Images and fonts still loading, continuing", e);
         }
     }
+
+    /**
+     * Waits for the page that the {@link RemoteWebDriver} is loading to completely load (the {@code load} event has fired). If the {@code timeout}
+     * {@link Duration} is exceeded, a {@link TimeoutException} is thrown.
+     *
+     * @param timeout the maximum {@link Duration} to wait
+     * @throws TimeoutException thrown if the page doesn't load in the specified {@link Duration}
+     */
+    public void waitForPageToLoad(final Duration timeout) {
+        InPageWait.forPageReadiness(driver, PageReadiness.LOAD, Duration.ZERO, timeout);
+    }
+
+    /**
+     * Waits for the page that the {@link RemoteWebDriver} is loading to have its DOM parsed (the {@code DOMContentLoaded} event has fired), without
+     * waiting for images, stylesheets or other subresources.
+     *
+     * @param timeout the maximum {@link Duration} to wait
+     * @throws TimeoutException thrown if the DOM isn't ready in the specified {@link Duration}
+     */
+    public void waitForDomContentLoaded(final Duration timeout) {
+        InPageWait.forPageReadiness(driver, PageReadiness.DOM_CONTENT_LOADED, Duration.ZERO, timeout);
+    }
+
+    /**
+     * Waits for the page that the {@link RemoteWebDriver} is loading to completely load, and then for the network to go quiet: no resource
+     * (including {@code fetch}/{@code XHR} requests) may finish loading for the full {@code quietWindow}. Useful for pages that populate their
+     * content asynchronously after the {@code load} event.
+     *
+     * @param quietWindow the {@link Duration} with no network activity before the page is considered idle
+     * @param timeout     the maximum {@link Duration} to wait
+     * @throws TimeoutException thrown if the network doesn't go idle in the specified {@link Duration}
+     */
+    public void waitForNetworkIdle(final Duration quietWindow, final Duration timeout) {
+        InPageWait.forPageReadiness(driver, PageReadiness.NETWORK_IDLE, quietWindow, timeout);
+    }
 }
@@ -0,0 +1,118 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.util;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.imageio.ImageIO;
+import net.zodac.tracker.redaction.RedactionRegion;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A single screenshot of the entire web page, as the PNG produced by the browser, with the {@link RedactionRegion}s collected from the page as it
+ * was captured. The PNG can be written to disk as-is, and is only decoded (once)
+ * if a copy of the image needs to be modified, such as to render redactions onto it.
+ *
+ * @see ScreenshotTaker#capturePage(org.openqa.selenium.remote.RemoteWebDriver, java.util.function.Supplier)
+ */
+public final class CapturedPage {
+
+    private final ReentrantLock decodeLock = new ReentrantLock();
+    private final String base64Png;
+    private final long pageWidth;
+    private final List<RedactionRegion> regions;
+    private @Nullable CompletableFuture<BufferedImage> decodedImage;
+
+    /**
+     * Constructor for {@link CapturedPage}.
+     *
+     * @param base64Png the base64-encoded PNG of the page
+     * @param pageWidth the width of the page, in CSS pixels
+     * @param regions   the {@link RedactionRegion}s on the page
+     */
+    CapturedPage(final String base64Png, final long pageWidth, final List<RedactionRegion> regions) {
+        this.base64Png = base64Png;
+        this.pageWidth = pageWidth;
+        this.regions = List.copyOf(regions);
+    }
+
+    /**
+     * The base64-encoded PNG of the page, as returned by the browser.
+     *
+     * @return the base64-encoded PNG
+     */
+    String base64Png() {
+        return base64Png;
+    }
+
+    /**
+     * The width of the page, in CSS pixels. The PNG is wider than this when the browser has a device pixel ratio above {@code 1}.
+     *
+     * @return the page width
+     */
+    long pageWidth() {
+        return pageWidth;
+    }
+
+    /**
+     * The {@link RedactionRegion}s on the page, collected immediately before it was captured.
+     *
+     * @return the {@link RedactionRegion}s
+     */
+    List<RedactionRegion> regions() {
+        return regions;
+    }
+
+    /**
+     * Decodes the PNG into a {@link BufferedImage} on the {@code executor}. The PNG is only decoded on the first call, with later calls sharing the
+     * same result.
+     *
+     * @param executor the {@link Executor} to decode the PNG on
+     * @return a {@link CompletableFuture} that resolves to the decoded {@link BufferedImage}
+     */
+    CompletableFuture<BufferedImage> decodedImage(final Executor executor) {
+        decodeLock.lock();
+        try {
+            if (decodedImage == null) {
+                decodedImage = CompletableFuture.supplyAsync(this::decode, executor);
+            }
+            return decodedImage;
+        } finally {
+            decodeLock.unlock();
+        }
+    }
+
+    private BufferedImage decode() {
+        try {
+            final BufferedImage image = ImageIO.read(new ByteArrayInputStream(Base64.getDecoder().decode(base64Png)));
+            if (image == null) {
+                throw new IOException("Screenshot is not a readable PNG");
+            }
+            return image;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.util;
+
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import javax.imageio.ImageIO;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+
+/**
+ * Captures the entire web page through Chrome DevTools Protocol {@code Page.captureScreenshot} calls. Using {@code captureBeyondViewport}, the
+ * browser renders the full height of the page itself, so there is no need to scroll the page and stitch each viewport together.
+ *
+ * <p>
+ * The capture is sized from {@code Page.getLayoutMetrics}: the width of the layout viewport (matching what a scrolling capture would include), and
+ * the full height of the page content. Most pages are captured in a single call, but very tall pages are captured in horizontal tiles that are
+ * streamed row by row into a {@link StreamingPngWriter}, so neither the browser nor Java ever holds a raster of the entire page.
+ */
+final class DevToolsScreenshot {
+
+    /**
+     * Pages taller than this (in CSS pixels) are captured in tiles. This is the maximum texture size in Chrome, beyond which a single capture can
+     * fail or come back incomplete, and keeps the single PNG (and any image decoded from it) to a reasonable size.
+     */
+    static final long MAXIMUM_SINGLE_CAPTURE_HEIGHT = 16_384L;
+
+    /**
+     * The height of each tile (in CSS pixels) when a page is captured in tiles. At a typical width of 1,680 pixels, a decoded tile is ~14MB.
+     */
+    static final long TILE_HEIGHT = 2_048L;
+
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    private DevToolsScreenshot() {
+
+    }
+
+    /**
+     * The size of the web page to capture, in CSS pixels.
+     *
+     * @param width  the width of the layout viewport
+     * @param height the full height of the page content
+     */
+    record PageSize(long width, long height) {
+
+        /**
+         * Whether the page is too tall to capture in a single call, and must be captured with
+         * {@link DevToolsScreenshot#captureInTiles(HasCdp, PageSize, Path)} instead.
+         *
+         * @return {@code true} if the page must be captured in tiles
+         */
+        boolean requiresTiles() {
+            return height > MAXIMUM_SINGLE_CAPTURE_HEIGHT;
+        }
+    }
+
+    /**
+     * Measures the web page to be captured.
+     *
+     * @param driver the {@link HasCdp} driver with the loaded web page
+     * @return the {@link PageSize}
+     * @throws WebDriverException thrown if the page could not be measured
+     */
+    static PageSize measurePage(final HasCdp driver) {
+        final Map<String, Object> layoutMetrics = driver.executeCdpCommand("Page.getLayoutMetrics", Map.of());
+        return new PageSize(dimension(layoutMetrics, "cssLayoutViewport", "clientWidth"), dimension(layoutMetrics, "cssContentSize", "height"));
+    }
+
+    /**
+     * Captures the entire web page as a PNG in a single call.
+     *
+     * @param driver   the {@link HasCdp} driver with the loaded web page
+     * @param pageSize the {@link PageSize} of the web page
+     * @return the base64-encoded PNG of the screenshot, as returned by the browser
+     * @throws WebDriverException thrown if the page could not be captured
+     */
+    static String captureEntirePage(final HasCdp driver, final PageSize pageSize) {
+        LOGGER.trace("Capturing page of {}x{} through DevTools", pageSize.width(), pageSize.height());
+        return captureClip(driver, 0L, pageSize.width(), pageSize.height());
+    }
+
+    /**
+     * Captures the entire web page in horizontal tiles of {@link #TILE_HEIGHT}, streaming the rows of each tile into a PNG written to the
+     * {@code outputFile}. Only one decoded tile is held in memory at a time.
+     *
+     * @param driver     the {@link HasCdp} driver with the loaded web page
+     * @param pageSize   the {@link PageSize} of the web page
+     * @param outputFile the {@link Path} of the file to write
+     * @throws IOException        thrown if a tile could not be decoded, or the file could not be written
+     * @throws WebDriverException thrown if a tile could not be captured
+     */
+    static void captureInTiles(final HasCdp driver, final PageSize pageSize, final Path outputFile) throws IOException {
+        final long firstTileHeight = Math.min(TILE_HEIGHT, pageSize.height());
+        LOGGER.trace("Capturing page of {}x{} through DevTools in {} tiles", pageSize.width(), pageSize.height(),
+            Math.ceilDiv(pageSize.height(), TILE_HEIGHT));
+        final BufferedImage firstTile = decodeTile(captureClip(driver, 0L, pageSize.width(), firstTileHeight));
+
+        // The tiles are rendered at the device pixel ratio, which may not be 1
+        final int pixelWidth = firstTile.getWidth();
+        final int pixelHeight = Math.toIntExact(Math.round(pageSize.height() * (double) firstTile.getHeight() / firstTileHeight));
+        final int[] row = new int[pixelWidth];
+
+        try (final StreamingPngWriter writer = new StreamingPngWriter(new BufferedOutputStream(Files.newOutputStream(outputFile)), pixelWidth,
+            pixelHeight)) {
+            int rowsWritten = 0;
+            for (long tileTop = 0L; tileTop < pageSize.height(); tileTop += TILE_HEIGHT) {
+                final BufferedImage tile = tileTop == 0L
+                    ? firstTile
+                    : decodeTile(captureClip(driver, tileTop, pageSize.width(), Math.min(TILE_HEIGHT, pageSize.height() - tileTop)));
+                if (tile.getWidth() != pixelWidth) {
+                    throw new IOException("Tile at %d is %d pixels wide, expected %d".formatted(tileTop, tile.getWidth(), pixelWidth));
+                }
+
+                final int rowsFromTile = Math.min(tile.getHeight(), pixelHeight - rowsWritten);
+                for (int y = 0; y < rowsFromTile; y++) {
+                    tile.getRGB(0, y, pixelWidth, 1, row, 0, pixelWidth);
+                    writer.writeRow(row, 0);
+                }
+                rowsWritten += rowsFromTile;
+            }
+
+            // With a fractional device pixel ratio, the rounded tile heights can fall a row short of the page, so the last row is repeated
+            for (; rowsWritten < pixelHeight; rowsWritten++) {
+                writer.writeRow(row, 0);
+            }
+        }
+    }
+
+    /**
+     * Writes a PNG captured by {@link #captureEntirePage(HasCdp, PageSize)} directly to the {@code outputFile}. The browser has already encoded the
+     * PNG, so the bytes are only base64-decoded and written through a {@link FileChannel}, without decoding the image or re-encoding it in Java.
+     *
+     * @param base64Png  the base64-encoded PNG
+     * @param outputFile the {@link Path} of the file to write
+     * @throws IOException thrown if the file could not be written
+     */
+    static void writePng(final String base64Png, final Path outputFile) throws IOException {
+        final ByteBuffer png = ByteBuffer.wrap(Base64.getDecoder().decode(base64Png));
+        try (final FileChannel channel = FileChannel.open(outputFile, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE)) {
+            while (png.hasRemaining()) {
+                channel.write(png);
+            }
+        }
+    }
+
+    private static String captureClip(final HasCdp driver, final long y, final long width, final long height) {
+        final Map<String, Object> clip = HashMap.newHashMap(5);
+        clip.put("x", 0);
+        clip.put("y", y);
+        clip.put("width", width);
+        clip.put("height", height);
+        clip.put("scale", 1);
+
+        final Map<String, Object> parameters = HashMap.newHashMap(4);
+        parameters.put("format", "png");
+        parameters.put("captureBeyondViewport", true);
+        parameters.put("fromSurface", true);
+        parameters.put("clip", clip);
+
+        final Map<String, Object> screenshot = driver.executeCdpCommand("Page.captureScreenshot", parameters);
+        if (screenshot.get("data") instanceof final String data) {
+            return data;
+        }
+        throw new WebDriverException("CDP response did not include 'data'");
+    }
+
+    private static BufferedImage decodeTile(final String base64Png) throws IOException {
+        final BufferedImage tile = ImageIO.read(new ByteArrayInputStream(Base64.getDecoder().decode(base64Png)));
+        if (tile == null) {
+            throw new IOException("Screenshot tile is not a readable PNG");
+        }
+        return tile;
+    }
+
+    private static long dimension(final Map<String, Object> layoutMetrics, final String metricName, final String dimensionName) {
+        if (layoutMetrics.get(metricName) instanceof final Map<?, ?> metric && metric.get(dimensionName) instanceof final Number dimension) {
+            // Sizes are reported as fractional CSS pixels, round up so the last partial row/column is included
+            return (long) Math.ceil(dimension.doubleValue());
+        }
+        throw new WebDriverException("CDP layout metrics did not include '%s.%s': %s".formatted(metricName, dimensionName, layoutMetrics));
+    }
+}
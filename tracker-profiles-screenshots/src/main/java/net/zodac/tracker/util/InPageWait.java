@@ -0,0 +1,407 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.util;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.function.Function;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jspecify.annotations.Nullable;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+/**
+ * Waits that are resolved inside the web page rather than by polling from Java. Each wait is a single
+ * {@link RemoteWebDriver#executeAsyncScript(String, Object...)} call, which registers listeners (page events, a {@code MutationObserver}, etc.) and
+ * only returns once the wanted condition is met, so the wait finishes as soon as the page is ready with a single round trip to the browser.
+ *
+ * <p>
+ * If the page navigates while a script is waiting (unloading the document the listeners were registered on), the script is re-executed on the new
+ * document until the timeout is reached. Each execution is bounded to 25 seconds so it never exceeds the session's default script
+ * timeout.
+ */
+final class InPageWait {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    // Kept below the WebDriver default script timeout of 30 seconds, longer waits are split across multiple executions
+    private static final Duration MAXIMUM_SCRIPT_WAIT = Duration.ofSeconds(25L);
+    private static final Duration RETRY_INTERVAL = Duration.ofMillis(50L);
+    private static final String DOCUMENT_UNLOADED_ERROR = "document unloaded";
+    private static final Set<String> IN_PAGE_LOCATOR_STRATEGIES = Set.of("css selector", "tag name", "xpath");
+
+    // Each script receives the maximum wait in milliseconds as its first argument, and resolves with 'false' if the wait expires first
+    private static final String PAGE_READINESS_SCRIPT = """
+        var waitMillis = arguments[0];
+        var readiness = arguments[1];
+        var quietWindowMillis = arguments[2];
+        var done = arguments[arguments.length - 1];
+
+        var finished = false;
+        var finish = function(result) {
+            if (!finished) {
+                finished = true;
+                clearTimeout(expiry);
+                done(result);
+            }
+        };
+        var expiry = setTimeout(function() { finish(false); }, waitMillis);
+
+        var waitForNetworkIdle = function() {
+            var idleTimer;
+            var observer = new PerformanceObserver(function() { resetIdleTimer(); });
+            var resetIdleTimer = function() {
+                clearTimeout(idleTimer);
+                idleTimer = setTimeout(function() {
+                    observer.disconnect();
+                    finish(true);
+                }, quietWindowMillis);
+            };
+            observer.observe({ type: 'resource' });
+            resetIdleTimer();
+        };
+
+        var onLoaded = readiness === 'NETWORK_IDLE' ? waitForNetworkIdle : function() { finish(true); };
+        if (readiness === 'DOM_CONTENT_LOADED') {
+            if (document.readyState !== 'loading') {
+                finish(true);
+            } else {
+                document.addEventListener('DOMContentLoaded', function() { finish(true); }, { once: true });
+            }
+        } else if (document.readyState === 'complete') {
+            onLoaded();
+        } else {
+            window.addEventListener('load', onLoaded, { once: true });
+        }
+        """;
+
+    // Visibility can also change through stylesheets or layout without a DOM mutation, so a slow in-page re-check backs up the MutationObserver
+    private static final String ELEMENT_CONDITION_SCRIPT = """
+        var waitMillis = arguments[0];
+        var using = arguments[1];
+        var value = arguments[2];
+        var condition = arguments[3];
+        var done = arguments[arguments.length - 1];
+
+        var find = function() {
+            if (using === 'xpath') {
+                return document.evaluate(value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;
+            }
+            return document.querySelector(value);
+        };
+        var isVisible = function(element) {
+            var rect = element.getBoundingClientRect();
+            return element.checkVisibility({ visibilityProperty: true }) && (rect.width > 0 || rect.height > 0);
+        };
+        var evaluate = function() {
+            var element = find();
+            switch (condition) {
+                case 'PRESENT':
+                    return element;
+                case 'VISIBLE':
+                    return element && isVisible(element) ? element : null;
+                case 'INTERACTABLE':
+                    return element && isVisible(element) && !element.disabled ? element : null;
+                case 'HIDDEN':
+                    return !element || !isVisible(element) ? true : null;
+                default:
+                    return null;
+            }
+        };
+
+        var finished = false;
+        var observer;
+        var recheck;
+        var expiry;
+        var finish = function(result) {
+            if (!finished) {
+                finished = true;
+                clearTimeout(expiry);
+                clearInterval(recheck);
+                observer.disconnect();
+                done(result);
+            }
+        };
+        var check = function() {
+            var result = evaluate();
+            if (result) {
+                finish(result);
+            }
+        };
+
+        observer = new MutationObserver(check);
+        observer.observe(document, { attributes: true, childList: true, subtree: true });
+        recheck = setInterval(check, 250);
+        expiry = setTimeout(function() { finish(false); }, waitMillis);
+        check();
+        """;
+
+    // Chrome's built-in translation marks the root element with a 'translated-ltr' or 'translated-rtl' class once it starts rewriting the page
+    private static final String DOM_SETTLED_SCRIPT = """
+        var waitMillis = arguments[0];
+        var quietWindowMillis = arguments[1];
+        var requireTranslation = arguments[2];
+        var done = arguments[arguments.length - 1];
+
+        var isTranslated = function() {
+            var classes = document.documentElement.classList;
+            return classes.contains('translated-ltr') || classes.contains('translated-rtl');
+        };
+
+        var finished = false;
+        var observer;
+        var idleTimer;
+        var expiry;
+        var finish = function(result) {
+            if (!finished) {
+                finished = true;
+                clearTimeout(expiry);
+                clearTimeout(idleTimer);
+                observer.disconnect();
+                done(result);
+            }
+        };
+        var resetIdleTimer = function() {
+            if (requireTranslation && !isTranslated()) {
+                return;
+            }
+            clearTimeout(idleTimer);
+            idleTimer = setTimeout(function() { finish(true); }, quietWindowMillis);
+        };
+
+        observer = new MutationObserver(resetIdleTimer);
+        observer.observe(document.documentElement, { attributes: true, childList: true, subtree: true, characterData: true });
+        expiry = setTimeout(function() { finish(false); }, waitMillis);
+        resetIdleTimer();
+        """;
+
+    // Lazy images are switched to eager loading, since they are otherwise only fetched once scrolled into view
+    private static final String ASSETS_LOADED_SCRIPT = """
+        var waitMillis = arguments[0];
+        var done = arguments[arguments.length - 1];
+
+        var finished = false;
+        var finish = function(result) {
+            if (!finished) {
+                finished = true;
+                clearTimeout(expiry);
+                done(result);
+            }
+        };
+        var expiry = setTimeout(function() { finish(false); }, waitMillis);
+
+        document.querySelectorAll('img[loading="lazy"]').forEach(function(image) { image.loading = 'eager'; });
+        var pendingImages = Array.from(document.images)
+            .filter(function(image) { return !image.complete; })
+            .map(function(image) {
+                return new Promise(function(resolve) {
+                    image.addEventListener('load', resolve, { once: true });
+                    image.addEventListener('error', resolve, { once: true });
+                });
+            });
+
+        Promise.all([document.fonts.ready, Promise.all(pendingImages)]).then(function() { finish(true); });
+        """;
+
+    private InPageWait() {
+
+    }
+
+    /**
+     * Waits for the page to reach the wanted {@link PageReadiness}, using the page's own load events rather than polling
+     * {@code document.readyState}.
+     *
+     * @param driver      the {@link RemoteWebDriver}
+     * @param readiness   the {@link PageReadiness} to wait for
+     * @param quietWindow the {@link Duration} with no network activity, only used for {@link PageReadiness#NETWORK_IDLE}
+     * @param timeout     the maximum {@link Duration} to wait
+     * @throws TimeoutException thrown if the page doesn't reach the {@link PageReadiness} in the specified {@link Duration}
+     */
+    static void forPageReadiness(final RemoteWebDriver driver, final PageReadiness readiness, final Duration quietWindow, final Duration timeout) {
+        LOGGER.trace("Waiting {} for page readiness: {}", timeout, readiness);
+        try {
+            await(driver, PAGE_READINESS_SCRIPT, "page readiness '%s'".formatted(readiness), timeout, readiness.name(), quietWindow.toMillis());
+        } catch (final TimeoutException e) {
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace("Page didn't reach readiness '{}', page source: {}", readiness, driver.getPageSource());
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Waits for the first {@link WebElement} matching the {@link By} selector to meet the {@link ElementCondition}, using a
+     * {@code MutationObserver} in the page. Selectors that cannot be evaluated in the page (such as link text) fall back to a polling
+     * {@link WebDriverWait}.
+     *
+     * @param driver    the {@link RemoteWebDriver}
+     * @param selector  the {@link By} selector for the target {@link WebElement}
+     * @param condition the {@link ElementCondition} to wait for
+     * @param timeout   the maximum {@link Duration} to wait
+     * @return the matching {@link WebElement}, or {@code null} for {@link ElementCondition#HIDDEN}
+     * @throws TimeoutException thrown if the condition isn't met in the specified {@link Duration}
+     */
+    static @Nullable WebElement forElement(final RemoteWebDriver driver, final By selector, final ElementCondition condition,
+                                           final Duration timeout) {
+        if (!(selector instanceof final By.Remotable remotable)
+            || !IN_PAGE_LOCATOR_STRATEGIES.contains(remotable.getRemoteParameters().using())) {
+            LOGGER.trace("Selector [{}] cannot be evaluated in the page, polling instead", selector);
+            final Object result = new WebDriverWait(driver, timeout).until(condition.fallback.apply(selector));
+            return result instanceof final WebElement element ? element : null;
+        }
+
+        final By.Remotable.Parameters locator = remotable.getRemoteParameters();
+        final Object result = await(driver, ELEMENT_CONDITION_SCRIPT, "[%s] to be %s".formatted(selector, condition), timeout, locator.using(),
+            locator.value(), condition.name());
+        return result instanceof final WebElement element ? element : null;
+    }
+
+    /**
+     * Waits for the DOM to stop changing: no element may be added, removed or have its attributes or text updated for the full
+     * {@code quietWindow}. Optionally also waits for Chrome's built-in translation to have been applied to the page before the quiet window starts.
+     *
+     * @param driver             the {@link RemoteWebDriver}
+     * @param quietWindow        the {@link Duration} with no DOM mutations before the page is considered settled
+     * @param requireTranslation whether the page must also have been translated
+     * @param timeout            the maximum {@link Duration} to wait
+     * @throws TimeoutException thrown if the DOM doesn't settle in the specified {@link Duration}
+     */
+    static void forDomToSettle(final RemoteWebDriver driver, final Duration quietWindow, final boolean requireTranslation, final Duration timeout) {
+        final String description = requireTranslation ? "page translation to complete" : "DOM to settle";
+        LOGGER.trace("Waiting {} for {}", timeout, description);
+        await(driver, DOM_SETTLED_SCRIPT, description, timeout, quietWindow.toMillis(), requireTranslation);
+    }
+
+    /**
+     * Waits for every image on the page (including any lazy-loaded images, which are switched to load eagerly) and every web font to finish
+     * loading. Images that fail to load are treated as finished.
+     *
+     * @param driver  the {@link RemoteWebDriver}
+     * @param timeout the maximum {@link Duration} to wait
+     * @throws TimeoutException thrown if the images and fonts don't load in the specified {@link Duration}
+     */
+    static void forImagesAndFonts(final RemoteWebDriver driver, final Duration timeout) {
+        LOGGER.trace("Waiting {} for images and fonts to load", timeout);
+        await(driver, ASSETS_LOADED_SCRIPT, "images and fonts to load", timeout);
+    }
+
+    private static Object await(final RemoteWebDriver driver, final String script, final String description, final Duration timeout,
+                                final Object... arguments) {
+        final Instant deadline = Instant.now().plus(timeout);
+        final Object[] scriptArguments = new Object[arguments.length + 1];
+        System.arraycopy(arguments, 0, scriptArguments, 1, arguments.length);
+
+        while (true) {
+            final Duration remaining = Duration.between(Instant.now(), deadline);
+            if (!remaining.isPositive()) {
+                throw new TimeoutException("Timed out after %s waiting for %s".formatted(timeout, description));
+            }
+
+            scriptArguments[0] = (remaining.compareTo(MAXIMUM_SCRIPT_WAIT) < 0 ? remaining : MAXIMUM_SCRIPT_WAIT).toMillis();
+            try {
+                final Object result = driver.executeAsyncScript(script, scriptArguments);
+                if (result != null && !Boolean.FALSE.equals(result)) {
+                    return result;
+                }
+            } catch (final ScriptTimeoutException e) {
+                throw new TimeoutException("Timed out after %s waiting for %s".formatted(timeout, description), e);
+            } catch (final JavascriptException e) {
+                final String message = e.getMessage();
+                if (message == null || !message.contains(DOCUMENT_UNLOADED_ERROR)) {
+                    throw e;
+                }
+
+                LOGGER.trace("Document unloaded while waiting for {}, retrying on new document", description, e);
+                waitBeforeRetry();
+            }
+        }
+    }
+
+    // A direct sleep rather than BrowserInteractionHelper.explicitWait(), since this internal backoff is not a fixed wait to record in the SleepAudit
+    private static void waitBeforeRetry() {
+        try {
+            Thread.sleep(RETRY_INTERVAL);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The page event milestones that can be waited for through {@link #forPageReadiness(RemoteWebDriver, PageReadiness, Duration, Duration)}.
+     */
+    enum PageReadiness {
+
+        /**
+         * The HTML has been parsed and the DOM is built ({@code DOMContentLoaded}).
+         */
+        DOM_CONTENT_LOADED,
+
+        /**
+         * The page and all of its subresources have loaded ({@code load}).
+         */
+        LOAD,
+
+        /**
+         * The page has loaded, and no resource has finished loading for a quiet window.
+         */
+        NETWORK_IDLE
+    }
+
+    /**
+     * The {@link WebElement} conditions that can be waited for through {@link #forElement(RemoteWebDriver, By, ElementCondition, Duration)}. Each
+     * has an equivalent {@link ExpectedConditions} used when the selector cannot be evaluated in the page.
+     */
+    enum ElementCondition {
+
+        /**
+         * The {@link WebElement} exists in the DOM.
+         */
+        PRESENT(ExpectedConditions::presenceOfElementLocated),
+
+        /**
+         * The {@link WebElement} exists in the DOM and is rendered with a non-zero size.
+         */
+        VISIBLE(ExpectedConditions::visibilityOfElementLocated),
+
+        /**
+         * The {@link WebElement} is visible and not disabled.
+         */
+        INTERACTABLE(ExpectedConditions::elementToBeClickable),
+
+        /**
+         * The {@link WebElement} does not exist in the DOM, or is not visible.
+         */
+        HIDDEN(ExpectedConditions::invisibilityOfElementLocated);
+
+        private final Function<By, ExpectedCondition<?>> fallback;
+
+        ElementCondition(final Function<By, ExpectedCondition<?>> fallback) {
+            this.fallback = fallback;
+        }
+    }
+}
@@ -19,15 +19,28 @@ package net.zodac.tracker.util;
 
 import java.awt.image.BufferedImage;
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.function.Supplier;
 import javax.imageio.ImageIO;
 import net.zodac.tracker.framework.config.ApplicationConfiguration;
 import net.zodac.tracker.framework.config.Configuration;
+import net.zodac.tracker.redaction.RedactionRegion;
+import net.zodac.tracker.redaction.RedactionRenderer;
 import net.zodac.tracker.redaction.RedactionType;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jspecify.annotations.Nullable;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import ru.yandex.qatools.ashot.AShot;
 import ru.yandex.qatools.ashot.shooting.ShootingStrategies;
@@ -39,6 +52,8 @@ import ru.yandex.qatools.ashot.shooting.ShootingStrategy;
 public final class ScreenshotTaker {
 
     private static final ApplicationConfiguration CONFIG = Configuration.get();
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final Duration MAXIMUM_WAIT_FOR_IMAGES_AND_FONTS = Duration.ofSeconds(10L);
     private static final Duration TIME_BETWEEN_SCROLLS = Duration.ofMillis(500L);
     private static final ExecutorService WRITE_EXECUTOR = Executors.newFixedThreadPool(CONFIG.numberOfParallelThreads());
 
@@ -84,6 +99,12 @@ public final class ScreenshotTaker {
      * the provided {@code outputDirectory}. The file name will be {@code trackerName.png}.
      *
      * <p>
+     * When scrolling, the entire page is captured in a single DevTools call once all images and fonts have loaded (see
+     * {@link DevToolsScreenshot}), and the PNG produced by the browser is written straight to the file. Very tall pages are instead captured in tiles
+     * that are streamed into the file as they are captured, so the full page is never held in memory. If DevTools is unavailable or fails, the page
+     * is instead scrolled and each viewport is stitched together and encoded as a PNG in Java.
+     *
+     * <p>
      * Once the screenshot is saved, the page is scrolled back to the top. This is to ensure that any elements at the top of the page are clickable
      * after scrolling.
      *
@@ -92,19 +113,96 @@ public final class ScreenshotTaker {
      * @param baseName               the base file name for the screenshot (tracker name, with optional redaction type suffix)
      * @param scrollDuringScreenshot whether to scroll the profile page during the screenshot
      * @param index                  how many screenshots already exist for this base name
-     * @return a {@link Future} that resolves to the saved screenshot {@link File} once PNG encoding is complete
+     * @return a {@link Future} that resolves to the saved screenshot {@link File} once it has been written
      * @see BrowserInteractionHelper#scrollToTheTop()
      */
     public static Future<File> takeScreenshot(final RemoteWebDriver driver, final Path outputDirectory, final String baseName,
                                               final boolean scrollDuringScreenshot, final int index) {
-        final BufferedImage screenshotImage = takeScreenshotOfEntirePage(driver, scrollDuringScreenshot);
         final File screenshot = createOutputFileHandle(outputDirectory.toAbsolutePath(), baseName, index);
+        if (scrollDuringScreenshot && driver instanceof final HasCdp cdpDriver) {
+            final Future<File> devToolsScreenshot = takeDevToolsScreenshot(driver, cdpDriver, screenshot);
+            if (devToolsScreenshot != null) {
+                return devToolsScreenshot;
+            }
+        }
+
+        final BufferedImage screenshotImage = takeScreenshotOfEntirePage(driver, scrollDuringScreenshot);
         return WRITE_EXECUTOR.submit(() -> {
             ImageIO.write(screenshotImage, "PNG", screenshot);
             return screenshot;
         });
     }
 
+    /**
+     * Captures the entire web page loaded by the {@link RemoteWebDriver} in a single DevTools call, once all images and fonts have loaded (see
+     * {@link DevToolsScreenshot}). The {@link RedactionRegion}s are collected immediately before the page is captured, so they match the layout in
+     * the screenshot. The {@link CapturedPage} can then be written as multiple screenshots with
+     * {@link #writeScreenshot(CapturedPage, RedactionType, Path, String, int)}.
+     *
+     * <p>
+     * Rendering redactions requires the entire page to be decoded in memory, so pages that are too tall to capture in a single call are not captured,
+     * and should instead be screenshot once per {@link RedactionType} with
+     * {@link #takeScreenshot(RemoteWebDriver, Path, String, boolean, int)}.
+     *
+     * @param driver          the {@link RemoteWebDriver} with the loaded web page
+     * @param regionCollector collects the {@link RedactionRegion}s from the page, only called if the page can be captured in a single call
+     * @return the {@link CapturedPage}, or {@code null} if the page could not be captured through DevTools in a single call
+     */
+    public static @Nullable CapturedPage capturePage(final RemoteWebDriver driver, final Supplier<List<RedactionRegion>> regionCollector) {
+        if (!(driver instanceof final HasCdp cdpDriver)) {
+            return null;
+        }
+
+        try {
+            new BrowserInteractionHelper(driver).waitForImagesAndFonts(MAXIMUM_WAIT_FOR_IMAGES_AND_FONTS);
+            final DevToolsScreenshot.PageSize pageSize = DevToolsScreenshot.measurePage(cdpDriver);
+            if (pageSize.requiresTiles()) {
+                LOGGER.debug("\t- Page is {} pixels tall, too tall to capture once for all redaction types", pageSize.height());
+                return null;
+            }
+            final List<RedactionRegion> regions = regionCollector.get();
+            return new CapturedPage(DevToolsScreenshot.captureEntirePage(cdpDriver, pageSize), pageSize.width(), regions);
+        } catch (final WebDriverException e) {
+            LOGGER.debug("Error taking DevTools screenshot", e);
+            LOGGER.warn("\t- Unable to take DevTools screenshot, falling back to a screenshot for each redaction type: {}",
+                StringUtils.firstLine(e.getMessage()));
+            return null;
+        }
+    }
+
+    /**
+     * Writes a {@link CapturedPage} as a {@code .png} file in the provided {@code outputDirectory}, with its {@link RedactionRegion}s rendered for
+     * the given {@link RedactionType} (see {@link RedactionRenderer}). For {@link RedactionType#NONE}, the PNG produced by the browser is written
+     * as-is. Otherwise, the PNG is decoded (once per {@link CapturedPage}) and each redacted copy is rendered and encoded in parallel on the write
+     * executor.
+     *
+     * @param capturedPage    the {@link CapturedPage} to write
+     * @param redactionType   the {@link RedactionType} to render
+     * @param outputDirectory the directory in which the screenshot should be saved
+     * @param baseName        the base file name for the screenshot (tracker name, with optional redaction type suffix)
+     * @param index           how many screenshots already exist for this base name
+     * @return a {@link Future} that resolves to the saved screenshot {@link File} once it has been written
+     */
+    public static Future<File> writeScreenshot(final CapturedPage capturedPage, final RedactionType redactionType, final Path outputDirectory,
+                                               final String baseName, final int index) {
+        final File screenshot = createOutputFileHandle(outputDirectory.toAbsolutePath(), baseName, index);
+        if (redactionType == RedactionType.NONE) {
+            return WRITE_EXECUTOR.submit(() -> {
+                DevToolsScreenshot.writePng(capturedPage.base64Png(), screenshot.toPath());
+                return screenshot;
+            });
+        }
+
+        return capturedPage.decodedImage(WRITE_EXECUTOR).thenApplyAsync(image -> {
+            try {
+                ImageIO.write(RedactionRenderer.render(image, capturedPage.pageWidth(), capturedPage.regions(), redactionType), "PNG", screenshot);
+                return screenshot;
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, WRITE_EXECUTOR);
+    }
+
     /**
      * Shuts down the bounded PNG write executor. Call once after all screenshot work is finished.
      */
@@ -120,6 +218,49 @@ public final class ScreenshotTaker {
         return new File(outputDirectory + File.separator + baseName + "_" + index + ".png");
     }
 
+    private static @Nullable Future<File> takeDevToolsScreenshot(final RemoteWebDriver driver, final HasCdp cdpDriver, final File screenshot) {
+        try {
+            new BrowserInteractionHelper(driver).waitForImagesAndFonts(MAXIMUM_WAIT_FOR_IMAGES_AND_FONTS);
+            final DevToolsScreenshot.PageSize pageSize = DevToolsScreenshot.measurePage(cdpDriver);
+            if (pageSize.requiresTiles()) {
+                LOGGER.debug("\t\t- Page is {} pixels tall, capturing in tiles", pageSize.height());
+                return captureInTiles(cdpDriver, pageSize, screenshot);
+            }
+
+            final String base64Png = DevToolsScreenshot.captureEntirePage(cdpDriver, pageSize);
+            return WRITE_EXECUTOR.submit(() -> {
+                DevToolsScreenshot.writePng(base64Png, screenshot.toPath());
+                return screenshot;
+            });
+        } catch (final WebDriverException e) {
+            LOGGER.debug("Error taking DevTools screenshot", e);
+            LOGGER.warn("\t- Unable to take DevTools screenshot, falling back to scrolling screenshot: {}", StringUtils.firstLine(e.getMessage()));
+            return null;
+        }
+    }
+
+    // Tiles are captured and encoded on the calling thread, since the page must not change until the last tile has been captured
+    private static Future<File> captureInTiles(final HasCdp cdpDriver, final DevToolsScreenshot.PageSize pageSize, final File screenshot) {
+        try {
+            DevToolsScreenshot.captureInTiles(cdpDriver, pageSize, screenshot.toPath());
+            return CompletableFuture.completedFuture(screenshot);
+        } catch (final IOException e) {
+            deletePartialScreenshot(screenshot);
+            return CompletableFuture.failedFuture(e);
+        } catch (final WebDriverException e) {
+            deletePartialScreenshot(screenshot);
+            throw e;
+        }
+    }
+
+    private static void deletePartialScreenshot(final File screenshot) {
+        try {
+            Files.deleteIfExists(screenshot.toPath());
+        } catch (final IOException e) {
+            LOGGER.debug("Unable to delete partial screenshot: {}", screenshot, e);
+        }
+    }
+
     private static BufferedImage takeScreenshotOfEntirePage(final RemoteWebDriver driver, final boolean scrollDuringScreenshot) {
         return new AShot()
             .shootingStrategy(shootingStrategy(scrollDuringScreenshot))
@@ -0,0 +1,76 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.util;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import net.zodac.tracker.framework.context.TrackerContext;
+
+/**
+ * Records the time spent in unconditional sleeps (see {@link BrowserInteractionHelper#explicitWait(Duration, String)}) for each tracker, so that
+ * the total can be reported at the end of the execution. Since these sleeps always take their full {@link Duration}, a tracker with a growing total
+ * is a candidate for a condition-based wait instead.
+ *
+ * <p>
+ * Sleeps are attributed to the tracker bound in the {@link TrackerContext}, or to {@value #UNATTRIBUTED} if outside a tracker execution (such as
+ * configuring browser extensions).
+ */
+public final class SleepAudit {
+
+    /**
+     * The name used for sleeps that do not occur during a tracker's execution.
+     */
+    public static final String UNATTRIBUTED = "Browser set-up";
+
+    private static final Map<String, LongAdder> SLEEP_NANOS_BY_TRACKER = new ConcurrentHashMap<>();
+
+    private SleepAudit() {
+
+    }
+
+    /**
+     * Adds the {@code sleepTime} to the total for the tracker currently being executed.
+     *
+     * @param sleepTime the {@link Duration} slept
+     */
+    static void record(final Duration sleepTime) {
+        final String trackerName = TrackerContext.trackerName().orElse(UNATTRIBUTED);
+        SLEEP_NANOS_BY_TRACKER
+            .computeIfAbsent(trackerName, _ -> new LongAdder())
+            .add(sleepTime.toNanos());
+    }
+
+    /**
+     * Retrieves the total time spent in unconditional sleeps for each tracker, ordered from the longest total to the shortest.
+     *
+     * @return the total sleep {@link Duration} for each tracker that slept
+     */
+    public static Map<String, Duration> totals() {
+        final Map<String, Duration> totals = new LinkedHashMap<>();
+        SLEEP_NANOS_BY_TRACKER.entrySet()
+            .stream()
+            .map(entry -> Map.entry(entry.getKey(), Duration.ofNanos(entry.getValue().sum())))
+            .sorted(Map.Entry.<String, Duration>comparingByValue(Comparator.reverseOrder()).thenComparing(Map.Entry.comparingByKey()))
+            .forEach(entry -> totals.put(entry.getKey(), entry.getValue()));
+        return totals;
+    }
+}
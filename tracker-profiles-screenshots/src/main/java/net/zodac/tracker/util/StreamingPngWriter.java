@@ -0,0 +1,234 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.util;
+
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Encodes a PNG one row at a time, writing the compressed image data to the {@link OutputStream} as it is produced. Only the current and previous
+ * rows are held in memory, so the memory used is bounded by the width of the image rather than its height.
+ *
+ * <p>
+ * Screenshots are opaque, so the image is written as 8-bit RGB and the alpha of each pixel is ignored. Each row is filtered with whichever of the
+ * five PNG filter types gives the smallest sum of absolute differences, the same heuristic used by most PNG encoders.
+ */
+final class StreamingPngWriter implements Closeable {
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final int IHDR_LENGTH = 13;
+    private static final int BIT_DEPTH = 8;
+    private static final int COLOUR_TYPE_RGB = 2;
+    private static final int BYTES_PER_PIXEL = 3;
+    private static final int IDAT_CHUNK_SIZE = 64 * 1024;
+
+    private static final int FILTER_NONE = 0;
+    private static final int FILTER_SUB = 1;
+    private static final int FILTER_UP = 2;
+    private static final int FILTER_AVERAGE = 3;
+    private static final int FILTER_PAETH = 4;
+    private static final int NUMBER_OF_FILTERS = 5;
+
+    private final DataOutputStream output;
+    private final int width;
+    private final int height;
+    private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+    private final CRC32 crc = new CRC32();
+    private final byte[] compressed = new byte[IDAT_CHUNK_SIZE];
+    private final byte[][] filteredRows;
+    private byte[] previousRow;
+    private byte[] currentRow;
+    private int compressedLength;
+    private int rowsWritten;
+    private boolean closed;
+
+    /**
+     * Constructor for {@link StreamingPngWriter}, which immediately writes the PNG signature and header. The {@link OutputStream} is closed when the
+     * {@link StreamingPngWriter} is closed.
+     *
+     * @param output the {@link OutputStream} to write the PNG to
+     * @param width  the width of the image, in pixels
+     * @param height the height of the image, in pixels
+     * @throws IOException thrown if the header could not be written
+     */
+    StreamingPngWriter(final OutputStream output, final int width, final int height) throws IOException {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Invalid PNG dimensions: %dx%d".formatted(width, height));
+        }
+
+        this.output = new DataOutputStream(output);
+        this.width = width;
+        this.height = height;
+
+        final int rowLength = width * BYTES_PER_PIXEL;
+        previousRow = new byte[rowLength];
+        currentRow = new byte[rowLength];
+        filteredRows = new byte[NUMBER_OF_FILTERS][rowLength + 1];
+        for (int filterType = 0; filterType < NUMBER_OF_FILTERS; filterType++) {
+            filteredRows[filterType][0] = (byte) filterType;
+        }
+
+        this.output.write(PNG_SIGNATURE);
+        final ByteBuffer header = ByteBuffer.allocate(IHDR_LENGTH)
+            .putInt(width)
+            .putInt(height)
+            .put((byte) BIT_DEPTH)
+            .put((byte) COLOUR_TYPE_RGB)
+            .put((byte) 0) // Compression method: deflate
+            .put((byte) 0) // Filter method: adaptive
+            .put((byte) 0); // Interlace method: none
+        writeChunk("IHDR", header.array(), IHDR_LENGTH);
+    }
+
+    /**
+     * Encodes the next row of the image.
+     *
+     * @param argb   the ARGB pixels, one {@code int} per pixel
+     * @param offset the index of the first pixel of the row in {@code argb}
+     * @throws IOException           thrown if the compressed row could not be written
+     * @throws IllegalStateException thrown if every row of the image has already been written
+     */
+    void writeRow(final int[] argb, final int offset) throws IOException {
+        if (rowsWritten == height) {
+            throw new IllegalStateException("All %d rows of the PNG have already been written".formatted(height));
+        }
+
+        for (int x = 0; x < width; x++) {
+            final int pixel = argb[offset + x];
+            currentRow[x * BYTES_PER_PIXEL] = (byte) (pixel >>> 16);
+            currentRow[x * BYTES_PER_PIXEL + 1] = (byte) (pixel >>> 8);
+            currentRow[x * BYTES_PER_PIXEL + 2] = (byte) pixel;
+        }
+
+        deflater.setInput(filterRow());
+        while (!deflater.needsInput()) {
+            deflate(Deflater.NO_FLUSH);
+        }
+
+        final byte[] swap = previousRow;
+        previousRow = currentRow;
+        currentRow = swap;
+        rowsWritten++;
+    }
+
+    /**
+     * Finishes the compressed image data and writes the end of the PNG, then closes the {@link OutputStream}.
+     *
+     * @throws IOException           thrown if the PNG could not be finished
+     * @throws IllegalStateException thrown if fewer rows were written than the height of the image
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        try (output) {
+            if (rowsWritten != height) {
+                throw new IllegalStateException("Only %d of %d rows of the PNG were written".formatted(rowsWritten, height));
+            }
+
+            deflater.finish();
+            while (!deflater.finished()) {
+                deflate(Deflater.NO_FLUSH);
+            }
+            writeCompressedData();
+            writeChunk("IEND", new byte[0], 0);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private byte[] filterRow() {
+        final int rowLength = currentRow.length;
+        long smallestSum = Long.MAX_VALUE;
+        int bestFilter = FILTER_NONE;
+
+        for (int filterType = 0; filterType < NUMBER_OF_FILTERS; filterType++) {
+            final byte[] filtered = filteredRows[filterType];
+            long sum = 0L;
+            for (int i = 0; i < rowLength; i++) {
+                final int raw = currentRow[i] & 0xFF;
+                final int left = i < BYTES_PER_PIXEL ? 0 : currentRow[i - BYTES_PER_PIXEL] & 0xFF;
+                final int up = rowsWritten == 0 ? 0 : previousRow[i] & 0xFF;
+                final int upperLeft = rowsWritten == 0 || i < BYTES_PER_PIXEL ? 0 : previousRow[i - BYTES_PER_PIXEL] & 0xFF;
+
+                final byte value = (byte) switch (filterType) {
+                    case FILTER_SUB -> raw - left;
+                    case FILTER_UP -> raw - up;
+                    case FILTER_AVERAGE -> raw - ((left + up) >>> 1);
+                    case FILTER_PAETH -> raw - paethPredictor(left, up, upperLeft);
+                    default -> raw;
+                };
+                filtered[i + 1] = value;
+                sum += Math.abs(value);
+            }
+
+            if (sum < smallestSum) {
+                smallestSum = sum;
+                bestFilter = filterType;
+            }
+        }
+        return filteredRows[bestFilter];
+    }
+
+    private static int paethPredictor(final int left, final int up, final int upperLeft) {
+        final int estimate = left + up - upperLeft;
+        final int distanceToLeft = Math.abs(estimate - left);
+        final int distanceToUp = Math.abs(estimate - up);
+        final int distanceToUpperLeft = Math.abs(estimate - upperLeft);
+        if (distanceToLeft <= distanceToUp && distanceToLeft <= distanceToUpperLeft) {
+            return left;
+        }
+        return distanceToUp <= distanceToUpperLeft ? up : upperLeft;
+    }
+
+    // Fills the compressed buffer from the Deflater, only writing an IDAT chunk once the buffer is full
+    private void deflate(final int flushMode) throws IOException {
+        compressedLength += deflater.deflate(compressed, compressedLength, compressed.length - compressedLength, flushMode);
+        if (compressedLength == compressed.length) {
+            writeCompressedData();
+        }
+    }
+
+    private void writeCompressedData() throws IOException {
+        if (compressedLength > 0) {
+            writeChunk("IDAT", compressed, compressedLength);
+            compressedLength = 0;
+        }
+    }
+
+    private void writeChunk(final String type, final byte[] data, final int length) throws IOException {
+        final byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        crc.reset();
+        crc.update(typeBytes);
+        crc.update(data, 0, length);
+
+        output.writeInt(length);
+        output.write(typeBytes);
+        output.write(data, 0, length);
+        output.writeInt((int) crc.getValue());
+    }
+}
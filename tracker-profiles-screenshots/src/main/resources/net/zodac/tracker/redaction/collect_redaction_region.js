@@ -0,0 +1,20 @@
+if (!window.__collectRedactionRegion) {
+    window.__collectedRedactionRegions = []
+    window.__collectRedactionRegion = function (bounding_rectangle, scroll_left, scroll_top, bufferLeft, bufferUp, bufferRight, bufferDown, bgColor, textColor, label, computed_style) {
+        window.__collectedRedactionRegions.push({
+            x: bounding_rectangle.left + scroll_left,
+            y: bounding_rectangle.top + scroll_top,
+            width: bounding_rectangle.width,
+            height: bounding_rectangle.height,
+            bufferLeft: bufferLeft,
+            bufferUp: bufferUp,
+            bufferRight: bufferRight,
+            bufferDown: bufferDown,
+            backgroundColour: bgColor,
+            textColour: textColor,
+            label: label,
+            fontSize: parseFloat(computed_style.fontSize) || 16,
+            fontFamily: computed_style.fontFamily
+        })
+    }
+}
@@ -10,6 +10,10 @@ if (!window.__redactElement) {
             const scroll_top = window.pageYOffset || document.documentElement.scrollTop
             const scroll_left = window.pageXOffset || document.documentElement.scrollLeft
             const computed_style = window.getComputedStyle(element)
+            if (redactionType === 'collect') {
+                window.__collectRedactionRegion(bounding_rectangle, scroll_left, scroll_top, bufferLeft, bufferUp, bufferRight, bufferDown, bgColor, textColor, label, computed_style)
+                return
+            }
 
             const overlay = document.createElement('div')
             overlay.setAttribute('data-redact-overlay', '')
@@ -66,6 +66,10 @@ if (!window.__redactIpAddress) {
         const overlay_ids = []
 
         function apply_box(bounding_rectangle) {
+            if (redactionType === 'collect') {
+                window.__collectRedactionRegion(bounding_rectangle, scroll_left, scroll_top, bufferLeft, bufferUp, bufferRight, bufferDown, bgColor, textColor, label, computed_style)
+                return
+            }
             const overlay = document.createElement('div')
             overlay.setAttribute('data-redact-overlay', '')
             overlay.style.position = 'absolute'
@@ -52,6 +52,10 @@ if (!window.__redactPasskey) {
         const overlay_ids = []
 
         function apply_box(bounding_rectangle, show_label) {
+            if (redactionType === 'collect') {
+                window.__collectRedactionRegion(bounding_rectangle, scroll_left, scroll_top, bufferLeft, bufferUp, bufferRight, bufferDown, bgColor, 'white', show_label ? label : '', computed_style)
+                return
+            }
             const overlay = document.createElement('div')
             overlay.setAttribute('data-redact-overlay', '')
             overlay.style.position = 'absolute'
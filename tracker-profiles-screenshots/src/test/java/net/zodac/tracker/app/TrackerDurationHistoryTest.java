@@ -0,0 +1,108 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.app;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link TrackerDurationHistory}.
+ */
+class TrackerDurationHistoryTest {
+
+    private static final String GAZELLE = "GazelleHandler";
+    private static final String UNIT3D = "Unit3dHandler";
+
+    @TempDir
+    private Path tempDirectory;
+
+    @Test
+    void givenNoHistoryFile_whenExpectedDurationMillis_thenZeroReturned() {
+        final TrackerDurationHistory history = TrackerDurationHistory.load(tempDirectory.resolve("missing.csv"));
+        assertThat(history.expectedDurationMillis("Tracker", GAZELLE))
+            .isZero();
+    }
+
+    @Test
+    void givenRecordedDurations_whenSavedAndLoaded_thenDurationsRetained() {
+        final Path historyFile = tempDirectory.resolve("nested").resolve("history.csv");
+        final TrackerDurationHistory history = TrackerDurationHistory.load(historyFile);
+        history.record("TrackerA", GAZELLE, Duration.ofSeconds(10));
+        history.record("TrackerB", UNIT3D, Duration.ofSeconds(20));
+        history.save();
+
+        final TrackerDurationHistory reloaded = TrackerDurationHistory.load(historyFile);
+        assertThat(reloaded.expectedDurationMillis("TrackerA", GAZELLE))
+            .isEqualTo(10_000L);
+        assertThat(reloaded.expectedDurationMillis("trackerb", UNIT3D))
+            .isEqualTo(20_000L);
+    }
+
+    @Test
+    void givenExistingDuration_whenRecorded_thenDurationIsSmoothed() {
+        final TrackerDurationHistory history = TrackerDurationHistory.load(tempDirectory.resolve("history.csv"));
+        history.record("TrackerA", GAZELLE, Duration.ofSeconds(10));
+        history.record("TrackerA", GAZELLE, Duration.ofSeconds(30));
+
+        assertThat(history.expectedDurationMillis("TrackerA", GAZELLE))
+            .isEqualTo(20_000L);
+    }
+
+    @Test
+    void givenUnknownTracker_whenExpectedDurationMillis_thenMedianOfPlatformReturned() {
+        final TrackerDurationHistory history = TrackerDurationHistory.load(tempDirectory.resolve("history.csv"));
+        history.record("GazelleA", GAZELLE, Duration.ofSeconds(10));
+        history.record("GazelleB", GAZELLE, Duration.ofSeconds(30));
+        history.record("GazelleC", GAZELLE, Duration.ofSeconds(40));
+        history.record("Unit3dA", UNIT3D, Duration.ofSeconds(100));
+
+        assertThat(history.expectedDurationMillis("GazelleNew", GAZELLE))
+            .isEqualTo(30_000L);
+    }
+
+    @Test
+    void givenUnknownTrackerOnUnknownPlatform_whenExpectedDurationMillis_thenMedianOfAllTrackersReturned() {
+        final TrackerDurationHistory history = TrackerDurationHistory.load(tempDirectory.resolve("history.csv"));
+        history.record("GazelleA", GAZELLE, Duration.ofSeconds(10));
+        history.record("Unit3dA", UNIT3D, Duration.ofSeconds(30));
+
+        assertThat(history.expectedDurationMillis("Other", "OtherHandler"))
+            .isEqualTo(20_000L);
+    }
+
+    @Test
+    void givenHistory_whenOrderLongestFirst_thenLongestTrackersFirstAndTiesKeepOriginalOrder() {
+        final TrackerDurationHistory history = TrackerDurationHistory.load(tempDirectory.resolve("history.csv"));
+        history.record("Fast", GAZELLE, Duration.ofSeconds(5));
+        history.record("Slow", UNIT3D, Duration.ofSeconds(120));
+        history.record("Medium", GAZELLE, Duration.ofSeconds(60));
+        history.record("AlsoMedium", GAZELLE, Duration.ofSeconds(60));
+
+        final List<String> ordered = history.orderLongestFirst(List.of("AlsoMedium", "Fast", "Medium", "Slow"), Function.identity(),
+            name -> "Slow".equals(name) ? UNIT3D : GAZELLE);
+
+        assertThat(ordered)
+            .containsExactly("Slow", "AlsoMedium", "Medium", "Fast");
+    }
+}
@@ -23,6 +23,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import net.zodac.tracker.framework.annotation.TrackerHandler;
+import net.zodac.tracker.handler.AbTorrents;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -49,6 +50,17 @@ class TrackerHandlerFactoryTest {
         assertThat(TrackerHandlerFactory.findMatchingHandler("abtorrents")).isPresent();
     }
 
+    @Test
+    void givenKnownTrackerName_whenFindMatchingHandlerClass_thenMatchingClassReturned() {
+        assertThat(TrackerHandlerFactory.findMatchingHandlerClass("abtorrents"))
+            .contains(AbTorrents.class);
+    }
+
+    @Test
+    void givenUnknownTrackerName_whenFindMatchingHandlerClass_thenEmptyOptionalReturned() {
+        assertThat(TrackerHandlerFactory.findMatchingHandlerClass("NotATracker")).isEmpty();
+    }
+
     @Test
     void givenUnknownTrackerName_whenGetHandler_thenNoSuchElementExceptionThrown() {
         assertThatThrownBy(() -> TrackerHandlerFactory.getHandler("NotATracker"))
@@ -0,0 +1,195 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.network;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import net.zodac.tracker.framework.TrackerDefinition;
+import net.zodac.tracker.framework.TrackerType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TrackerReachabilityProbe}.
+ */
+class TrackerReachabilityProbeTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(2);
+    private static final Duration SLOW_RESPONSE = Duration.ofMillis(500);
+
+    private HttpServer httpServer;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        httpServer.createContext("/ok", exchange -> {
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        httpServer.createContext("/forbidden", exchange -> {
+            exchange.sendResponseHeaders(403, -1);
+            exchange.close();
+        });
+        httpServer.createContext("/error", exchange -> {
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+        });
+        httpServer.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(SLOW_RESPONSE);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        httpServer.createContext("/hang", exchange -> {
+            try {
+                Thread.sleep(TIMEOUT.multipliedBy(2));
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.close();
+        });
+        httpServer.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        httpServer.start();
+        baseUrl = "http://%s:%d".formatted(httpServer.getAddress().getHostString(), httpServer.getAddress().getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        httpServer.stop(0);
+    }
+
+    @Test
+    void givenRespondingUrl_whenProbed_thenReachable() {
+        final Map<String, List<UrlProbeResult>> results = probe(baseUrl + "/ok");
+
+        assertThat(results.get("Tracker"))
+            .singleElement()
+            .extracting(UrlProbeResult::reachable)
+            .isEqualTo(true);
+    }
+
+    @Test
+    void givenErrorStatusCode_whenProbed_thenReachable() {
+        final Map<String, List<UrlProbeResult>> results = probe(baseUrl + "/forbidden");
+
+        assertThat(results.get("Tracker"))
+            .singleElement()
+            .extracting(UrlProbeResult::reachable)
+            .isEqualTo(true);
+    }
+
+    @Test
+    void givenClosedPort_whenProbed_thenUnreachable() throws IOException {
+        final Map<String, List<UrlProbeResult>> results = probe(closedPortUrl());
+
+        assertThat(results.get("Tracker"))
+            .singleElement()
+            .extracting(UrlProbeResult::reachable)
+            .isEqualTo(false);
+    }
+
+    @Test
+    void givenNoResponseWithinTimeout_whenProbed_thenUnreachable() {
+        final Map<String, List<UrlProbeResult>> results = probe(baseUrl + "/hang");
+
+        assertThat(results.get("Tracker"))
+            .singleElement()
+            .extracting(UrlProbeResult::reachable)
+            .isEqualTo(false);
+    }
+
+    @Test
+    void givenMultipleUrls_whenProbed_thenReachableUrlsRankedFastestFirst() throws IOException {
+        final String unreachableUrl = closedPortUrl();
+        final Map<String, List<UrlProbeResult>> results = probe(unreachableUrl, baseUrl + "/slow", baseUrl + "/ok");
+
+        assertThat(results.get("Tracker"))
+            .extracting(UrlProbeResult::url)
+            .containsExactly(baseUrl + "/ok", baseUrl + "/slow", unreachableUrl);
+    }
+
+    @Test
+    void givenMultipleTrackers_whenProbed_thenResultsReturnedForEachTracker() {
+        final TrackerDefinition first = new TrackerDefinition("First", TrackerType.HEADLESS, List.of(baseUrl + "/ok"));
+        final TrackerDefinition second = new TrackerDefinition("Second", TrackerType.MANUAL, List.of(baseUrl + "/forbidden"));
+
+        final Map<String, List<UrlProbeResult>> results = new TrackerReachabilityProbe(TIMEOUT).probe(List.of(first, second));
+
+        assertThat(results)
+            .containsOnlyKeys("First", "Second");
+    }
+
+    @Test
+    void givenMultipleHealthyUrls_whenRaced_thenFastestUrlReturned() {
+        final Optional<String> winner = new TrackerReachabilityProbe(TIMEOUT).race(List.of(baseUrl + "/slow", baseUrl + "/ok"));
+
+        assertThat(winner)
+            .contains(baseUrl + "/ok");
+    }
+
+    @Test
+    void givenFastServerError_whenRaced_thenSlowerHealthyUrlReturned() {
+        final Optional<String> winner = new TrackerReachabilityProbe(TIMEOUT).race(List.of(baseUrl + "/error", baseUrl + "/slow"));
+
+        assertThat(winner)
+            .contains(baseUrl + "/slow");
+    }
+
+    @Test
+    void givenNoHealthyUrls_whenRaced_thenEmptyReturned() throws IOException {
+        final Optional<String> winner = new TrackerReachabilityProbe(TIMEOUT).race(List.of(baseUrl + "/error", closedPortUrl()));
+
+        assertThat(winner)
+            .isEmpty();
+    }
+
+    @Test
+    void givenServerError_whenProbed_thenRankedAfterHealthyUrls() {
+        final Map<String, List<UrlProbeResult>> results = probe(baseUrl + "/error", baseUrl + "/slow");
+
+        assertThat(results.get("Tracker"))
+            .extracting(UrlProbeResult::url)
+            .containsExactly(baseUrl + "/slow", baseUrl + "/error");
+    }
+
+    private Map<String, List<UrlProbeResult>> probe(final String... urls) {
+        final TrackerDefinition trackerDefinition = new TrackerDefinition("Tracker", TrackerType.HEADLESS, List.of(urls));
+        return new TrackerReachabilityProbe(TIMEOUT).probe(List.of(trackerDefinition));
+    }
+
+    private static String closedPortUrl() throws IOException {
+        try (final ServerSocket serverSocket = new ServerSocket(0, 0, InetAddress.getLoopbackAddress())) {
+            return "http://%s:%d/".formatted(serverSocket.getInetAddress().getHostAddress(), serverSocket.getLocalPort());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.network;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.List;
+import net.zodac.tracker.framework.TrackerDefinition;
+import net.zodac.tracker.framework.TrackerType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link TrackerUrlRanking}.
+ */
+class TrackerUrlRankingTest {
+
+    private static final String FIRST_URL = "https://first.example.com/";
+    private static final String SECOND_URL = "https://second.example.com/";
+    private static final String THIRD_URL = "https://third.example.com/";
+
+    @TempDir
+    private Path tempDirectory;
+
+    @BeforeEach
+    void setUp() {
+        TrackerUrlRanking.load(tempDirectory.resolve("missing.csv"));
+    }
+
+    @Test
+    void givenNoRanking_whenApplied_thenDeclaredOrderKept() {
+        final TrackerDefinition trackerDefinition = definition("UnrankedTracker");
+
+        assertThat(TrackerUrlRanking.apply(trackerDefinition).urls())
+            .containsExactly(FIRST_URL, SECOND_URL, THIRD_URL);
+    }
+
+    @Test
+    void givenRankedUrls_whenApplied_thenRankedOrderUsed() {
+        TrackerUrlRanking.update("RankedTracker", List.of(THIRD_URL, FIRST_URL, SECOND_URL));
+
+        assertThat(TrackerUrlRanking.apply(definition("RankedTracker")).urls())
+            .containsExactly(THIRD_URL, FIRST_URL, SECOND_URL);
+    }
+
+    @Test
+    void givenPartialRanking_whenApplied_thenUnrankedUrlsKeepDeclaredOrderAfterRankedUrls() {
+        TrackerUrlRanking.update("PartialTracker", List.of(SECOND_URL, "https://unknown.example.com/"));
+
+        assertThat(TrackerUrlRanking.apply(definition("PartialTracker")).urls())
+            .containsExactly(SECOND_URL, FIRST_URL, THIRD_URL);
+    }
+
+    @Test
+    void givenPreferredUrl_whenSavedAndLoaded_thenPreferredUrlOpenedFirst() {
+        final Path preferredUrlsFile = tempDirectory.resolve("nested").resolve("urls.csv");
+        TrackerUrlRanking.recordPreferredUrl("PreferredTracker", THIRD_URL);
+        TrackerUrlRanking.save(preferredUrlsFile);
+
+        TrackerUrlRanking.load(tempDirectory.resolve("missing.csv"));
+        assertThat(TrackerUrlRanking.apply(definition("PreferredTracker")).urls())
+            .containsExactly(FIRST_URL, SECOND_URL, THIRD_URL);
+
+        TrackerUrlRanking.load(preferredUrlsFile);
+        assertThat(TrackerUrlRanking.apply(definition("preferredtracker")).urls())
+            .containsExactly(THIRD_URL, FIRST_URL, SECOND_URL);
+    }
+
+    private static TrackerDefinition definition(final String trackerName) {
+        return new TrackerDefinition(trackerName, TrackerType.HEADLESS, List.of(FIRST_URL, SECOND_URL, THIRD_URL));
+    }
+}
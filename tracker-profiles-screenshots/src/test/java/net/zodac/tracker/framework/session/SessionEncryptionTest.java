@@ -0,0 +1,71 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.framework.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link SessionEncryption}.
+ */
+class SessionEncryptionTest {
+
+    private static final String PASSPHRASE = "correct horse battery staple";
+    private static final byte[] PLAINTEXT = "session=abc123; uid=42".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void givenEncryptedData_whenDecryptedWithSamePassphrase_thenOriginalDataReturned() throws GeneralSecurityException {
+        final byte[] encrypted = SessionEncryption.encrypt(PLAINTEXT, PASSPHRASE);
+
+        assertThat(SessionEncryption.decrypt(encrypted, PASSPHRASE))
+            .isEqualTo(PLAINTEXT);
+    }
+
+    @Test
+    void givenSameData_whenEncryptedTwice_thenOutputDiffers() throws GeneralSecurityException {
+        assertThat(SessionEncryption.encrypt(PLAINTEXT, PASSPHRASE))
+            .isNotEqualTo(SessionEncryption.encrypt(PLAINTEXT, PASSPHRASE));
+    }
+
+    @Test
+    void givenEncryptedData_whenDecryptedWithWrongPassphrase_thenExceptionThrown() throws GeneralSecurityException {
+        final byte[] encrypted = SessionEncryption.encrypt(PLAINTEXT, PASSPHRASE);
+
+        assertThatThrownBy(() -> SessionEncryption.decrypt(encrypted, "wrong passphrase"))
+            .isInstanceOf(GeneralSecurityException.class);
+    }
+
+    @Test
+    void givenModifiedData_whenDecrypted_thenExceptionThrown() throws GeneralSecurityException {
+        final byte[] encrypted = SessionEncryption.encrypt(PLAINTEXT, PASSPHRASE);
+        encrypted[encrypted.length - 1] ^= 1;
+
+        assertThatThrownBy(() -> SessionEncryption.decrypt(encrypted, PASSPHRASE))
+            .isInstanceOf(GeneralSecurityException.class);
+    }
+
+    @Test
+    void givenTruncatedData_whenDecrypted_thenExceptionThrown() {
+        assertThatThrownBy(() -> SessionEncryption.decrypt(new byte[] {1, 2, 3}, PASSPHRASE))
+            .isInstanceOf(GeneralSecurityException.class);
+    }
+}
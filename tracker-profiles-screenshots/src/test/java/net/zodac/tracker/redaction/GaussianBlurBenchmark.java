@@ -0,0 +1,90 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.redaction;
+
+import java.awt.Rectangle;
+import java.util.Random;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Benchmark comparing the reference {@link GaussianBlur} with the {@link TiledGaussianBlur} using each {@link RowConvolver}, for a blur covering a
+ * typical redacted line of text and a blur covering a large part of a profile page. Not run as part of the unit tests; run manually with:
+ *
+ * <pre>{@code
+ * java --add-modules=jdk.incubator.vector -cp <test-classpath> net.zodac.tracker.redaction.GaussianBlurBenchmark
+ * }</pre>
+ */
+public final class GaussianBlurBenchmark {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    private static final int IMAGE_WIDTH = 1680;
+    private static final int IMAGE_HEIGHT = 2000;
+    private static final double SIGMA = 8.0D; // 0.5em of a 16px font
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASURED_ITERATIONS = 50;
+
+    private GaussianBlurBenchmark() {
+
+    }
+
+    /**
+     * Runs the benchmark, logging the average time per blur for each implementation.
+     */
+    static void main() {
+        final int[] pixels = new int[IMAGE_WIDTH * IMAGE_HEIGHT];
+        final Random random = new Random(0L);
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = random.nextInt();
+        }
+
+        for (final Rectangle region : new Rectangle[] {new Rectangle(200, 300, 400, 24), new Rectangle(0, 0, IMAGE_WIDTH, 1200)}) {
+            LOGGER.info("Region {}x{}:", region.width, region.height);
+            benchmark("Reference", pixels, () -> GaussianBlur.blur(pixels.clone(), IMAGE_WIDTH, region, SIGMA));
+            benchmark("Tiled (scalar)", pixels,
+                () -> TiledGaussianBlur.blur(pixels.clone(), IMAGE_WIDTH, region, SIGMA, new ScalarRowConvolver()));
+            if (TiledGaussianBlur.isVectorApiAvailable()) {
+                benchmark("Tiled (vector)", pixels,
+                    () -> TiledGaussianBlur.blur(pixels.clone(), IMAGE_WIDTH, region, SIGMA, new VectorRowConvolver()));
+            } else {
+                LOGGER.info("\t- Tiled (vector): skipped, run with --add-modules=jdk.incubator.vector");
+            }
+        }
+    }
+
+    private static void benchmark(final String name, final int[] pixels, final Runnable blur) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            blur.run();
+        }
+
+        // The clone of the source pixels is included in every implementation, so is subtracted as a baseline
+        final long cloneStart = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            pixels.clone();
+        }
+        final long cloneNanos = System.nanoTime() - cloneStart;
+
+        final long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            blur.run();
+        }
+        final long averageNanos = Math.max(0L, System.nanoTime() - start - cloneNanos) / MEASURED_ITERATIONS;
+        LOGGER.info("\t- {}: {} ms", name, "%.3f".formatted(averageNanos / 1_000_000.0D));
+    }
+}
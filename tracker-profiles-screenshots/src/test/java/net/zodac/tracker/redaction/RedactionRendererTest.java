@@ -0,0 +1,123 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.redaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.image.BufferedImage;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link RedactionRenderer}.
+ */
+class RedactionRendererTest {
+
+    private static final int IMAGE_SIZE = 40;
+    private static final int BACKGROUND = 0xFFFFFFFF;
+    private static final RedactionRegion REGION = new RedactionRegion(10.0D, 10.0D, 10.0D, 10.0D, RedactionBuffer.of(2, 2, 2, 2), "red", "white",
+        "", 16.0D, "Arial");
+
+    @Test
+    void givenNoneRedactionType_whenRender_thenOriginalScreenshotReturned() {
+        final BufferedImage screenshot = screenshot();
+
+        assertThat(RedactionRenderer.render(screenshot, IMAGE_SIZE, List.of(REGION), RedactionType.NONE))
+            .isSameAs(screenshot);
+    }
+
+    @Test
+    void givenBoxRedactionType_whenRender_thenBoxFilledIncludingBuffer() {
+        final BufferedImage redacted = RedactionRenderer.render(screenshot(), IMAGE_SIZE, List.of(REGION), RedactionType.BOX);
+
+        assertThat(redacted.getRGB(8, 8))
+            .isEqualTo(0xFFFF0000);
+        assertThat(redacted.getRGB(21, 21))
+            .isEqualTo(0xFFFF0000);
+        assertThat(redacted.getRGB(7, 7))
+            .isEqualTo(BACKGROUND);
+    }
+
+    @Test
+    void givenBlurRedactionType_whenRender_thenOnlyContentBoundsChanged() {
+        final BufferedImage screenshot = screenshot();
+        screenshot.setRGB(15, 15, 0xFF000000);
+
+        final BufferedImage redacted = RedactionRenderer.render(screenshot, IMAGE_SIZE, List.of(REGION), RedactionType.BLUR);
+
+        assertThat(redacted.getRGB(15, 15))
+            .isNotEqualTo(0xFF000000);
+        assertThat(redacted.getRGB(9, 15))
+            .isEqualTo(BACKGROUND);
+        assertThat(redacted.getRGB(20, 15))
+            .isEqualTo(BACKGROUND);
+    }
+
+    @Test
+    void givenDevicePixelRatioOfTwo_whenRender_thenBoxScaledToScreenshotPixels() {
+        final BufferedImage redacted = RedactionRenderer.render(screenshot(IMAGE_SIZE * 2), IMAGE_SIZE, List.of(REGION), RedactionType.BOX);
+
+        assertThat(redacted.getRGB(16, 16))
+            .isEqualTo(0xFFFF0000);
+        assertThat(redacted.getRGB(43, 43))
+            .isEqualTo(0xFFFF0000);
+        assertThat(redacted.getRGB(15, 15))
+            .isEqualTo(BACKGROUND);
+        assertThat(redacted.getRGB(44, 44))
+            .isEqualTo(BACKGROUND);
+    }
+
+    @Test
+    void givenDevicePixelRatioOfTwo_whenRender_thenBlurScaledToScreenshotPixels() {
+        final BufferedImage screenshot = screenshot(IMAGE_SIZE * 2);
+        screenshot.setRGB(38, 30, 0xFF000000);
+
+        final BufferedImage redacted = RedactionRenderer.render(screenshot, IMAGE_SIZE, List.of(REGION), RedactionType.BLUR);
+
+        assertThat(redacted.getRGB(38, 30))
+            .isNotEqualTo(0xFF000000);
+        assertThat(redacted.getRGB(19, 30))
+            .isEqualTo(BACKGROUND);
+        assertThat(redacted.getRGB(40, 30))
+            .isEqualTo(BACKGROUND);
+    }
+
+    @Test
+    void givenRedactionType_whenRender_thenScreenshotNotModified() {
+        final BufferedImage screenshot = screenshot();
+
+        RedactionRenderer.render(screenshot, IMAGE_SIZE, List.of(REGION), RedactionType.BOX);
+
+        assertThat(screenshot.getRGB(15, 15))
+            .isEqualTo(BACKGROUND);
+    }
+
+    private static BufferedImage screenshot() {
+        return screenshot(IMAGE_SIZE);
+    }
+
+    private static BufferedImage screenshot(final int size) {
+        final BufferedImage screenshot = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                screenshot.setRGB(x, y, BACKGROUND);
+            }
+        }
+        return screenshot;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.redaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.awt.Rectangle;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Unit tests for {@link TiledGaussianBlur}, verifying that every {@link RowConvolver} produces the same pixels as the reference {@link GaussianBlur}.
+ */
+class TiledGaussianBlurTest {
+
+    private static final int IMAGE_WIDTH = 400;
+    private static final int IMAGE_HEIGHT = 300;
+    private static final long RANDOM_SEED = 20_240_101L;
+
+    // Large enough to be split into parallel tiles
+    private static final Rectangle LARGE_REGION = new Rectangle(13, 7, 350, 280);
+    // Narrower than the kernel for larger sigmas, so every pixel is clamped
+    private static final Rectangle NARROW_REGION = new Rectangle(100, 50, 5, 40);
+    // Touches the edges of the image
+    private static final Rectangle CORNER_REGION = new Rectangle(IMAGE_WIDTH - 37, IMAGE_HEIGHT - 19, 37, 19);
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.5D, 1.5D, 8.0D, 24.0D})
+    void givenScalarConvolver_whenBlur_thenMatchesReference(final double sigma) {
+        assertMatchesReference(new ScalarRowConvolver(), sigma);
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.5D, 1.5D, 8.0D, 24.0D})
+    void givenVectorConvolver_whenBlur_thenMatchesReference(final double sigma) {
+        assumeTrue(TiledGaussianBlur.isVectorApiAvailable(), "Vector API module not added to the JVM");
+        assertMatchesReference(new VectorRowConvolver(), sigma);
+    }
+
+    @Test
+    void givenRegion_whenBlur_thenPixelsOutsideRegionUnchanged() {
+        final int[] original = randomPixels();
+        final int[] blurred = original.clone();
+
+        TiledGaussianBlur.blur(blurred, IMAGE_WIDTH, NARROW_REGION, 8.0D, new ScalarRowConvolver());
+
+        for (int y = 0; y < IMAGE_HEIGHT; y++) {
+            for (int x = 0; x < IMAGE_WIDTH; x++) {
+                if (!NARROW_REGION.contains(x, y)) {
+                    assertThat(blurred[y * IMAGE_WIDTH + x])
+                        .as("Pixel at (%d, %d)", x, y)
+                        .isEqualTo(original[y * IMAGE_WIDTH + x]);
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.5D, 1.5D, 8.0D, 24.0D})
+    void givenSigma_whenKernel_thenWeightsSumToOne(final double sigma) {
+        int total = 0;
+        for (final int weight : GaussianBlur.kernel(sigma)) {
+            total += weight;
+        }
+
+        assertThat(total)
+            .isEqualTo(1 << GaussianBlur.WEIGHT_BITS);
+    }
+
+    private static void assertMatchesReference(final RowConvolver convolver, final double sigma) {
+        for (final Rectangle region : new Rectangle[] {LARGE_REGION, NARROW_REGION, CORNER_REGION}) {
+            final int[] expected = randomPixels();
+            final int[] actual = expected.clone();
+
+            GaussianBlur.blur(expected, IMAGE_WIDTH, region, sigma);
+            TiledGaussianBlur.blur(actual, IMAGE_WIDTH, region, sigma, convolver);
+
+            assertThat(actual)
+                .as("Region %s with sigma %s", region, sigma)
+                .isEqualTo(expected);
+        }
+    }
+
+    private static int[] randomPixels() {
+        final Random random = new Random(RANDOM_SEED);
+        final int[] pixels = new int[IMAGE_WIDTH * IMAGE_HEIGHT];
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = random.nextInt();
+        }
+        return pixels;
+    }
+}
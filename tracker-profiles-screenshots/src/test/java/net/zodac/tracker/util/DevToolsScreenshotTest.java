@@ -0,0 +1,92 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openqa.selenium.chromium.HasCdp;
+
+/**
+ * Unit tests for {@link DevToolsScreenshot}.
+ */
+class DevToolsScreenshotTest {
+
+    private static final int PAGE_WIDTH = 40;
+    private static final int PAGE_HEIGHT = (int) DevToolsScreenshot.TILE_HEIGHT * 2 + 100;
+
+    @TempDir
+    private Path outputDirectory;
+
+    @Test
+    void givenPageTallerThanTile_whenCaptureInTiles_thenEachTileCapturedAndStitchedIntoPng() throws IOException {
+        final BufferedImage page = new BufferedImage(PAGE_WIDTH, PAGE_HEIGHT, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < PAGE_HEIGHT; y++) {
+            for (int x = 0; x < PAGE_WIDTH; x++) {
+                page.setRGB(x, y, (y * 31 + x * 7) & 0xFFFFFF);
+            }
+        }
+        final List<Long> capturedTileTops = new ArrayList<>();
+        final Path outputFile = outputDirectory.resolve("page.png");
+
+        DevToolsScreenshot.captureInTiles(fakeBrowser(page, capturedTileTops), new DevToolsScreenshot.PageSize(PAGE_WIDTH, PAGE_HEIGHT), outputFile);
+
+        assertThat(capturedTileTops)
+            .containsExactly(0L, DevToolsScreenshot.TILE_HEIGHT, DevToolsScreenshot.TILE_HEIGHT * 2);
+        final BufferedImage stitched = ImageIO.read(outputFile.toFile());
+        assertThat(stitched.getRGB(0, 0, PAGE_WIDTH, PAGE_HEIGHT, null, 0, PAGE_WIDTH))
+            .isEqualTo(page.getRGB(0, 0, PAGE_WIDTH, PAGE_HEIGHT, null, 0, PAGE_WIDTH));
+    }
+
+    @Test
+    void givenPageSize_whenRequiresTiles_thenOnlyTrueAboveMaximumSingleCaptureHeight() {
+        assertThat(new DevToolsScreenshot.PageSize(PAGE_WIDTH, DevToolsScreenshot.MAXIMUM_SINGLE_CAPTURE_HEIGHT).requiresTiles())
+            .isFalse();
+        assertThat(new DevToolsScreenshot.PageSize(PAGE_WIDTH, DevToolsScreenshot.MAXIMUM_SINGLE_CAPTURE_HEIGHT + 1L).requiresTiles())
+            .isTrue();
+    }
+
+    // Responds to 'Page.captureScreenshot' with the clipped area of the page, as a base64-encoded PNG
+    private static HasCdp fakeBrowser(final BufferedImage page, final List<Long> capturedTileTops) {
+        return (_, parameters) -> {
+            final Map<?, ?> clip = (Map<?, ?>) parameters.get("clip");
+            final int y = ((Number) clip.get("y")).intValue();
+            final int height = ((Number) clip.get("height")).intValue();
+            capturedTileTops.add((long) y);
+
+            try {
+                final ByteArrayOutputStream png = new ByteArrayOutputStream();
+                ImageIO.write(page.getSubimage(0, y, PAGE_WIDTH, height), "PNG", png);
+                return Map.of("data", Base64.getEncoder().encodeToString(png.toByteArray()));
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import net.zodac.tracker.framework.context.TrackerContext;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link SleepAudit}.
+ */
+class SleepAuditTest {
+
+    @Test
+    void givenSleepsWithinTrackerContext_whenTotals_thenSleepsSummedForTracker() {
+        TrackerContext.callForTracker("SleepAuditTracker", "", () -> {
+            SleepAudit.record(Duration.ofMillis(250L));
+            SleepAudit.record(Duration.ofMillis(750L));
+            return null;
+        });
+
+        assertThat(SleepAudit.totals())
+            .containsEntry("SleepAuditTracker", Duration.ofSeconds(1L));
+    }
+
+    @Test
+    void givenSleepOutsideTrackerContext_whenTotals_thenSleepUnattributed() {
+        SleepAudit.record(Duration.ofMillis(1L));
+
+        assertThat(SleepAudit.totals())
+            .containsKey(SleepAudit.UNATTRIBUTED);
+    }
+
+    @Test
+    void givenMultipleTrackers_whenTotals_thenOrderedByLongestTotal() {
+        TrackerContext.callForTracker("SleepAuditShortTracker", "", () -> {
+            SleepAudit.record(Duration.ofHours(1L));
+            return null;
+        });
+        TrackerContext.callForTracker("SleepAuditLongTracker", "", () -> {
+            SleepAudit.record(Duration.ofHours(2L));
+            return null;
+        });
+
+        assertThat(SleepAudit.totals().keySet())
+            .startsWith("SleepAuditLongTracker", "SleepAuditShortTracker");
+    }
+}
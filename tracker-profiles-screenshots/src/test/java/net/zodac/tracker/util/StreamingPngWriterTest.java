@@ -0,0 +1,120 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2024-2026 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.tracker.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link StreamingPngWriter}.
+ */
+class StreamingPngWriterTest {
+
+    private static final int WIDTH = 97;
+    private static final int HEIGHT = 61;
+    private static final int OPAQUE = 0xFF000000;
+
+    @Test
+    void givenNoisyRows_whenWritten_thenDecodedPngMatchesPixels() throws IOException {
+        final Random random = new Random(1L);
+        final int[] pixels = new int[WIDTH * HEIGHT];
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = random.nextInt();
+        }
+
+        assertThat(decode(encode(pixels)))
+            .isEqualTo(opaque(pixels));
+    }
+
+    @Test
+    void givenSmoothRows_whenWritten_thenDecodedPngMatchesPixels() throws IOException {
+        final int[] pixels = new int[WIDTH * HEIGHT];
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                pixels[y * WIDTH + x] = OPAQUE | (x * 2 << 16) | (y * 4 << 8) | ((x + y) & 0xFF);
+            }
+        }
+
+        assertThat(decode(encode(pixels)))
+            .isEqualTo(opaque(pixels));
+    }
+
+    @Test
+    void givenTooFewRows_whenClose_thenExceptionThrown() throws IOException {
+        final StreamingPngWriter writer = new StreamingPngWriter(new ByteArrayOutputStream(), WIDTH, HEIGHT);
+        writer.writeRow(new int[WIDTH], 0);
+
+        assertThatThrownBy(writer::close)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Only 1 of %d rows of the PNG were written", HEIGHT);
+    }
+
+    @Test
+    void givenAllRowsWritten_whenWriteRow_thenExceptionThrown() throws IOException {
+        try (final StreamingPngWriter writer = new StreamingPngWriter(new ByteArrayOutputStream(), WIDTH, 1)) {
+            writer.writeRow(new int[WIDTH], 0);
+
+            assertThatThrownBy(() -> writer.writeRow(new int[WIDTH], 0))
+                .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    void givenInvalidDimensions_whenCreated_thenExceptionThrown() {
+        assertThatThrownBy(() -> new StreamingPngWriter(new ByteArrayOutputStream(), 0, HEIGHT))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] encode(final int[] pixels) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (final StreamingPngWriter writer = new StreamingPngWriter(output, WIDTH, HEIGHT)) {
+            for (int y = 0; y < HEIGHT; y++) {
+                writer.writeRow(pixels, y * WIDTH);
+            }
+        }
+        return output.toByteArray();
+    }
+
+    private static int[] decode(final byte[] png) throws IOException {
+        final BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        assertThat(image)
+            .isNotNull();
+        assertThat(image.getWidth())
+            .isEqualTo(WIDTH);
+        assertThat(image.getHeight())
+            .isEqualTo(HEIGHT);
+        return image.getRGB(0, 0, WIDTH, HEIGHT, null, 0, WIDTH);
+    }
+
+    // The PNG is written as RGB, so the alpha of every decoded pixel is opaque
+    private static int[] opaque(final int[] pixels) {
+        final int[] opaque = new int[pixels.length];
+        for (int i = 0; i < pixels.length; i++) {
+            opaque[i] = OPAQUE | pixels[i];
+        }
+        return opaque;
+    }
+}